@@ -1,33 +1,29 @@
 package com.oscarhkli.mahjong.score;
 
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Stream;
 import org.springframework.stereotype.Component;
 
 @Component
 public class BonusWinningConditionCalculator {
 
-  public List<WinningHandType> calculateBonusWinningHands(
+  public WinningHand calculateBonusWinningHands(
       Melds windMelds,
       Melds dragonMelds,
       List<MahjongTileType> bonusTiles,
       WindType windSettings,
       ExposedMelds exposedMelds) {
-    var bonusWinningHands = new ArrayList<WinningHandType>();
+    var bonusWinningHands = WinningHand.builder();
     if (exposedMelds.isEmpty()) {
       bonusWinningHands.add(WinningHandType.WIN_FROM_WALL);
     }
-    bonusWinningHands.addAll(calculateWindTilesWinningConditions(windMelds, windSettings));
-    bonusWinningHands.addAll(calculateDragonTilesWinningConditions(dragonMelds));
-    bonusWinningHands.addAll(calculateBonusTilesWinningConditions(bonusTiles, windSettings));
-    return bonusWinningHands;
+    calculateWindTilesWinningConditions(bonusWinningHands, windMelds, windSettings);
+    calculateDragonTilesWinningConditions(bonusWinningHands, dragonMelds);
+    calculateBonusTilesWinningConditions(bonusWinningHands, bonusTiles, windSettings);
+    return bonusWinningHands.build();
   }
 
-  private List<WinningHandType> calculateWindTilesWinningConditions(
-      Melds windMelds, WindType windSettings) {
-    var bonusWinningHands = new ArrayList<WinningHandType>();
+  private void calculateWindTilesWinningConditions(
+      WinningHand.Builder bonusWinningHands, Melds windMelds, WindType windSettings) {
     if (windMelds.getPongs().contains(windSettings.prevailing())
         || windMelds.getKongs().contains(windSettings.prevailing())) {
       bonusWinningHands.add(WinningHandType.PREVAILING_WIND);
@@ -36,27 +32,22 @@ public class BonusWinningConditionCalculator {
         || windMelds.getKongs().contains(windSettings.seat())) {
       bonusWinningHands.add(WinningHandType.SEAT_WIND);
     }
-    return bonusWinningHands;
   }
 
-  private List<WinningHandType> calculateDragonTilesWinningConditions(Melds dragonMelds) {
-    var bonusWinningHands = new ArrayList<WinningHandType>();
+  private void calculateDragonTilesWinningConditions(
+      WinningHand.Builder bonusWinningHands, Melds dragonMelds) {
     for (var i = 0; i < dragonMelds.getPongKongSize(); i++) {
       bonusWinningHands.add(WinningHandType.ONE_DRAGON);
     }
-    return bonusWinningHands;
   }
 
-  private List<WinningHandType> calculateBonusTilesWinningConditions(
-      List<MahjongTileType> bonusTiles, WindType windSettings) {
-    var bonusWinningHands = new ArrayList<WinningHandType>();
-    var bonusTileSet = new HashSet<>(bonusTiles);
-    var hasAllFlowers =
-        Stream.of(MahjongTileType.F1, MahjongTileType.F2, MahjongTileType.F3, MahjongTileType.F4)
-            .allMatch(bonusTileSet::contains);
-    var hasAllSeasons =
-        Stream.of(MahjongTileType.S1, MahjongTileType.S2, MahjongTileType.S3, MahjongTileType.S4)
-            .allMatch(bonusTileSet::contains);
+  private void calculateBonusTilesWinningConditions(
+      WinningHand.Builder bonusWinningHands,
+      List<MahjongTileType> bonusTiles,
+      WindType windSettings) {
+    var bonusHand = HandVector.of(bonusTiles);
+    var hasAllFlowers = bonusHand.hasAllBonusTiles(MahjongSetType.FLOWER);
+    var hasAllSeasons = bonusHand.hasAllBonusTiles(MahjongSetType.SEASON);
     if (bonusTiles.size() == 8) {
       bonusWinningHands.add(WinningHandType.GREAT_FLOWERS);
     } else if (bonusTiles.size() == 7 && (hasAllFlowers || hasAllSeasons)) {
@@ -85,7 +76,6 @@ public class BonusWinningConditionCalculator {
         }
       }
     }
-    return bonusWinningHands;
   }
 
   private boolean isFlowerOfOwnWind(
@@ -0,0 +1,45 @@
+package com.oscarhkli.mahjong.score;
+
+import java.util.List;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+  public static final String WINNING_HANDS_CACHE = "winningHands";
+  public static final String HAND_STRUCTURES_CACHE = "handStructures";
+
+  /**
+   * Key the winning hand cache by {@link HandFingerprint} so that reordered requests hit the same
+   * entry. Only applies to {@link ScoreCalculator#calculate}, where hands scored without a rule set
+   * share the entries of {@link RuleSet#DEFAULT}.
+   */
+  @Bean
+  @SuppressWarnings("unchecked")
+  public KeyGenerator handFingerprintKeyGenerator() {
+    return (target, method, params) ->
+        HandFingerprint.of(
+            (List<MahjongTileType>) params[0],
+            (ExposedMelds) params[1],
+            (List<MahjongTileType>) params[2],
+            (WindType) params[3],
+            (WinningConditions) params[4],
+            params.length > 5 ? (RuleSet) params[5] : RuleSet.DEFAULT);
+  }
+
+  /**
+   * Key the hand structure cache by the tiles and exposed melds only, leaving the context fields of
+   * {@link HandFingerprint} empty. Only applies to {@link HandStructureCalculator#calculate}.
+   */
+  @Bean
+  @SuppressWarnings("unchecked")
+  public KeyGenerator handStructureKeyGenerator() {
+    return (target, method, params) ->
+        HandFingerprint.of(
+            (List<MahjongTileType>) params[0], (ExposedMelds) params[1], null, null, null);
+  }
+}
@@ -0,0 +1,98 @@
+package com.oscarhkli.mahjong.score;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/** Discard efficiency of a hand holding one tile more than a waiting hand. */
+@AllArgsConstructor
+@Service
+public class DiscardCalculator {
+
+  private static final int COPIES_PER_TILE = 4;
+  private static final int PLAYABLE_TILE_TYPES = TileRegistry.PLAYABLE_TILE_TYPES;
+
+  private final ShantenCalculator shantenCalculator;
+
+  /**
+   * Every distinct concealed tile is tried as the discard, and every playable tile as the next
+   * draw. The hand is only ever updated by a tile at a time, and each update is a shanten lookup.
+   * <br>
+   * Live copies of a tile are the 4 copies less those in the hand, the discard included, in the
+   * exposed melds and among the visible tiles.
+   *
+   * @param tiles concealed tiles
+   * @param exposedMelds exposed melds of the hand
+   * @param visibleTiles tiles seen elsewhere, e.g., discards and melds of other players
+   * @return discards by lowest shanten then most live improving tiles, then in tile order
+   */
+  public List<Discard> calculate(
+      List<MahjongTileType> tiles,
+      ExposedMelds exposedMelds,
+      List<MahjongTileType> visibleTiles) {
+    var mahjongTiles = HandVector.of(tiles);
+    var exposedMeldSize = exposedMelds.size();
+    var unseenTiles = new int[PLAYABLE_TILE_TYPES];
+    for (var index = 0; index < PLAYABLE_TILE_TYPES; index++) {
+      var tile = TileRegistry.tile(index);
+      unseenTiles[index] = COPIES_PER_TILE - mahjongTiles.count(tile) - exposedMelds.count(tile);
+    }
+    for (var tile : visibleTiles) {
+      if (tile.getIndex() < PLAYABLE_TILE_TYPES) {
+        unseenTiles[tile.getIndex()]--;
+      }
+    }
+
+    var discards = new ArrayList<Discard>();
+    for (var index = 0; index < PLAYABLE_TILE_TYPES; index++) {
+      var discardedTile = TileRegistry.tile(index);
+      if (!mahjongTiles.contains(discardedTile)) {
+        continue;
+      }
+      var remainingTiles = mahjongTiles.remove(discardedTile);
+      var shanten = shantenCalculator.calculate(remainingTiles, exposedMeldSize);
+      var improvingTiles = new ArrayList<ImprovingTile>();
+      for (var drawIndex = 0; drawIndex < PLAYABLE_TILE_TYPES; drawIndex++) {
+        var liveTiles = unseenTiles[drawIndex];
+        if (liveTiles <= 0) {
+          continue;
+        }
+        var drawnTile = TileRegistry.tile(drawIndex);
+        if (shantenCalculator.calculate(remainingTiles.add(drawnTile), exposedMeldSize)
+            < shanten) {
+          improvingTiles.add(new ImprovingTile(drawnTile, liveTiles));
+        }
+      }
+      discards.add(new Discard(discardedTile, shanten, List.copyOf(improvingTiles)));
+    }
+    discards.sort(
+        Comparator.comparingInt(Discard::shanten)
+            .thenComparing(Comparator.comparingInt(Discard::liveTiles).reversed()));
+    return discards;
+  }
+
+  /**
+   * @param tile tile to discard
+   * @param shanten shanten of the hand after the discard
+   * @param improvingTiles tiles lowering the shanten if drawn next, in tile order
+   */
+  public record Discard(MahjongTileType tile, int shanten, List<ImprovingTile> improvingTiles) {
+
+    /** Number of live copies of the improving tiles */
+    public int liveTiles() {
+      var liveTiles = 0;
+      for (var improvingTile : improvingTiles) {
+        liveTiles += improvingTile.liveTiles();
+      }
+      return liveTiles;
+    }
+  }
+
+  /**
+   * @param tile tile lowering the shanten
+   * @param liveTiles copies of the tile not yet seen
+   */
+  public record ImprovingTile(MahjongTileType tile, int liveTiles) {}
+}
@@ -45,6 +45,35 @@ public class ExposedMelds {
             .toList();
   }
 
+  /**
+   * @param tile tile to count
+   * @return copies of the tile in the exposed melds
+   */
+  public int count(MahjongTileType tile) {
+    var count = 0;
+    for (var chow : chows) {
+      if (tile.withinRange(chow.getIndex(), chow.getIndex() + 2)) {
+        count++;
+      }
+    }
+    for (var pong : pongs) {
+      if (pong == tile) {
+        count += 3;
+      }
+    }
+    for (var kong : kongs) {
+      if (kong == tile) {
+        count += 4;
+      }
+    }
+    return count;
+  }
+
+  /** Number of exposed chows, pongs and kongs */
+  public int size() {
+    return chows.size() + pongs.size() + kongs.size();
+  }
+
   @JsonIgnore
   public boolean isEmpty() {
     return chows.isEmpty() && pongs.isEmpty() && kongs.isEmpty();
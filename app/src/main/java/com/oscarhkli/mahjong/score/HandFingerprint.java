@@ -0,0 +1,60 @@
+package com.oscarhkli.mahjong.score;
+
+import java.util.List;
+
+/**
+ * Canonical form of the inputs of {@link ScoreCalculator#calculate}, used as the key of the
+ * winning hand cache.<br>
+ * Hands that only differ in the order of their tiles, exposed melds or bonus tiles share the same
+ * fingerprint, as they always score the same.
+ *
+ * @param tiles tile counts of the hand
+ * @param chows sorted starting tiles of exposed Chows
+ * @param pongs sorted tiles of exposed Pongs
+ * @param kongs sorted tiles of exposed Kongs
+ * @param bonusTiles sorted Flower and Season tiles
+ * @param windSettings prevailing and seat winds
+ * @param winningConditions how the hand is won
+ * @param ruleSet rule set the hand is scored under, null where it does not matter
+ */
+public record HandFingerprint(
+    HandVector tiles,
+    List<MahjongTileType> chows,
+    List<MahjongTileType> pongs,
+    List<MahjongTileType> kongs,
+    List<MahjongTileType> bonusTiles,
+    WindType windSettings,
+    WinningConditions winningConditions,
+    RuleSet ruleSet) {
+
+  public static HandFingerprint of(
+      List<MahjongTileType> tiles,
+      ExposedMelds exposedMelds,
+      List<MahjongTileType> bonusTiles,
+      WindType windSettings,
+      WinningConditions winningConditions) {
+    return of(tiles, exposedMelds, bonusTiles, windSettings, winningConditions, null);
+  }
+
+  public static HandFingerprint of(
+      List<MahjongTileType> tiles,
+      ExposedMelds exposedMelds,
+      List<MahjongTileType> bonusTiles,
+      WindType windSettings,
+      WinningConditions winningConditions,
+      RuleSet ruleSet) {
+    return new HandFingerprint(
+        tiles == null ? null : HandVector.of(tiles),
+        exposedMelds == null ? null : sorted(exposedMelds.getChows()),
+        exposedMelds == null ? null : sorted(exposedMelds.getPongs()),
+        exposedMelds == null ? null : sorted(exposedMelds.getKongs()),
+        sorted(bonusTiles),
+        windSettings,
+        winningConditions,
+        ruleSet);
+  }
+
+  private static List<MahjongTileType> sorted(List<MahjongTileType> tiles) {
+    return tiles == null ? null : tiles.stream().sorted().toList();
+  }
+}
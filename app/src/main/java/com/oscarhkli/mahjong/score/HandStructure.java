@@ -0,0 +1,27 @@
+package com.oscarhkli.mahjong.score;
+
+import java.util.List;
+
+/**
+ * Melds and structural winning hands deduced from the concealed tiles and exposed melds of a hand.
+ *
+ * @param windMelds Melds of Wind tiles
+ * @param dragonMelds Melds of Dragon tiles
+ * @param isComplete whether the tiles form a special hand or 4 melds with eyes
+ * @param winningHands winning hands decided by the melds alone, of the partition with the most
+ *     faans under {@link RuleSet#DEFAULT}
+ * @param alternativeWinningHands distinct winning hands of the other complete partitions, which
+ *     another rule set may score higher
+ */
+public record HandStructure(
+    Melds windMelds,
+    Melds dragonMelds,
+    boolean isComplete,
+    WinningHand winningHands,
+    List<WinningHand> alternativeWinningHands) {
+
+  public HandStructure(
+      Melds windMelds, Melds dragonMelds, boolean isComplete, WinningHand winningHands) {
+    this(windMelds, dragonMelds, isComplete, winningHands, List.of());
+  }
+}
@@ -0,0 +1,403 @@
+package com.oscarhkli.mahjong.score;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Structure phase of scoring, i.e., everything that depends only on the concealed tiles and the
+ * exposed melds. Winds, bonus tiles and winning conditions are applied afterwards by {@link
+ * ScoreCalculator}.
+ */
+@Slf4j
+@Service
+public class HandStructureCalculator {
+
+  private static final List<MahjongSetType> PLAYABLE_SET_TYPES =
+      List.of(
+          MahjongSetType.WIND,
+          MahjongSetType.DRAGON,
+          MahjongSetType.CHARACTER,
+          MahjongSetType.BAMBOO,
+          MahjongSetType.DOT);
+  private static final int WITHOUT_EYE = 1;
+  private static final int WITH_EYE = 2;
+
+  private final MeldsFactory meldsFactory;
+  private final ScoringMetrics scoringMetrics;
+
+  public HandStructureCalculator(MeldsFactory meldsFactory) {
+    this(meldsFactory, ScoringMetrics.NOOP);
+  }
+
+  @Autowired
+  public HandStructureCalculator(MeldsFactory meldsFactory, ScoringMetrics scoringMetrics) {
+    this.meldsFactory = meldsFactory;
+    this.scoringMetrics = scoringMetrics;
+  }
+
+  @Cacheable(
+      cacheNames = CacheConfig.HAND_STRUCTURES_CACHE,
+      keyGenerator = "handStructureKeyGenerator")
+  public HandStructure calculate(List<MahjongTileType> tiles, ExposedMelds exposedMelds) {
+    var start = scoringMetrics.start();
+    var mahjongTiles = constructMahjongTiles(tiles);
+    scoringMetrics.stop(ScoringMetrics.Stage.TILE_COUNTING, start);
+
+    WinningHandType specialWinningHand = null;
+    if (isAllKongs(mahjongTiles, exposedMelds.getKongs())) {
+      specialWinningHand = WinningHandType.ALL_KONGS;
+    } else if (isThirteenOrphans(mahjongTiles)) {
+      specialWinningHand = WinningHandType.THIRTEEN_ORPHANS;
+    } else if (isNineGate(mahjongTiles, exposedMelds)) {
+      specialWinningHand = WinningHandType.NINE_GATES;
+    }
+
+    if (specialWinningHand == null) {
+      var handStructure = deduceBestHandStructure(mahjongTiles, exposedMelds);
+      if (handStructure != null) {
+        return handStructure;
+      }
+    }
+
+    // Wind and Dragon can only have 1 candidate - pongs with/without eyes
+    var windMelds = construct(MahjongSetType.WIND, mahjongTiles, exposedMelds).getFirst();
+    var dragonMelds = construct(MahjongSetType.DRAGON, mahjongTiles, exposedMelds).getFirst();
+    if (specialWinningHand != null) {
+      return new HandStructure(windMelds, dragonMelds, true, WinningHand.of(specialWinningHand));
+    }
+
+    // Incomplete hands keep the greedy candidates, which are only scored with Flower Hands
+    var characterMeldsCandidates = construct(MahjongSetType.CHARACTER, mahjongTiles, exposedMelds);
+    var bambooMeldsCandidates = construct(MahjongSetType.BAMBOO, mahjongTiles, exposedMelds);
+    var dotMeldsCandidates = construct(MahjongSetType.DOT, mahjongTiles, exposedMelds);
+
+    start = scoringMetrics.start();
+    var handStructure =
+        new HandStructure(
+            windMelds,
+            dragonMelds,
+            isValidWinningHand(
+                windMelds,
+                dragonMelds,
+                characterMeldsCandidates,
+                bambooMeldsCandidates,
+                dotMeldsCandidates),
+            WinningHand.of(
+                deduceWinningHand(
+                    windMelds,
+                    dragonMelds,
+                    characterMeldsCandidates,
+                    bambooMeldsCandidates,
+                    dotMeldsCandidates)));
+    scoringMetrics.stop(ScoringMetrics.Stage.PATTERN_DEDUCTION, start);
+    return handStructure;
+  }
+
+  /** Melds candidates of a Mahjong Set, timed with the number of candidates */
+  private List<Melds> construct(
+      MahjongSetType mahjongSetType, HandVector mahjongTiles, ExposedMelds exposedMelds) {
+    var start = scoringMetrics.start();
+    var candidates = meldsFactory.construct(mahjongSetType, mahjongTiles, exposedMelds);
+    scoringMetrics.stopMelds(mahjongSetType, start, candidates.size());
+    return candidates;
+  }
+
+  /** Partitions of a Mahjong Set, timed with the number of partitions */
+  private List<Melds> partition(
+      MahjongSetType mahjongSetType, HandVector mahjongTiles, ExposedMelds exposedMelds) {
+    var start = scoringMetrics.start();
+    var partitions = meldsFactory.partition(mahjongSetType, mahjongTiles, exposedMelds);
+    scoringMetrics.stopMelds(mahjongSetType, start, partitions.size());
+    return partitions;
+  }
+
+  /**
+   * Every tile that completes a waiting hand, in tile order.<br>
+   * Adding a tile only changes the Mahjong Set it belongs to, so the partitions of the other sets
+   * are looked up once and only the partitions of the touched set are looked up per tile. Tiles of
+   * which all 4 copies are already in the hand or the exposed melds are skipped.
+   *
+   * @param tiles concealed tiles of the waiting hand
+   * @param exposedMelds exposed melds of the waiting hand
+   * @return tiles completing the hand
+   */
+  public List<MahjongTileType> deduceWinningTiles(
+      List<MahjongTileType> tiles, ExposedMelds exposedMelds) {
+    var mahjongTiles = constructMahjongTiles(tiles);
+    var eyeOptions = new int[PLAYABLE_SET_TYPES.size()];
+    for (var i = 0; i < PLAYABLE_SET_TYPES.size(); i++) {
+      eyeOptions[i] =
+          eyeOptions(meldsFactory.partition(PLAYABLE_SET_TYPES.get(i), mahjongTiles, exposedMelds));
+    }
+
+    var winningTiles = new ArrayList<MahjongTileType>();
+    for (var i = 0; i < PLAYABLE_SET_TYPES.size(); i++) {
+      var mahjongSetType = PLAYABLE_SET_TYPES.get(i);
+      var unchangedEyeOptions = eyeOptions[i];
+      for (var index = mahjongSetType.getStartingTile().getIndex();
+          index <= mahjongSetType.getEndingTile().getIndex();
+          index++) {
+        var tile = TileRegistry.tile(index);
+        if (mahjongTiles.count(tile) + exposedMelds.count(tile) >= 4) {
+          continue;
+        }
+        var candidateTiles = mahjongTiles.add(tile);
+        eyeOptions[i] =
+            eyeOptions(meldsFactory.partition(mahjongSetType, candidateTiles, exposedMelds));
+        if (hasSingleEye(eyeOptions)
+            || isAllKongs(candidateTiles, exposedMelds.getKongs())
+            || isThirteenOrphans(candidateTiles)
+            || isNineGate(candidateTiles, exposedMelds)) {
+          winningTiles.add(tile);
+        }
+      }
+      eyeOptions[i] = unchangedEyeOptions;
+    }
+    return winningTiles;
+  }
+
+  /**
+   * @return bitmask of {@link #WITHOUT_EYE} and {@link #WITH_EYE} over the partitions, 0 if the
+   *     tiles cannot be partitioned
+   */
+  private static int eyeOptions(List<Melds> partitions) {
+    var eyeOptions = 0;
+    for (var melds : partitions) {
+      eyeOptions |= melds.hasEyes() ? WITH_EYE : WITHOUT_EYE;
+    }
+    return eyeOptions;
+  }
+
+  /** Whether one Mahjong Set can take the eye while every other set is partitioned without one */
+  private static boolean hasSingleEye(int[] eyeOptions) {
+    for (var eyeSet = 0; eyeSet < eyeOptions.length; eyeSet++) {
+      if ((eyeOptions[eyeSet] & WITH_EYE) == 0) {
+        continue;
+      }
+      var othersWithoutEye = true;
+      for (var i = 0; i < eyeOptions.length && othersWithoutEye; i++) {
+        othersWithoutEye = i == eyeSet || (eyeOptions[i] & WITHOUT_EYE) != 0;
+      }
+      if (othersWithoutEye) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Score every partition of the hand into melds with exactly one eye and keep the one with the
+   * most faans under {@link RuleSet#DEFAULT}, the first found on ties. The distinct winning hands
+   * of the other partitions are kept as alternatives, so that {@link ScoreCalculator} can choose
+   * again once the rule set of the request is known.<br>
+   * Partitions are precomputed per Mahjong Set, so this only walks their combinations, which are
+   * rarely more than one. Faans are only counted when there is a choice to make.
+   *
+   * @param mahjongTiles tile counts of the concealed tiles
+   * @param exposedMelds exposed melds of the hand
+   * @return structure of the best interpretation, or null if the tiles cannot form melds with
+   *     exactly one eye
+   */
+  private HandStructure deduceBestHandStructure(
+      HandVector mahjongTiles, ExposedMelds exposedMelds) {
+    var windPartitions = partition(MahjongSetType.WIND, mahjongTiles, exposedMelds);
+    if (windPartitions.isEmpty()) {
+      return null;
+    }
+    var dragonPartitions = partition(MahjongSetType.DRAGON, mahjongTiles, exposedMelds);
+    if (dragonPartitions.isEmpty()) {
+      return null;
+    }
+    var characterPartitions = partition(MahjongSetType.CHARACTER, mahjongTiles, exposedMelds);
+    if (characterPartitions.isEmpty()) {
+      return null;
+    }
+    var bambooPartitions = partition(MahjongSetType.BAMBOO, mahjongTiles, exposedMelds);
+    if (bambooPartitions.isEmpty()) {
+      return null;
+    }
+    var dotPartitions = partition(MahjongSetType.DOT, mahjongTiles, exposedMelds);
+    if (dotPartitions.isEmpty()) {
+      return null;
+    }
+
+    var start = scoringMetrics.start();
+    var handStructure =
+        selectBestHandStructure(
+            windPartitions, dragonPartitions, characterPartitions, bambooPartitions, dotPartitions);
+    scoringMetrics.stop(ScoringMetrics.Stage.PATTERN_DEDUCTION, start);
+    return handStructure;
+  }
+
+  private HandStructure selectBestHandStructure(
+      List<Melds> windPartitions,
+      List<Melds> dragonPartitions,
+      List<Melds> characterPartitions,
+      List<Melds> bambooPartitions,
+      List<Melds> dotPartitions) {
+    // Honor tiles have a single partition
+    var windMelds = windPartitions.getFirst();
+    var dragonMelds = dragonPartitions.getFirst();
+    var honorEyes = eyes(windMelds) + eyes(dragonMelds);
+    var honorWinningHands = PatternEvaluator.evaluateHonors(windMelds, dragonMelds);
+
+    WinningHand bestWinningHands = null;
+    var alternatives = new ArrayList<WinningHand>(0);
+    for (var characterMelds : characterPartitions) {
+      var characterEyes = honorEyes + eyes(characterMelds);
+      if (characterEyes > 1) {
+        continue;
+      }
+      for (var bambooMelds : bambooPartitions) {
+        var bambooEyes = characterEyes + eyes(bambooMelds);
+        if (bambooEyes > 1) {
+          continue;
+        }
+        for (var dotMelds : dotPartitions) {
+          if (bambooEyes + eyes(dotMelds) != 1) {
+            continue;
+          }
+          if (honorWinningHands != 0) {
+            return new HandStructure(
+                windMelds, dragonMelds, true, WinningHand.of(honorWinningHands));
+          }
+          var winningHands =
+              deduceWinningHand(windMelds, dragonMelds, characterMelds, bambooMelds, dotMelds);
+          if (bestWinningHands == null) {
+            bestWinningHands = WinningHand.of(winningHands);
+            continue;
+          }
+          var candidate = WinningHand.of(winningHands);
+          if (candidate.equals(bestWinningHands) || alternatives.contains(candidate)) {
+            continue;
+          }
+          if (candidate.getFaans() > bestWinningHands.getFaans()) {
+            alternatives.add(bestWinningHands);
+            bestWinningHands = candidate;
+          } else {
+            alternatives.add(candidate);
+          }
+        }
+      }
+    }
+    return bestWinningHands == null
+        ? null
+        : new HandStructure(
+            windMelds, dragonMelds, true, bestWinningHands, List.copyOf(alternatives));
+  }
+
+  private static int eyes(Melds melds) {
+    return melds.hasEyes() ? 1 : 0;
+  }
+
+  HandVector constructMahjongTiles(List<MahjongTileType> tiles) {
+    return HandVector.of(tiles);
+  }
+
+  private boolean isThirteenOrphans(HandVector mahjongTiles) {
+    return mahjongTiles.orphansWithCount(1) == 12 && mahjongTiles.orphansWithCount(2) == 1;
+  }
+
+  private boolean isAllKongs(HandVector mahjongTiles, List<MahjongTileType> exposedKongs) {
+    return exposedKongs.size() == 4 && mahjongTiles.hasTileWithCount(2);
+  }
+
+  private boolean isNineGate(HandVector mahjongTiles, ExposedMelds exposedMelds) {
+    if (!exposedMelds.isEmpty()) {
+      return false;
+    }
+    for (var mahjongSetType :
+        List.of(MahjongSetType.CHARACTER, MahjongSetType.BAMBOO, MahjongSetType.DOT)) {
+      if (mahjongTiles.hasEveryTile(mahjongSetType)
+          && mahjongTiles.count(mahjongSetType.getStartingTile()) >= 3
+          && mahjongTiles.count(mahjongSetType.getEndingTile()) >= 3
+          && mahjongTiles.suitTotal(mahjongSetType) == 14) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isValidWinningHand(
+      Melds windMelds,
+      Melds dragonMelds,
+      List<Melds> characterMeldsCandidates,
+      List<Melds> bambooMeldsCandidates,
+      List<Melds> dotMeldsCandidates) {
+    return Stream.of(
+                windMelds,
+                dragonMelds,
+                characterMeldsCandidates.getFirst(),
+                bambooMeldsCandidates.getFirst(),
+                dotMeldsCandidates.getFirst())
+            .allMatch(meld -> meld.getUnusedTileCount() == 0)
+        && Stream.of(
+                    windMelds,
+                    dragonMelds,
+                    characterMeldsCandidates.getFirst(),
+                    bambooMeldsCandidates.getFirst(),
+                    dotMeldsCandidates.getFirst())
+                .filter(Melds::hasEyes)
+                .count()
+            == 1;
+  }
+
+  /**
+   * If Suit A has multiple candidates, each of Suit B and C must have only 1 candidate.<br>
+   * If all the other Suit Melds contain Chows, the best choice for Suit A must be the one with
+   * fewer Pongs, i.e., the last candidate.<br>
+   * Otherwise, the Winning Hand will be either All in Triplets or Trick Hand.<br>
+   * The best choice for Suit A would be the one with the one with only Pongs then with only Chows
+   * then otherwise.<br>
+   *
+   * @param suitACandidates target suit to check
+   * @param suitBCandidates the neighbor suit
+   * @param suitCCandidates the neighbor suit
+   * @return best Melds
+   */
+  private Melds selectBestMelds(
+      List<Melds> suitACandidates, List<Melds> suitBCandidates, List<Melds> suitCCandidates) {
+    if (suitACandidates.size() == 1) {
+      return suitACandidates.getFirst();
+    }
+    if (!suitBCandidates.getFirst().getChows().isEmpty()
+        || !suitCCandidates.getFirst().getChows().isEmpty()) {
+      return suitACandidates.getLast();
+    }
+    if (suitACandidates.getFirst().getChows().isEmpty()) {
+      return suitACandidates.getFirst();
+    }
+    if (suitACandidates.getLast().getPongKongSize() == 0) {
+      return suitACandidates.getLast();
+    }
+    return suitACandidates.getFirst();
+  }
+
+  private long deduceWinningHand(
+      Melds windMelds,
+      Melds dragonMelds,
+      List<Melds> characterMeldsCandidates,
+      List<Melds> bambooMeldsCandidates,
+      List<Melds> dotMeldsCandidates) {
+    var characterMelds =
+        selectBestMelds(characterMeldsCandidates, bambooMeldsCandidates, dotMeldsCandidates);
+    var bambooMelds =
+        selectBestMelds(bambooMeldsCandidates, characterMeldsCandidates, dotMeldsCandidates);
+    var dotMelds =
+        selectBestMelds(dotMeldsCandidates, characterMeldsCandidates, bambooMeldsCandidates);
+    return deduceWinningHand(windMelds, dragonMelds, characterMelds, bambooMelds, dotMelds);
+  }
+
+  /**
+   * @return bitset of the ordinals of the Winning Hand Types
+   */
+  private long deduceWinningHand(
+      Melds windMelds, Melds dragonMelds, Melds characterMelds, Melds bambooMelds, Melds dotMelds) {
+    return PatternEvaluator.evaluate(windMelds, dragonMelds, characterMelds, bambooMelds, dotMelds);
+  }
+}
@@ -0,0 +1,264 @@
+package com.oscarhkli.mahjong.score;
+
+import java.util.List;
+
+/**
+ * Immutable tile counts of a hand, packed 3 bits per playable tile into 3 words plus a bitmask of
+ * bonus tiles.<br>
+ * Honor and Character tiles share the first word, Bamboo and Dot tiles have a word each, so that
+ * every Mahjong Set occupies a contiguous bit range of a single word.
+ *
+ * @param honorCharacterCounts counts of Wind, Dragon and Character tiles
+ * @param bambooCounts counts of Bamboo tiles
+ * @param dotCounts counts of Dot tiles
+ * @param bonusTiles bitmask of Flower and Season tiles, F1 being the least significant bit
+ */
+public record HandVector(
+    long honorCharacterCounts, long bambooCounts, long dotCounts, int bonusTiles) {
+
+  public static final HandVector EMPTY = new HandVector(0L, 0L, 0L, 0);
+
+  static final int BITS_PER_TILE = 3;
+  static final int MAX_TILE_COUNT = (1 << BITS_PER_TILE) - 1;
+
+  private static final int PLAYABLE_TILE_TYPES = TileRegistry.PLAYABLE_TILE_TYPES;
+  private static final int WORDS = 3;
+  private static final int[] WORD_OF_TILE = new int[PLAYABLE_TILE_TYPES];
+  private static final int[] SHIFT_OF_TILE = new int[PLAYABLE_TILE_TYPES];
+
+  /** Lowest bit of every tile field in use, per word */
+  private static final long[] TILE_FIELD_ONES = new long[WORDS];
+
+  /** Lowest bit of the fields of East to White, C1, C9, B1, B9, D1 and D9, per word */
+  private static final long[] ORPHAN_FIELD_ONES = new long[WORDS];
+
+  static {
+    for (var index = 0; index < PLAYABLE_TILE_TYPES; index++) {
+      var word = wordOf(index);
+      WORD_OF_TILE[index] = word;
+      SHIFT_OF_TILE[index] =
+          (index - (word == 0 ? 0 : wordStartingTile(word).getIndex())) * BITS_PER_TILE;
+      TILE_FIELD_ONES[word] |= 1L << SHIFT_OF_TILE[index];
+    }
+    for (var orphan : TileRegistry.orphans()) {
+      ORPHAN_FIELD_ONES[WORD_OF_TILE[orphan.getIndex()]] |=
+          1L << SHIFT_OF_TILE[orphan.getIndex()];
+    }
+  }
+
+  public static HandVector of(List<MahjongTileType> tiles) {
+    var honorCharacterCounts = 0L;
+    var bambooCounts = 0L;
+    var dotCounts = 0L;
+    var bonusTiles = 0;
+    for (var tile : tiles) {
+      var index = tile.getIndex();
+      if (isBonus(index)) {
+        bonusTiles |= bonusBit(index);
+        continue;
+      }
+      var shift = SHIFT_OF_TILE[index];
+      var word =
+          switch (WORD_OF_TILE[index]) {
+            case 0 -> honorCharacterCounts += 1L << shift;
+            case 1 -> bambooCounts += 1L << shift;
+            default -> dotCounts += 1L << shift;
+          };
+      if (((word >>> shift) & MAX_TILE_COUNT) == 0) {
+        throw new IllegalArgumentException("Too many %s tiles in hand".formatted(tile));
+      }
+    }
+    return new HandVector(honorCharacterCounts, bambooCounts, dotCounts, bonusTiles);
+  }
+
+  public int count(MahjongTileType tile) {
+    var index = tile.getIndex();
+    if (isBonus(index)) {
+      return (bonusTiles & bonusBit(index)) != 0 ? 1 : 0;
+    }
+    return (int) ((word(WORD_OF_TILE[index]) >>> SHIFT_OF_TILE[index]) & MAX_TILE_COUNT);
+  }
+
+  public boolean contains(MahjongTileType tile) {
+    return count(tile) > 0;
+  }
+
+  public HandVector add(MahjongTileType tile) {
+    var index = tile.getIndex();
+    if (isBonus(index)) {
+      return new HandVector(
+          honorCharacterCounts, bambooCounts, dotCounts, bonusTiles | bonusBit(index));
+    }
+    if (count(tile) == MAX_TILE_COUNT) {
+      throw new IllegalArgumentException("Too many %s tiles in hand".formatted(tile));
+    }
+    var word = WORD_OF_TILE[index];
+    return withWord(word, word(word) + (1L << SHIFT_OF_TILE[index]));
+  }
+
+  public HandVector remove(MahjongTileType tile) {
+    var index = tile.getIndex();
+    if (!contains(tile)) {
+      throw new IllegalArgumentException("No %s tile in hand".formatted(tile));
+    }
+    if (isBonus(index)) {
+      return new HandVector(
+          honorCharacterCounts, bambooCounts, dotCounts, bonusTiles & ~bonusBit(index));
+    }
+    var word = WORD_OF_TILE[index];
+    return withWord(word, word(word) - (1L << SHIFT_OF_TILE[index]));
+  }
+
+  /**
+   * @param mahjongSetType Mahjong Set Type
+   * @return 3-bit tile counts of the Mahjong Set, its first tile being the lowest field
+   */
+  public long suitBits(MahjongSetType mahjongSetType) {
+    var startingIndex = mahjongSetType.getStartingTile().getIndex();
+    if (isBonus(startingIndex)) {
+      return 0L;
+    }
+    return (word(WORD_OF_TILE[startingIndex]) >>> SHIFT_OF_TILE[startingIndex])
+        & fieldsMask(mahjongSetType.getSize());
+  }
+
+  /**
+   * @param mahjongSetType Mahjong Set Type
+   * @return base-5 packed tile counts of the Mahjong Set as used by {@link MeldsTable}, or
+   *     {@link MeldsTable#NOT_PACKABLE} if any tile appears more than 4 times
+   */
+  public int suitKey(MahjongSetType mahjongSetType) {
+    var suitBits = suitBits(mahjongSetType);
+    var key = 0;
+    for (var i = mahjongSetType.getSize() - 1; i >= 0; i--) {
+      var count = (int) (suitBits >>> (i * BITS_PER_TILE)) & MAX_TILE_COUNT;
+      if (count > 4) {
+        return MeldsTable.NOT_PACKABLE;
+      }
+      key = key * 5 + count;
+    }
+    return key;
+  }
+
+  /**
+   * @param mahjongSetType Mahjong Set Type
+   * @return tile counts of the Mahjong Set, indexed from 1 as expected by {@link MeldsFactory}
+   */
+  public int[] suitCounts(MahjongSetType mahjongSetType) {
+    return suitCounts(mahjongSetType, new int[mahjongSetType.getSize() + 1]);
+  }
+
+  /**
+   * @param mahjongSetType Mahjong Set Type
+   * @param tileCounts array of at least the size of the Mahjong Set plus 1 to fill from index 1
+   * @return tileCounts
+   */
+  public int[] suitCounts(MahjongSetType mahjongSetType, int[] tileCounts) {
+    var suitBits = suitBits(mahjongSetType);
+    tileCounts[0] = 0;
+    for (var i = 1; i <= mahjongSetType.getSize(); i++) {
+      tileCounts[i] = (int) (suitBits >>> ((i - 1) * BITS_PER_TILE)) & MAX_TILE_COUNT;
+    }
+    return tileCounts;
+  }
+
+  public int suitTotal(MahjongSetType mahjongSetType) {
+    var suitBits = suitBits(mahjongSetType);
+    var total = 0;
+    for (var i = 0; i < mahjongSetType.getSize(); i++) {
+      total += (int) (suitBits >>> (i * BITS_PER_TILE)) & MAX_TILE_COUNT;
+    }
+    return total;
+  }
+
+  public boolean hasEveryTile(MahjongSetType mahjongSetType) {
+    var suitBits = suitBits(mahjongSetType);
+    var fieldOnes = fieldsMask(mahjongSetType.getSize()) / MAX_TILE_COUNT;
+    return ((suitBits | (suitBits >>> 1) | (suitBits >>> 2)) & fieldOnes) == fieldOnes;
+  }
+
+  /**
+   * @param count tile count to look for
+   * @return whether any playable tile appears exactly count times
+   */
+  public boolean hasTileWithCount(int count) {
+    for (var word = 0; word < WORDS; word++) {
+      if (fieldsWithCount(word, TILE_FIELD_ONES[word], count) != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param count tile count to look for
+   * @return number of Orphan tiles, i.e., honors, ones and nines, appearing exactly count times
+   */
+  public int orphansWithCount(int count) {
+    var orphans = 0;
+    for (var word = 0; word < WORDS; word++) {
+      orphans += Long.bitCount(fieldsWithCount(word, ORPHAN_FIELD_ONES[word], count));
+    }
+    return orphans;
+  }
+
+  public boolean hasAllBonusTiles(MahjongSetType mahjongSetType) {
+    var startingIndex = mahjongSetType.getStartingTile().getIndex();
+    if (!isBonus(startingIndex)) {
+      return false;
+    }
+    var bonusMask = ((1 << mahjongSetType.getSize()) - 1) * bonusBit(startingIndex);
+    return (bonusTiles & bonusMask) == bonusMask;
+  }
+
+  /**
+   * XOR with the count replicated into every field leaves a field zero only where it matched, then
+   * the 3 bits of each field are folded into its lowest bit.
+   */
+  private long fieldsWithCount(int word, long fieldOnes, int count) {
+    var difference = word(word) ^ (fieldOnes * count);
+    var nonZeroFields = (difference | (difference >>> 1) | (difference >>> 2)) & fieldOnes;
+    return ~nonZeroFields & fieldOnes;
+  }
+
+  private long word(int word) {
+    return switch (word) {
+      case 0 -> honorCharacterCounts;
+      case 1 -> bambooCounts;
+      default -> dotCounts;
+    };
+  }
+
+  private HandVector withWord(int word, long value) {
+    return switch (word) {
+      case 0 -> new HandVector(value, bambooCounts, dotCounts, bonusTiles);
+      case 1 -> new HandVector(honorCharacterCounts, value, dotCounts, bonusTiles);
+      default -> new HandVector(honorCharacterCounts, bambooCounts, value, bonusTiles);
+    };
+  }
+
+  private static long fieldsMask(int tileTypes) {
+    return (1L << (tileTypes * BITS_PER_TILE)) - 1;
+  }
+
+  private static int wordOf(int index) {
+    if (index >= MahjongSetType.DOT.getStartingTile().getIndex()) {
+      return 2;
+    }
+    return index >= MahjongSetType.BAMBOO.getStartingTile().getIndex() ? 1 : 0;
+  }
+
+  private static MahjongTileType wordStartingTile(int word) {
+    return word == 1
+        ? MahjongSetType.BAMBOO.getStartingTile()
+        : MahjongSetType.DOT.getStartingTile();
+  }
+
+  private static boolean isBonus(int index) {
+    return index >= PLAYABLE_TILE_TYPES;
+  }
+
+  private static int bonusBit(int index) {
+    return 1 << (index - PLAYABLE_TILE_TYPES);
+  }
+}
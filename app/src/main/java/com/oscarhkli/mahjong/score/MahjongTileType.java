@@ -51,13 +51,11 @@ public enum MahjongTileType {
 
   private final int index;
 
+  /**
+   * @return the tile of the index in constant time, or null if no tile has the index
+   */
   public static MahjongTileType valueOfIndex(int index) {
-    for (MahjongTileType tileType : MahjongTileType.values()) {
-      if (tileType.index == index) {
-        return tileType;
-      }
-    }
-    return null;
+    return TileRegistry.tile(index);
   }
 
   public boolean withinRange(int startingIndex, int endingIndexInclusive) {
@@ -0,0 +1,63 @@
+package com.oscarhkli.mahjong.score;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+@Value
+@Slf4j
+public class Melds {
+
+  MahjongSetType mahjongSetType;
+  List<MahjongTileType> chows;
+  List<MahjongTileType> pongs;
+  List<MahjongTileType> kongs;
+  MahjongTileType eye;
+  int[] unusedTiles;
+  int unusedTileCount;
+  int unusedPairs;
+
+  public boolean hasEyes() {
+    return this.eye != null;
+  }
+
+  public boolean hasOrphanEyes() {
+    return this.hasEyes() && TileRegistry.isTerminal(this.eye);
+  }
+
+  public Set<MahjongTileType> getOrphanPongKongs() {
+    var orphanPongKongs = EnumSet.noneOf(MahjongTileType.class);
+    for (var terminal : TileRegistry.terminals(this.mahjongSetType)) {
+      if (hasPongKong(terminal)) {
+        orphanPongKongs.add(terminal);
+      }
+    }
+    return orphanPongKongs;
+  }
+
+  /**
+   * Same as the size of {@link #getOrphanPongKongs()} without building the set, for the scoring hot
+   * path.
+   */
+  public int getOrphanPongKongSize() {
+    var orphanPongKongSize = 0;
+    for (var terminal : TileRegistry.terminals(this.mahjongSetType)) {
+      orphanPongKongSize += hasPongKong(terminal) ? 1 : 0;
+    }
+    return orphanPongKongSize;
+  }
+
+  private boolean hasPongKong(MahjongTileType tile) {
+    return this.pongs.contains(tile) || this.kongs.contains(tile);
+  }
+
+  public boolean isAllOneSuit() {
+    return this.chows.size() + this.getPongKongSize() == 4 && this.eye != null;
+  }
+
+  public int getPongKongSize() {
+    return this.pongs.size() + this.kongs.size();
+  }
+}
@@ -0,0 +1,255 @@
+package com.oscarhkli.mahjong.score;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reusable holder of the concealed Melds candidates of a single Mahjong Set, filled by {@link
+ * MeldsFactory#decompose} without allocating.<br>
+ * Candidates are stored as tile indices in preallocated arrays and exposed in the same order as
+ * {@link MeldsFactory#construct} would return them. A buffer is not thread-safe, use {@link
+ * #local()} for a per-thread instance.
+ */
+public final class MeldsBuffer {
+
+  /** 2 greedy passes plus 1 per potential eye, which also covers every precomputed shape */
+  static final int MAX_CANDIDATES = 2 + MahjongSetType.CHARACTER.getSize();
+
+  /** Enough for every tile of a suit appearing {@link HandVector#MAX_TILE_COUNT} times */
+  static final int MAX_MELDS =
+      MahjongSetType.CHARACTER.getSize() * HandVector.MAX_TILE_COUNT / 3;
+
+  private static final ThreadLocal<MeldsBuffer> LOCAL = ThreadLocal.withInitial(MeldsBuffer::new);
+  private static final int NO_EYE = -1;
+
+  private final int[][] chows = new int[MAX_CANDIDATES][MAX_MELDS];
+  private final int[] chowCounts = new int[MAX_CANDIDATES];
+  private final int[][] pongs = new int[MAX_CANDIDATES][MAX_MELDS];
+  private final int[] pongCounts = new int[MAX_CANDIDATES];
+  private final int[] eyes = new int[MAX_CANDIDATES];
+  private final int[][] unusedTiles =
+      new int[MAX_CANDIDATES][MahjongSetType.CHARACTER.getSize() + 1];
+  private final int[] unusedTileCounts = new int[MAX_CANDIDATES];
+  private final int[] unusedPairs = new int[MAX_CANDIDATES];
+
+  /** Candidate slots in result order */
+  private final int[] order = new int[MAX_CANDIDATES];
+
+  /** Scratch tile counts of the Mahjong Set being decomposed, indexed from 1 and zero beyond */
+  final int[] targetTiles = new int[MahjongSetType.CHARACTER.getSize() + 1];
+
+  private MahjongSetType mahjongSetType;
+  private int slots;
+  private int candidateCount;
+
+  public static MeldsBuffer local() {
+    return LOCAL.get();
+  }
+
+  public MahjongSetType mahjongSetType() {
+    return mahjongSetType;
+  }
+
+  public int candidateCount() {
+    return candidateCount;
+  }
+
+  public int chowCount(int candidate) {
+    return chowCounts[order[candidate]];
+  }
+
+  /**
+   * @param candidate position of the candidate in result order
+   * @param chow position of the Chow within the candidate, in tile order
+   * @return starting tile of the Chow
+   */
+  public MahjongTileType chow(int candidate, int chow) {
+    return TileRegistry.tile(chows[order[candidate]][chow]);
+  }
+
+  public int pongCount(int candidate) {
+    return pongCounts[order[candidate]];
+  }
+
+  public MahjongTileType pong(int candidate, int pong) {
+    return TileRegistry.tile(pongs[order[candidate]][pong]);
+  }
+
+  /**
+   * @param candidate position of the candidate in result order
+   * @return eye tile, or null if the candidate has no eye
+   */
+  public MahjongTileType eye(int candidate) {
+    var eye = eyes[order[candidate]];
+    return eye == NO_EYE ? null : TileRegistry.tile(eye);
+  }
+
+  public int unusedTileCount(int candidate) {
+    return unusedTileCounts[order[candidate]];
+  }
+
+  public int unusedPairs(int candidate) {
+    return unusedPairs[order[candidate]];
+  }
+
+  /**
+   * Materialize the candidates for callers of the List based API. Allocates, so it is not meant
+   * for the hot path.
+   *
+   * @return Melds candidates without any exposed melds
+   */
+  public List<Melds> toMelds() {
+    var meldsCandidates = new ArrayList<Melds>(candidateCount);
+    for (var candidate = 0; candidate < candidateCount; candidate++) {
+      var slot = order[candidate];
+      meldsCandidates.add(
+          new Melds(
+              mahjongSetType,
+              toTiles(chows[slot], chowCounts[slot]),
+              toTiles(pongs[slot], pongCounts[slot]),
+              List.of(),
+              eye(candidate),
+              Arrays.copyOf(unusedTiles[slot], mahjongSetType.getSize() + 1),
+              unusedTileCounts[slot],
+              unusedPairs[slot]));
+    }
+    return meldsCandidates;
+  }
+
+  void reset(MahjongSetType mahjongSetType) {
+    this.mahjongSetType = mahjongSetType;
+    this.slots = 0;
+    this.candidateCount = 0;
+  }
+
+  /** Copy a precomputed candidate, whose melds are already in tile order */
+  void add(Melds melds) {
+    var slot = slots++;
+    chowCounts[slot] = copyTiles(melds.getChows(), chows[slot]);
+    pongCounts[slot] = copyTiles(melds.getPongs(), pongs[slot]);
+    eyes[slot] = melds.getEye() == null ? NO_EYE : melds.getEye().getIndex();
+    var meldsUnusedTiles = melds.getUnusedTiles();
+    System.arraycopy(meldsUnusedTiles, 0, unusedTiles[slot], 0, meldsUnusedTiles.length);
+    unusedTileCounts[slot] = melds.getUnusedTileCount();
+    unusedPairs[slot] = melds.getUnusedPairs();
+    order[candidateCount++] = slot;
+  }
+
+  /**
+   * Start a greedy candidate in the next free slot.
+   *
+   * @return tile counts of the new slot, initialized from {@link #targetTiles}
+   */
+  int[] openSlot() {
+    chowCounts[slots] = 0;
+    pongCounts[slots] = 0;
+    eyes[slots] = NO_EYE;
+    var tileCounts = unusedTiles[slots];
+    System.arraycopy(targetTiles, 0, tileCounts, 0, targetTiles.length);
+    return tileCounts;
+  }
+
+  void addChow(int tileIndex) {
+    chows[slots][chowCounts[slots]++] = tileIndex;
+  }
+
+  void addPong(int tileIndex) {
+    pongs[slots][pongCounts[slots]++] = tileIndex;
+  }
+
+  void setEye(int tileIndex) {
+    eyes[slots] = tileIndex;
+  }
+
+  /** Finish the open slot, dropping it if an identical candidate already exists */
+  void closeSlot() {
+    var slot = slots;
+    var size = mahjongSetType.getSize() + 1;
+    var unusedTileCount = 0;
+    var pairs = 0;
+    for (var i = 0; i < size; i++) {
+      unusedTileCount += unusedTiles[slot][i];
+      if (unusedTiles[slot][i] >= 2) {
+        pairs++;
+      }
+    }
+    unusedTileCounts[slot] = unusedTileCount;
+    unusedPairs[slot] = pairs;
+    for (var other = 0; other < slot; other++) {
+      if (isSameCandidate(other, slot, size)) {
+        return;
+      }
+    }
+    slots++;
+  }
+
+  /**
+   * Keep the best candidates in the order of the greedy deduction: the single best one if no
+   * candidate uses every tile, otherwise every candidate without unused tiles or pairs.
+   */
+  void selectBest() {
+    for (var slot = 0; slot < slots; slot++) {
+      var position = slot;
+      while (position > 0 && compare(order[position - 1], slot) > 0) {
+        order[position] = order[position - 1];
+        position--;
+      }
+      order[position] = slot;
+    }
+    if (slots == 1 || unusedTileCounts[order[0]] > 0) {
+      candidateCount = 1;
+      return;
+    }
+    candidateCount = 0;
+    for (var position = 0; position < slots; position++) {
+      var slot = order[position];
+      if (unusedTileCounts[slot] == 0 && unusedPairs[slot] == 0) {
+        order[candidateCount++] = slot;
+      }
+    }
+  }
+
+  private int compare(int slot, int otherSlot) {
+    var comparison = Integer.compare(unusedTileCounts[slot], unusedTileCounts[otherSlot]);
+    if (comparison == 0) {
+      comparison = Integer.compare(unusedPairs[slot], unusedPairs[otherSlot]);
+    }
+    if (comparison == 0) {
+      comparison = Integer.compare(pongCounts[otherSlot], pongCounts[slot]);
+    }
+    if (comparison == 0) {
+      comparison = Integer.compare(chowCounts[otherSlot], chowCounts[slot]);
+    }
+    if (comparison == 0) {
+      // No eye sorts last
+      comparison = Integer.compareUnsigned(eyes[slot], eyes[otherSlot]);
+    }
+    return comparison;
+  }
+
+  private boolean isSameCandidate(int slot, int otherSlot, int size) {
+    return eyes[slot] == eyes[otherSlot]
+        && Arrays.equals(
+            chows[slot], 0, chowCounts[slot], chows[otherSlot], 0, chowCounts[otherSlot])
+        && Arrays.equals(
+            pongs[slot], 0, pongCounts[slot], pongs[otherSlot], 0, pongCounts[otherSlot])
+        && Arrays.equals(unusedTiles[slot], 0, size, unusedTiles[otherSlot], 0, size);
+  }
+
+  private static int copyTiles(List<MahjongTileType> tiles, int[] tileIndices) {
+    var size = tiles.size();
+    for (var i = 0; i < size; i++) {
+      tileIndices[i] = tiles.get(i).getIndex();
+    }
+    return size;
+  }
+
+  private static List<MahjongTileType> toTiles(int[] tileIndices, int size) {
+    var tiles = new ArrayList<MahjongTileType>(size);
+    for (var i = 0; i < size; i++) {
+      tiles.add(TileRegistry.tile(tileIndices[i]));
+    }
+    return tiles;
+  }
+}
@@ -0,0 +1,471 @@
+package com.oscarhkli.mahjong.score;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class MeldsFactory {
+
+  private static final int MAX_CONCEALED_MELDS = 4;
+  private static final ExposedMelds NO_EXPOSED_MELDS = new ExposedMelds();
+
+  /**
+   * Melds candidates of every concealed tile combination which can be fully decomposed into at
+   * most 4 melds and an optional eye, i.e., every shape a Mahjong Set can take in a valid winning
+   * hand. Other combinations fall back to the greedy deduction.
+   */
+  private static final Map<MahjongSetType, MeldsTable> MELDS_TABLES =
+      new EnumMap<>(MahjongSetType.class);
+
+  /**
+   * Every partition into melds and an optional eye of the same combinations as {@link
+   * #MELDS_TABLES}, for scoring each interpretation of a complete hand.
+   */
+  private static final Map<MahjongSetType, MeldsTable> PARTITION_TABLES =
+      new EnumMap<>(MahjongSetType.class);
+
+  static {
+    buildMeldsTables();
+  }
+
+  public List<Melds> construct(
+      MahjongSetType mahjongSetType, int[] tiles, ExposedMelds exposedMelds) {
+    var startingTileIndex = mahjongSetType.getStartingTile().getIndex();
+    var mahjongSetSize = mahjongSetType.getSize();
+
+    var matchedExposedMelds = matchExposedMelds(exposedMelds, mahjongSetType);
+
+    var precomputedMelds =
+        lookUpMelds(
+            mahjongSetType,
+            MeldsTable.pack(tiles, startingTileIndex, mahjongSetSize),
+            matchedExposedMelds);
+    if (precomputedMelds != null) {
+      return precomputedMelds;
+    }
+
+    var meldsBuffer = MeldsBuffer.local();
+    meldsBuffer.reset(mahjongSetType);
+    System.arraycopy(
+        tiles, startingTileIndex, clearTargetTiles(meldsBuffer), 1, mahjongSetSize);
+    return toMelds(deduceBestMelds(mahjongSetType, meldsBuffer), matchedExposedMelds);
+  }
+
+  public List<Melds> construct(
+      MahjongSetType mahjongSetType, HandVector handVector, ExposedMelds exposedMelds) {
+    var matchedExposedMelds = matchExposedMelds(exposedMelds, mahjongSetType);
+
+    var precomputedMelds =
+        lookUpMelds(mahjongSetType, handVector.suitKey(mahjongSetType), matchedExposedMelds);
+    if (precomputedMelds != null) {
+      return precomputedMelds;
+    }
+
+    var meldsBuffer = MeldsBuffer.local();
+    meldsBuffer.reset(mahjongSetType);
+    handVector.suitCounts(mahjongSetType, clearTargetTiles(meldsBuffer));
+    return toMelds(deduceBestMelds(mahjongSetType, meldsBuffer), matchedExposedMelds);
+  }
+
+  /**
+   * Allocation-free alternative to {@link #construct(MahjongSetType, HandVector, ExposedMelds)}
+   * for the concealed tiles of a Mahjong Set.<br>
+   * Exposed melds are left out, as they add the same melds to every candidate and so never change
+   * which candidates are kept or their order.
+   *
+   * @param mahjongSetType Mahjong Set Type
+   * @param handVector tile counts of the hand
+   * @param meldsBuffer holder to reuse, typically {@link MeldsBuffer#local()}
+   * @return meldsBuffer filled with the Melds candidates
+   */
+  public MeldsBuffer decompose(
+      MahjongSetType mahjongSetType, HandVector handVector, MeldsBuffer meldsBuffer) {
+    meldsBuffer.reset(mahjongSetType);
+    var precomputedMelds =
+        MELDS_TABLES.get(mahjongSetType).get(handVector.suitKey(mahjongSetType));
+    if (precomputedMelds != null) {
+      for (var i = 0; i < precomputedMelds.size(); i++) {
+        meldsBuffer.add(precomputedMelds.get(i));
+      }
+      return meldsBuffer;
+    }
+
+    handVector.suitCounts(mahjongSetType, clearTargetTiles(meldsBuffer));
+    return deduceBestMelds(mahjongSetType, meldsBuffer);
+  }
+
+  /** Clear the tail as well, so that smaller Mahjong Sets see no tiles beyond their size */
+  private static int[] clearTargetTiles(MeldsBuffer meldsBuffer) {
+    Arrays.fill(meldsBuffer.targetTiles, 0);
+    return meldsBuffer.targetTiles;
+  }
+
+  /**
+   * Greedy deduction of the tiles which do not form a precomputed shape: pongs first, chows first,
+   * and chows first with each pair kept aside as the eye, ranked by fewest unused tiles and pairs,
+   * then most pongs and chows.
+   *
+   * @param meldsBuffer buffer whose targetTiles hold the tile counts of the Mahjong Set
+   * @return meldsBuffer filled with the best Melds candidates
+   */
+  private static MeldsBuffer deduceBestMelds(
+      MahjongSetType mahjongSetType, MeldsBuffer meldsBuffer) {
+    var targetTiles = meldsBuffer.targetTiles;
+    var startingTileIndex = mahjongSetType.getStartingTile().getIndex();
+    var isSuited = TileRegistry.isSuited(mahjongSetType);
+    decomposeMelds(meldsBuffer, isSuited, startingTileIndex, 0, false);
+    decomposeMelds(meldsBuffer, isSuited, startingTileIndex, 0, true);
+    for (var i = 1; i <= mahjongSetType.getSize(); i++) {
+      if (targetTiles[i] >= 2) {
+        decomposeMelds(meldsBuffer, isSuited, startingTileIndex, i, true);
+      }
+    }
+    meldsBuffer.selectBest();
+    return meldsBuffer;
+  }
+
+  private static List<Melds> toMelds(MeldsBuffer meldsBuffer, ExposedMelds matchedExposedMelds) {
+    var meldsCandidates = meldsBuffer.toMelds();
+    return matchedExposedMelds.isEmpty()
+        ? meldsCandidates
+        : withExposedMelds(meldsCandidates, matchedExposedMelds);
+  }
+
+  /**
+   * One greedy pass over the tile counts of meldsBuffer into a new candidate.
+   *
+   * @param reservedTile tile kept aside as potential eyes while deducing chows, or 0 for none
+   */
+  private static void decomposeMelds(
+      MeldsBuffer meldsBuffer,
+      boolean isSuited,
+      int startingTileIndex,
+      int reservedTile,
+      boolean checkChowFirst) {
+    var tileCounts = meldsBuffer.openSlot();
+    if (reservedTile > 0) {
+      tileCounts[reservedTile] -= 2;
+    }
+    if (checkChowFirst) {
+      decomposeChows(meldsBuffer, isSuited, tileCounts, startingTileIndex);
+      if (reservedTile > 0) {
+        tileCounts[reservedTile] += 2;
+      }
+      decomposePongs(meldsBuffer, tileCounts, startingTileIndex);
+    } else {
+      decomposePongs(meldsBuffer, tileCounts, startingTileIndex);
+      decomposeChows(meldsBuffer, isSuited, tileCounts, startingTileIndex);
+    }
+    for (var i = 1; i < tileCounts.length; i++) {
+      if (tileCounts[i] == 2) {
+        tileCounts[i] = 0;
+        meldsBuffer.setEye(startingTileIndex - 1 + i);
+        break;
+      }
+    }
+    meldsBuffer.closeSlot();
+  }
+
+  private static void decomposeChows(
+      MeldsBuffer meldsBuffer, boolean isSuited, int[] tileCounts, int startingTileIndex) {
+    if (!isSuited) {
+      return;
+    }
+    for (var i = 1; i < tileCounts.length - 2; i++) {
+      while (tileCounts[i] > 0 && tileCounts[i + 1] > 0 && tileCounts[i + 2] > 0) {
+        meldsBuffer.addChow(startingTileIndex - 1 + i);
+        tileCounts[i]--;
+        tileCounts[i + 1]--;
+        tileCounts[i + 2]--;
+      }
+    }
+  }
+
+  private static void decomposePongs(
+      MeldsBuffer meldsBuffer, int[] tileCounts, int startingTileIndex) {
+    for (var i = 1; i < tileCounts.length; i++) {
+      if (tileCounts[i] == 3) {
+        meldsBuffer.addPong(startingTileIndex - 1 + i);
+        tileCounts[i] -= 3;
+      }
+    }
+  }
+
+  /**
+   * Every way to split the concealed tiles of a Mahjong Set into melds and at most one eye, with
+   * the exposed melds of the set added to each.
+   *
+   * @param mahjongSetType Mahjong Set Type
+   * @param handVector tile counts of the hand
+   * @param exposedMelds exposed melds of the hand
+   * @return partitions in a fixed order, or an empty list if the tiles cannot be fully used or
+   *     need more than 4 melds
+   */
+  public List<Melds> partition(
+      MahjongSetType mahjongSetType, HandVector handVector, ExposedMelds exposedMelds) {
+    var partitions =
+        PARTITION_TABLES.get(mahjongSetType).get(handVector.suitKey(mahjongSetType));
+    if (partitions == null) {
+      return List.of();
+    }
+    var matchedExposedMelds = matchExposedMelds(exposedMelds, mahjongSetType);
+    return matchedExposedMelds.isEmpty()
+        ? partitions
+        : withExposedMelds(partitions, matchedExposedMelds);
+  }
+
+  private static ExposedMelds matchExposedMelds(
+      ExposedMelds exposedMelds, MahjongSetType mahjongSetType) {
+    return exposedMelds.isEmpty()
+        ? NO_EXPOSED_MELDS
+        : new ExposedMelds(exposedMelds, mahjongSetType);
+  }
+
+  private List<Melds> lookUpMelds(
+      MahjongSetType mahjongSetType, int key, ExposedMelds matchedExposedMelds) {
+    var precomputedMelds = MELDS_TABLES.get(mahjongSetType).get(key);
+    if (precomputedMelds == null || matchedExposedMelds.isEmpty()) {
+      return precomputedMelds;
+    }
+    return withExposedMelds(precomputedMelds, matchedExposedMelds);
+  }
+
+  private static void buildMeldsTables() {
+    for (var mahjongSetType : List.of(MahjongSetType.WIND, MahjongSetType.DRAGON)) {
+      var meldsShapes = enumerateMeldsShapes(mahjongSetType);
+      MELDS_TABLES.put(mahjongSetType, MeldsTable.of(meldsShapes.bestMelds()));
+      PARTITION_TABLES.put(mahjongSetType, MeldsTable.of(meldsShapes.partitions()));
+    }
+
+    // Suited sets share the same shapes, so deduce once and shift the tiles for the others
+    var characterMeldsShapes = enumerateMeldsShapes(MahjongSetType.CHARACTER);
+    MELDS_TABLES.put(MahjongSetType.CHARACTER, MeldsTable.of(characterMeldsShapes.bestMelds()));
+    PARTITION_TABLES.put(
+        MahjongSetType.CHARACTER, MeldsTable.of(characterMeldsShapes.partitions()));
+    for (var mahjongSetType : List.of(MahjongSetType.BAMBOO, MahjongSetType.DOT)) {
+      MELDS_TABLES.put(
+          mahjongSetType,
+          MeldsTable.of(shiftMeldsShapes(characterMeldsShapes.bestMelds(), mahjongSetType)));
+      PARTITION_TABLES.put(
+          mahjongSetType,
+          MeldsTable.of(shiftMeldsShapes(characterMeldsShapes.partitions(), mahjongSetType)));
+    }
+  }
+
+  /**
+   * @param bestMelds greedy Melds candidates by packed tile counts
+   * @param partitions every distinct split into melds and an optional eye by packed tile counts
+   */
+  private record MeldsShapes(
+      Map<Integer, List<Melds>> bestMelds, Map<Integer, List<Melds>> partitions) {}
+
+  private static MeldsShapes enumerateMeldsShapes(MahjongSetType mahjongSetType) {
+    var meldsShapes = new MeldsShapes(new HashMap<>(), new HashMap<>());
+    enumerateMeldsShapes(
+        mahjongSetType,
+        new int[mahjongSetType.getSize() + 1],
+        new int[MAX_CONCEALED_MELDS],
+        0,
+        0,
+        meldsShapes);
+    meldsShapes.partitions().replaceAll((key, partitions) -> List.copyOf(partitions));
+    log.debug(
+        "Precomputed {} Melds shapes for {}", meldsShapes.bestMelds().size(), mahjongSetType);
+    return meldsShapes;
+  }
+
+  private static Map<Integer, List<Melds>> shiftMeldsShapes(
+      Map<Integer, List<Melds>> meldsCandidatesByKey, MahjongSetType mahjongSetType) {
+    var shiftedMeldsCandidatesByKey = new HashMap<Integer, List<Melds>>();
+    meldsCandidatesByKey.forEach(
+        (key, meldsCandidates) ->
+            shiftedMeldsCandidatesByKey.put(
+                key,
+                meldsCandidates.stream()
+                    .map(melds -> shiftMelds(melds, mahjongSetType))
+                    .toList()));
+    return shiftedMeldsCandidatesByKey;
+  }
+
+  private static Melds shiftMelds(Melds melds, MahjongSetType mahjongSetType) {
+    var offset =
+        mahjongSetType.getStartingTile().getIndex()
+            - melds.getMahjongSetType().getStartingTile().getIndex();
+    return new Melds(
+        mahjongSetType,
+        shiftTiles(melds.getChows(), offset),
+        shiftTiles(melds.getPongs(), offset),
+        shiftTiles(melds.getKongs(), offset),
+        melds.getEye() == null
+            ? null
+            : TileRegistry.tile(melds.getEye().getIndex() + offset),
+        melds.getUnusedTiles(),
+        melds.getUnusedTileCount(),
+        melds.getUnusedPairs());
+  }
+
+  private static List<MahjongTileType> shiftTiles(List<MahjongTileType> tiles, int offset) {
+    return tiles.stream()
+        .map(tile -> TileRegistry.tile(tile.getIndex() + offset))
+        .toList();
+  }
+
+  /**
+   * Enumerate melds in non-decreasing order, where meld index i &lt; size stands for a Pong of tile
+   * i + 1 and meld index i &gt;= size stands for a Chow starting at tile i - size + 1.<br>
+   * Every multiset of melds is visited once, so together with the choice of eye every partition
+   * of a shape is found exactly once.
+   */
+  private static void enumerateMeldsShapes(
+      MahjongSetType mahjongSetType,
+      int[] tileCounts,
+      int[] meldIndices,
+      int meldCount,
+      int fromMeldIndex,
+      MeldsShapes meldsShapes) {
+    addMeldsShapes(mahjongSetType, tileCounts, meldIndices, meldCount, meldsShapes);
+    if (meldCount == MAX_CONCEALED_MELDS) {
+      return;
+    }
+    var mahjongSetSize = mahjongSetType.getSize();
+    var meldTypes =
+        TileRegistry.isSuited(mahjongSetType)
+            ? mahjongSetSize + mahjongSetSize - 2
+            : mahjongSetSize;
+    for (var meldIndex = fromMeldIndex; meldIndex < meldTypes; meldIndex++) {
+      var isPong = meldIndex < mahjongSetSize;
+      var tile = isPong ? meldIndex + 1 : meldIndex - mahjongSetSize + 1;
+      if (isPong ? tileCounts[tile] > 1 : !canAddChow(tileCounts, tile)) {
+        continue;
+      }
+      updateMeld(tileCounts, tile, isPong, 1);
+      meldIndices[meldCount] = meldIndex;
+      enumerateMeldsShapes(
+          mahjongSetType, tileCounts, meldIndices, meldCount + 1, meldIndex, meldsShapes);
+      updateMeld(tileCounts, tile, isPong, -1);
+    }
+  }
+
+  private static void addMeldsShapes(
+      MahjongSetType mahjongSetType,
+      int[] tileCounts,
+      int[] meldIndices,
+      int meldCount,
+      MeldsShapes meldsShapes) {
+    addMeldsShape(mahjongSetType, tileCounts, meldIndices, meldCount, 0, meldsShapes);
+    for (var i = 1; i < tileCounts.length; i++) {
+      if (tileCounts[i] <= 2) {
+        tileCounts[i] += 2;
+        addMeldsShape(mahjongSetType, tileCounts, meldIndices, meldCount, i, meldsShapes);
+        tileCounts[i] -= 2;
+      }
+    }
+  }
+
+  private static void addMeldsShape(
+      MahjongSetType mahjongSetType,
+      int[] tileCounts,
+      int[] meldIndices,
+      int meldCount,
+      int eye,
+      MeldsShapes meldsShapes) {
+    var key = MeldsTable.pack(tileCounts, 1, mahjongSetType.getSize());
+    if (!meldsShapes.bestMelds().containsKey(key)) {
+      meldsShapes
+          .bestMelds()
+          .put(
+              key,
+              List.copyOf(deduceBestMelds(mahjongSetType, tileCounts)));
+    }
+    meldsShapes
+        .partitions()
+        .computeIfAbsent(key, k -> new ArrayList<>())
+        .add(toPartition(mahjongSetType, meldIndices, meldCount, eye));
+  }
+
+  /** Melds of an enumerated partition, pongs and chows being in tile order already */
+  private static Melds toPartition(
+      MahjongSetType mahjongSetType, int[] meldIndices, int meldCount, int eye) {
+    var mahjongSetSize = mahjongSetType.getSize();
+    var startingTileIndex = mahjongSetType.getStartingTile().getIndex();
+    var chows = new ArrayList<MahjongTileType>();
+    var pongs = new ArrayList<MahjongTileType>();
+    for (var i = 0; i < meldCount; i++) {
+      var meldIndex = meldIndices[i];
+      if (meldIndex < mahjongSetSize) {
+        pongs.add(TileRegistry.tile(startingTileIndex + meldIndex));
+      } else {
+        chows.add(TileRegistry.tile(startingTileIndex + meldIndex - mahjongSetSize));
+      }
+    }
+    return new Melds(
+        mahjongSetType,
+        List.copyOf(chows),
+        List.copyOf(pongs),
+        List.of(),
+        eye == 0 ? null : TileRegistry.tile(startingTileIndex - 1 + eye),
+        new int[mahjongSetSize + 1],
+        0,
+        0);
+  }
+
+  private static boolean canAddChow(int[] tileCounts, int startingTile) {
+    return tileCounts[startingTile] < 4
+        && tileCounts[startingTile + 1] < 4
+        && tileCounts[startingTile + 2] < 4;
+  }
+
+  private static void updateMeld(int[] tileCounts, int tile, boolean isPong, int delta) {
+    if (isPong) {
+      tileCounts[tile] += 3 * delta;
+    } else {
+      tileCounts[tile] += delta;
+      tileCounts[tile + 1] += delta;
+      tileCounts[tile + 2] += delta;
+    }
+  }
+
+  private static List<Melds> withExposedMelds(
+      List<Melds> concealedMeldsCandidates, ExposedMelds exposedMelds) {
+    var meldsCandidates = new ArrayList<Melds>(concealedMeldsCandidates.size());
+    for (var concealedMelds : concealedMeldsCandidates) {
+      meldsCandidates.add(
+          new Melds(
+              concealedMelds.getMahjongSetType(),
+              mergeSorted(exposedMelds.getChows(), concealedMelds.getChows()),
+              mergeSorted(exposedMelds.getPongs(), concealedMelds.getPongs()),
+              exposedMelds.getKongs(),
+              concealedMelds.getEye(),
+              concealedMelds.getUnusedTiles(),
+              concealedMelds.getUnusedTileCount(),
+              concealedMelds.getUnusedPairs()));
+    }
+    return meldsCandidates;
+  }
+
+  private static List<MahjongTileType> mergeSorted(
+      List<MahjongTileType> exposedTiles, List<MahjongTileType> concealedTiles) {
+    var tiles = new ArrayList<MahjongTileType>(exposedTiles.size() + concealedTiles.size());
+    tiles.addAll(exposedTiles);
+    tiles.addAll(concealedTiles);
+    tiles.sort(Comparator.comparingInt(MahjongTileType::getIndex));
+    return tiles;
+  }
+
+  /** Best Melds candidates of tile counts indexed from 1, for building the lookup tables */
+  private static List<Melds> deduceBestMelds(MahjongSetType mahjongSetType, int[] tileCounts) {
+    var meldsBuffer = MeldsBuffer.local();
+    meldsBuffer.reset(mahjongSetType);
+    System.arraycopy(
+        tileCounts, 1, clearTargetTiles(meldsBuffer), 1, mahjongSetType.getSize());
+    return deduceBestMelds(mahjongSetType, meldsBuffer).toMelds();
+  }
+}
@@ -0,0 +1,94 @@
+package com.oscarhkli.mahjong.score;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lookup of precomputed Melds candidates of a single Mahjong Set Type, keyed by the base-5 packed
+ * tile counts of that set.<br>
+ * Keys are stored in an open-addressing table sized to a power of two so that a lookup is a
+ * handful of array reads without boxing.
+ */
+final class MeldsTable {
+
+  static final int NOT_PACKABLE = -1;
+
+  private static final int MAX_TILE_COUNT = 4;
+  private static final int RADIX = MAX_TILE_COUNT + 1;
+  private static final int EMPTY_SLOT = -1;
+
+  private final int[] keys;
+  private final List<?>[] values;
+  private final int mask;
+  private final int size;
+
+  private MeldsTable(Map<Integer, List<Melds>> meldsCandidatesByKey) {
+    var capacity = Integer.highestOneBit(Math.max(meldsCandidatesByKey.size(), 4)) << 2;
+    this.keys = new int[capacity];
+    this.values = new List<?>[capacity];
+    this.mask = capacity - 1;
+    this.size = meldsCandidatesByKey.size();
+    Arrays.fill(this.keys, EMPTY_SLOT);
+    meldsCandidatesByKey.forEach(this::put);
+  }
+
+  static MeldsTable of(Map<Integer, List<Melds>> meldsCandidatesByKey) {
+    return new MeldsTable(meldsCandidatesByKey);
+  }
+
+  /**
+   * Pack the tile counts of a Mahjong Set into a base-5 integer, the first tile being the least
+   * significant digit.
+   *
+   * @param tileCounts Counter of tiles
+   * @param fromIndex index of the first tile of the Mahjong Set in tileCounts
+   * @param size number of tile types in the Mahjong Set
+   * @return packed key, or {@link #NOT_PACKABLE} if any tile appears more than 4 times
+   */
+  static int pack(int[] tileCounts, int fromIndex, int size) {
+    var key = 0;
+    for (var i = fromIndex + size - 1; i >= fromIndex; i--) {
+      var count = tileCounts[i];
+      if (count < 0 || count > MAX_TILE_COUNT) {
+        return NOT_PACKABLE;
+      }
+      key = key * RADIX + count;
+    }
+    return key;
+  }
+
+  @SuppressWarnings("unchecked")
+  List<Melds> get(int key) {
+    if (key < 0) {
+      return null;
+    }
+    for (var slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+      var storedKey = keys[slot];
+      if (storedKey == key) {
+        return (List<Melds>) values[slot];
+      }
+      if (storedKey == EMPTY_SLOT) {
+        return null;
+      }
+    }
+  }
+
+  private void put(int key, List<Melds> meldsCandidates) {
+    var slot = hash(key) & mask;
+    while (keys[slot] != EMPTY_SLOT) {
+      slot = (slot + 1) & mask;
+    }
+    keys[slot] = key;
+    values[slot] = meldsCandidates;
+  }
+
+  int size() {
+    return size;
+  }
+
+  private static int hash(int key) {
+    var h = key * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+}
@@ -0,0 +1,150 @@
+package com.oscarhkli.mahjong.score;
+
+/**
+ * Compiled detectors of the winning hands decided by the melds alone.<br>
+ * The melds of the 5 Mahjong Sets are reduced once to a bitmask of features, and every pattern is a
+ * test of required and forbidden features over it, so evaluating a hand allocates nothing and only
+ * branches once per pattern. Winning hands are returned as a bitset of {@link WinningHandType}
+ * ordinals.<br>
+ * An exclusive pattern is a limit hand reported on its own, so it must come before every pattern
+ * it can match with.
+ */
+final class PatternEvaluator {
+
+  static final long FOUR_CHOWS = 1L;
+  static final long FOUR_PONG_KONGS = 1L << 1;
+  static final long FOUR_WIND_PONG_KONGS = 1L << 2;
+  static final long THREE_WIND_PONG_KONGS = 1L << 3;
+  static final long THREE_DRAGON_PONG_KONGS = 1L << 4;
+  static final long TWO_DRAGON_PONG_KONGS = 1L << 5;
+  static final long FOUR_HONOR_PONG_KONGS = 1L << 6;
+  static final long FOUR_SUITED_ORPHAN_PONG_KONGS = 1L << 7;
+  static final long FOUR_ORPHAN_PONG_KONGS = 1L << 8;
+  static final long WIND_EYE = 1L << 9;
+  static final long DRAGON_EYE = 1L << 10;
+  static final long HONOR_EYE = 1L << 11;
+  static final long SUITED_ORPHAN_EYE = 1L << 12;
+  static final long ORPHAN_EYE = 1L << 13;
+  static final long ALL_ONE_SUIT = 1L << 14;
+  static final long MIXED_ONE_SUIT = 1L << 15;
+
+  private static final Pattern[] PATTERNS = {
+    Pattern.exclusive(WinningHandType.GREAT_WINDS, FOUR_WIND_PONG_KONGS),
+    Pattern.exclusive(WinningHandType.ALL_HONOR_TILES, FOUR_HONOR_PONG_KONGS | HONOR_EYE),
+    Pattern.exclusive(WinningHandType.ORPHANS, FOUR_SUITED_ORPHAN_PONG_KONGS | SUITED_ORPHAN_EYE),
+    Pattern.of(WinningHandType.COMMON_HAND, FOUR_CHOWS),
+    Pattern.of(WinningHandType.ALL_IN_TRIPLETS, FOUR_PONG_KONGS),
+    Pattern.of(
+        WinningHandType.MIXED_ORPHANS, FOUR_PONG_KONGS | FOUR_ORPHAN_PONG_KONGS | ORPHAN_EYE),
+    Pattern.of(WinningHandType.SMALL_WINDS, THREE_WIND_PONG_KONGS | WIND_EYE),
+    Pattern.of(WinningHandType.GREAT_DRAGON, THREE_DRAGON_PONG_KONGS),
+    Pattern.of(WinningHandType.SMALL_DRAGON, TWO_DRAGON_PONG_KONGS | DRAGON_EYE),
+    Pattern.of(WinningHandType.ALL_ONE_SUIT, ALL_ONE_SUIT),
+    new Pattern(WinningHandType.MIXED_ONE_SUIT, MIXED_ONE_SUIT, ALL_ONE_SUIT, false),
+  };
+
+  /** Winning hands decided by the honor melds whatever the suited melds are */
+  private static final long HONOR_WINNING_HANDS =
+      WinningHand.bit(WinningHandType.GREAT_WINDS)
+          | WinningHand.bit(WinningHandType.ALL_HONOR_TILES);
+
+  private PatternEvaluator() {}
+
+  /**
+   * @param features bitmask of features
+   * @return bitset of the ordinals of the matching Winning Hand Types
+   */
+  static long evaluate(long features) {
+    var winningHands = 0L;
+    for (var pattern : PATTERNS) {
+      if ((features & pattern.required) == pattern.required
+          && (features & pattern.forbidden) == 0) {
+        if (pattern.exclusive) {
+          return WinningHand.bit(pattern.winningHandType);
+        }
+        winningHands |= WinningHand.bit(pattern.winningHandType);
+      }
+    }
+    return winningHands;
+  }
+
+  static long evaluate(
+      Melds windMelds, Melds dragonMelds, Melds characterMelds, Melds bambooMelds, Melds dotMelds) {
+    return evaluate(features(windMelds, dragonMelds, characterMelds, bambooMelds, dotMelds));
+  }
+
+  /**
+   * @return Great Winds or All Honor Tiles, which do not depend on the suited melds, or 0
+   */
+  static long evaluateHonors(Melds windMelds, Melds dragonMelds) {
+    return evaluate(honorFeatures(windMelds, dragonMelds)) & HONOR_WINNING_HANDS;
+  }
+
+  static long features(
+      Melds windMelds, Melds dragonMelds, Melds characterMelds, Melds bambooMelds, Melds dotMelds) {
+    var honorPongKongs = windMelds.getPongKongSize() + dragonMelds.getPongKongSize();
+    var honorEye = windMelds.hasEyes() || dragonMelds.hasEyes();
+    var chows =
+        characterMelds.getChows().size()
+            + bambooMelds.getChows().size()
+            + dotMelds.getChows().size();
+    var suitedPongKongs =
+        characterMelds.getPongKongSize()
+            + bambooMelds.getPongKongSize()
+            + dotMelds.getPongKongSize();
+    var suitedOrphanPongKongs =
+        characterMelds.getOrphanPongKongSize()
+            + bambooMelds.getOrphanPongKongSize()
+            + dotMelds.getOrphanPongKongSize();
+    var suitedOrphanEye =
+        characterMelds.hasOrphanEyes() || bambooMelds.hasOrphanEyes() || dotMelds.hasOrphanEyes();
+
+    var features = honorFeatures(windMelds, dragonMelds);
+    features |= flag(chows == 4, FOUR_CHOWS);
+    features |= flag(honorPongKongs + suitedPongKongs == 4, FOUR_PONG_KONGS);
+    features |= flag(suitedOrphanPongKongs == 4, FOUR_SUITED_ORPHAN_PONG_KONGS);
+    features |= flag(honorPongKongs + suitedOrphanPongKongs == 4, FOUR_ORPHAN_PONG_KONGS);
+    features |= flag(suitedOrphanEye, SUITED_ORPHAN_EYE);
+    features |= flag(honorEye || suitedOrphanEye, ORPHAN_EYE);
+    features |= suitFeatures(characterMelds, honorPongKongs, honorEye);
+    features |= suitFeatures(bambooMelds, honorPongKongs, honorEye);
+    features |= suitFeatures(dotMelds, honorPongKongs, honorEye);
+    return features;
+  }
+
+  private static long honorFeatures(Melds windMelds, Melds dragonMelds) {
+    var windPongKongs = windMelds.getPongKongSize();
+    var dragonPongKongs = dragonMelds.getPongKongSize();
+    return flag(windPongKongs == 4, FOUR_WIND_PONG_KONGS)
+        | flag(windPongKongs == 3, THREE_WIND_PONG_KONGS)
+        | flag(dragonPongKongs == 3, THREE_DRAGON_PONG_KONGS)
+        | flag(dragonPongKongs == 2, TWO_DRAGON_PONG_KONGS)
+        | flag(windPongKongs + dragonPongKongs == 4, FOUR_HONOR_PONG_KONGS)
+        | flag(windMelds.hasEyes(), WIND_EYE)
+        | flag(dragonMelds.hasEyes(), DRAGON_EYE)
+        | flag(windMelds.hasEyes() || dragonMelds.hasEyes(), HONOR_EYE);
+  }
+
+  /** All One Suit or Mixed One Suit of a suit, the latter with the honor melds */
+  private static long suitFeatures(Melds suitMelds, int honorPongKongs, boolean honorEye) {
+    var melds = suitMelds.getChows().size() + suitMelds.getPongKongSize();
+    return flag(suitMelds.isAllOneSuit(), ALL_ONE_SUIT)
+        | flag(melds + honorPongKongs == 4 && (suitMelds.hasEyes() || honorEye), MIXED_ONE_SUIT);
+  }
+
+  private static long flag(boolean condition, long feature) {
+    return condition ? feature : 0L;
+  }
+
+  private record Pattern(
+      WinningHandType winningHandType, long required, long forbidden, boolean exclusive) {
+
+    static Pattern of(WinningHandType winningHandType, long required) {
+      return new Pattern(winningHandType, required, 0L, false);
+    }
+
+    static Pattern exclusive(WinningHandType winningHandType, long required) {
+      return new Pattern(winningHandType, required, 0L, true);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.oscarhkli.mahjong.score;
+
+import java.util.Collection;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * House rules of scoring compiled into flat arrays indexed by {@link WinningHandType} ordinal, so
+ * that scoring under any rule set costs the same array reads.<br>
+ * A rule set overrides the faans of some Winning Hand Types, caps the total and lists for some
+ * Winning Hand Types the others they exclude from the same hand. {@link #DEFAULT} follows the
+ * faans of {@link WinningHandType}, caps at 13 and excludes nothing beyond what {@link
+ * ScoreCalculator} already does, so that it always agrees with {@link WinningHand#getFaans()}.
+ */
+public final class RuleSet {
+
+  public static final String DEFAULT_NAME = "default";
+  public static final int DEFAULT_MAX_FAANS = 13;
+
+  private static final WinningHandType[] WINNING_HAND_TYPES = WinningHandType.values();
+
+  public static final RuleSet DEFAULT =
+      compile(0, DEFAULT_NAME, Map.of(), DEFAULT_MAX_FAANS, Map.of());
+
+  @Getter private final int id;
+  @Getter private final String name;
+  @Getter private final int maxFaans;
+  private final int[] faans;
+
+  /** Bitmask of the ordinals excluded by each Winning Hand Type */
+  private final long[] exclusions;
+
+  private final boolean hasExclusions;
+
+  /** Whether every faan is the score of its {@link WinningHandType} */
+  private final boolean hasDefaultFaans;
+
+  private RuleSet(int id, String name, int maxFaans, int[] faans, long[] exclusions) {
+    this.id = id;
+    this.name = name;
+    this.maxFaans = maxFaans;
+    this.faans = faans;
+    this.exclusions = exclusions;
+    var hasDefaultFaans = true;
+    for (var winningHandType : WINNING_HAND_TYPES) {
+      hasDefaultFaans &= faans[winningHandType.ordinal()] == winningHandType.getScore();
+    }
+    this.hasDefaultFaans = hasDefaultFaans;
+    var hasExclusions = false;
+    for (var exclusion : exclusions) {
+      hasExclusions |= exclusion != 0;
+    }
+    this.hasExclusions = hasExclusions;
+  }
+
+  /**
+   * @param id index of the rule set in {@link RuleSets}
+   * @param name name of the rule set selected by requests
+   * @param faans faans overriding those of {@link WinningHandType}
+   * @param maxFaans cap of the total faans
+   * @param exclusions Winning Hand Types removed from a hand holding the key Winning Hand Type
+   * @return compiled rule set
+   */
+  public static RuleSet compile(
+      int id,
+      String name,
+      Map<WinningHandType, Integer> faans,
+      int maxFaans,
+      Map<WinningHandType, ? extends Collection<WinningHandType>> exclusions) {
+    if (maxFaans < 0) {
+      throw new IllegalArgumentException(
+          "Rule set %s must have non-negative max faans but has %d".formatted(name, maxFaans));
+    }
+    var compiledFaans = new int[WINNING_HAND_TYPES.length];
+    for (var winningHandType : WINNING_HAND_TYPES) {
+      compiledFaans[winningHandType.ordinal()] =
+          faans.getOrDefault(winningHandType, winningHandType.getScore());
+    }
+    var compiledExclusions = new long[WINNING_HAND_TYPES.length];
+    exclusions.forEach(
+        (winningHandType, excludedTypes) -> {
+          for (var excludedType : excludedTypes) {
+            compiledExclusions[winningHandType.ordinal()] |= WinningHand.bit(excludedType);
+          }
+        });
+    return new RuleSet(id, name, maxFaans, compiledFaans, compiledExclusions);
+  }
+
+  public int faans(WinningHandType winningHandType) {
+    return faans[winningHandType.ordinal()];
+  }
+
+  /**
+   * @param winningHand Winning Hand, after {@link #apply(WinningHand)}
+   * @return total faans of the Winning Hand under this rule set
+   */
+  public int faans(WinningHand winningHand) {
+    if (winningHand.isTrickHand()) {
+      return faans(WinningHandType.TRICK_HAND);
+    }
+    if (hasDefaultFaans) {
+      return Math.min(winningHand.getScore(), maxFaans);
+    }
+    var total = 0;
+    for (var bits = winningHand.getBits(); bits != 0; bits &= bits - 1) {
+      var winningHandType = WINNING_HAND_TYPES[Long.numberOfTrailingZeros(bits)];
+      total += faans[winningHandType.ordinal()] * winningHand.count(winningHandType);
+    }
+    return Math.min(total, maxFaans);
+  }
+
+  /**
+   * @param winningHand Winning Hand deduced by {@link ScoreCalculator}
+   * @return the Winning Hand without the Winning Hand Types excluded by the others, or the same
+   *     Winning Hand if nothing is excluded
+   */
+  public WinningHand apply(WinningHand winningHand) {
+    if (!hasExclusions) {
+      return winningHand;
+    }
+    var excluded = 0L;
+    for (var bits = winningHand.getBits(); bits != 0; bits &= bits - 1) {
+      excluded |= exclusions[Long.numberOfTrailingZeros(bits)];
+    }
+    if ((excluded & winningHand.getBits()) == 0L) {
+      return winningHand;
+    }
+    return winningHand.without(excluded);
+  }
+}
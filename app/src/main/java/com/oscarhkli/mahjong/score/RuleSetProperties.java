@@ -0,0 +1,24 @@
+package com.oscarhkli.mahjong.score;
+
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Rule sets configured under scoring.rule-sets, keyed by the name requests select them by.
+ *
+ * @param ruleSets definitions of the rule sets other than {@link RuleSet#DEFAULT}
+ */
+@ConfigurationProperties("scoring")
+public record RuleSetProperties(Map<String, Definition> ruleSets) {
+
+  /**
+   * @param maxFaans cap of the total faans, 13 if absent
+   * @param faans faans overriding those of {@link WinningHandType}
+   * @param excludes Winning Hand Types removed from a hand holding the key Winning Hand Type
+   */
+  public record Definition(
+      Integer maxFaans,
+      Map<WinningHandType, Integer> faans,
+      Map<WinningHandType, List<WinningHandType>> excludes) {}
+}
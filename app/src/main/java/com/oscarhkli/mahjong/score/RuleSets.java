@@ -0,0 +1,73 @@
+package com.oscarhkli.mahjong.score;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Every rule set compiled once at start-up, {@link RuleSet#DEFAULT} first and then the configured
+ * ones by name, so that one instance serves every house-rule variant.
+ */
+public class RuleSets {
+
+  private final RuleSet[] ruleSets;
+  private final Map<String, RuleSet> ruleSetsByName = new HashMap<>();
+
+  public RuleSets(RuleSetProperties ruleSetProperties) {
+    var compiledRuleSets = new ArrayList<RuleSet>();
+    compiledRuleSets.add(RuleSet.DEFAULT);
+    var definitions =
+        new TreeMap<>(Optional.ofNullable(ruleSetProperties.ruleSets()).orElseGet(Map::of));
+    definitions.forEach(
+        (name, definition) -> {
+          if (RuleSet.DEFAULT_NAME.equals(name)) {
+            throw new IllegalArgumentException(
+                "Rule set %s is reserved for the built-in rules".formatted(name));
+          }
+          compiledRuleSets.add(
+              RuleSet.compile(
+                  compiledRuleSets.size(),
+                  name,
+                  Optional.ofNullable(definition.faans()).orElseGet(Map::of),
+                  Optional.ofNullable(definition.maxFaans()).orElse(RuleSet.DEFAULT_MAX_FAANS),
+                  Optional.ofNullable(definition.excludes()).orElseGet(Map::of)));
+        });
+    this.ruleSets = compiledRuleSets.toArray(RuleSet[]::new);
+    for (var ruleSet : ruleSets) {
+      ruleSetsByName.put(ruleSet.getName(), ruleSet);
+    }
+  }
+
+  public RuleSet get(int id) {
+    return ruleSets[id];
+  }
+
+  /**
+   * @param name name of the rule set, or null for {@link RuleSet#DEFAULT}
+   * @return the rule set, or empty if no rule set has the name
+   */
+  public Optional<RuleSet> find(String name) {
+    if (name == null) {
+      return Optional.of(RuleSet.DEFAULT);
+    }
+    return Optional.ofNullable(ruleSetsByName.get(name));
+  }
+
+  /**
+   * @return the largest max faans of any rule set
+   */
+  public int maxFaans() {
+    var maxFaans = 0;
+    for (var ruleSet : ruleSets) {
+      maxFaans = Math.max(maxFaans, ruleSet.getMaxFaans());
+    }
+    return maxFaans;
+  }
+
+  public List<String> names() {
+    return ruleSetsByName.keySet().stream().sorted().toList();
+  }
+}
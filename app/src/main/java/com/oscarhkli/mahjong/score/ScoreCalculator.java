@@ -0,0 +1,172 @@
+package com.oscarhkli.mahjong.score;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class ScoreCalculator implements ScoringEngine {
+
+  private static final WinningHand TRICK_HAND = WinningHand.of(WinningHandType.TRICK_HAND);
+
+  private final HandStructureCalculator handStructureCalculator;
+  private final BonusWinningConditionCalculator bonusWinningConditionCalculator;
+  private final WinningConditionCalculator winningConditionCalculator;
+  private final ScoringMetrics scoringMetrics;
+
+  public ScoreCalculator(
+      HandStructureCalculator handStructureCalculator,
+      BonusWinningConditionCalculator bonusWinningConditionCalculator,
+      WinningConditionCalculator winningConditionCalculator) {
+    this(
+        handStructureCalculator,
+        bonusWinningConditionCalculator,
+        winningConditionCalculator,
+        ScoringMetrics.NOOP);
+  }
+
+  @Autowired
+  public ScoreCalculator(
+      HandStructureCalculator handStructureCalculator,
+      BonusWinningConditionCalculator bonusWinningConditionCalculator,
+      WinningConditionCalculator winningConditionCalculator,
+      ScoringMetrics scoringMetrics) {
+    this.handStructureCalculator = handStructureCalculator;
+    this.bonusWinningConditionCalculator = bonusWinningConditionCalculator;
+    this.winningConditionCalculator = winningConditionCalculator;
+    this.scoringMetrics = scoringMetrics;
+  }
+
+  /**
+   * Scoring is a pure function of its arguments, so results are cached by {@link HandFingerprint}
+   * and repeated hands skip the meld deduction and bonus pipeline.<br>
+   * The melds of the hand are deduced by {@link HandStructureCalculator}, which is cached
+   * separately, so that the same hand under different winds, bonus tiles or winning conditions
+   * only repeats the cheap context phase.
+   */
+  @Cacheable(
+      cacheNames = CacheConfig.WINNING_HANDS_CACHE,
+      keyGenerator = "handFingerprintKeyGenerator")
+  @Override
+  public WinningHand calculate(
+      List<MahjongTileType> tiles,
+      ExposedMelds exposedMelds,
+      List<MahjongTileType> bonusTiles,
+      WindType windSettings,
+      WinningConditions winningConditions) {
+    return calculateWinningHands(
+        tiles, exposedMelds, bonusTiles, windSettings, winningConditions, RuleSet.DEFAULT);
+  }
+
+  /**
+   * Same as {@link #calculate(List, ExposedMelds, List, WindType, WinningConditions)}, but where
+   * the tiles can be partitioned into melds in more than one way, the partition with the most
+   * faans under the rule set is chosen. The result is cached per rule set.
+   *
+   * @param ruleSet rule set the hand is scored under
+   * @return Winning Hand before {@link RuleSet#apply(WinningHand)}
+   */
+  @Cacheable(
+      cacheNames = CacheConfig.WINNING_HANDS_CACHE,
+      keyGenerator = "handFingerprintKeyGenerator")
+  public WinningHand calculate(
+      List<MahjongTileType> tiles,
+      ExposedMelds exposedMelds,
+      List<MahjongTileType> bonusTiles,
+      WindType windSettings,
+      WinningConditions winningConditions,
+      RuleSet ruleSet) {
+    return calculateWinningHands(
+        tiles, exposedMelds, bonusTiles, windSettings, winningConditions, ruleSet);
+  }
+
+  WinningHand calculateWinningHands(
+      List<MahjongTileType> tiles,
+      ExposedMelds exposedMelds,
+      List<MahjongTileType> bonusTiles,
+      WindType windSettings,
+      WinningConditions winningConditions) {
+    return calculateWinningHands(
+        tiles, exposedMelds, bonusTiles, windSettings, winningConditions, RuleSet.DEFAULT);
+  }
+
+  WinningHand calculateWinningHands(
+      List<MahjongTileType> tiles,
+      ExposedMelds exposedMelds,
+      List<MahjongTileType> bonusTiles,
+      WindType windSettings,
+      WinningConditions winningConditions,
+      RuleSet ruleSet) {
+    var handStructure = handStructureCalculator.calculate(tiles, exposedMelds);
+
+    var start = scoringMetrics.start();
+    var bonusWinningConditions =
+        bonusWinningConditionCalculator.calculateBonusWinningHands(
+            handStructure.windMelds(),
+            handStructure.dragonMelds(),
+            bonusTiles,
+            windSettings,
+            exposedMelds);
+    scoringMetrics.stop(ScoringMetrics.Stage.BONUS, start);
+
+    if (!handStructure.isComplete()
+        && !bonusWinningConditions.contains(WinningHandType.FLOWER_HANDS)
+        && !bonusWinningConditions.contains(WinningHandType.GREAT_FLOWERS)) {
+      return TRICK_HAND;
+    }
+    start = scoringMetrics.start();
+    var winningHand =
+        constructFinalWinningHands(
+            winningConditions, exposedMelds, handStructure.winningHands(), bonusWinningConditions);
+    if (!handStructure.alternativeWinningHands().isEmpty()) {
+      // Other partitions only win when they score strictly more under the rule set
+      var faans = ruleSet.faans(ruleSet.apply(winningHand));
+      for (var alternativeWinningHands : handStructure.alternativeWinningHands()) {
+        var candidate =
+            constructFinalWinningHands(
+                winningConditions, exposedMelds, alternativeWinningHands, bonusWinningConditions);
+        var candidateFaans = ruleSet.faans(ruleSet.apply(candidate));
+        if (candidateFaans > faans) {
+          winningHand = candidate;
+          faans = candidateFaans;
+        }
+      }
+    }
+    scoringMetrics.stop(ScoringMetrics.Stage.FINAL_ASSEMBLY, start);
+    return winningHand;
+  }
+
+  WinningHand constructFinalWinningHands(
+      WinningConditions winningConditions,
+      ExposedMelds exposedMelds,
+      WinningHand winningHands,
+      WinningHand bonusWinningHands) {
+    var results = WinningHand.builder().addAll(winningHands);
+    if (exposedMelds.isEmpty()
+        && winningConditions.isSelfPick()
+        && results.contains(WinningHandType.ALL_IN_TRIPLETS)) {
+      results.remove(WinningHandType.ALL_IN_TRIPLETS);
+      results.add(WinningHandType.SELF_TRIPLETS);
+    }
+
+    results.addAll(bonusWinningHands);
+    if (results.isEmpty()) {
+      results.add(WinningHandType.CHICKEN_HAND);
+    } else if (results.size() == 2
+        && results.contains(WinningHandType.WIN_FROM_WALL)
+        && (results.contains(WinningHandType.GREAT_FLOWERS)
+            || results.contains(WinningHandType.FLOWER_HANDS))) {
+      results.remove(WinningHandType.WIN_FROM_WALL);
+    } else if (results.contains(WinningHandType.NINE_GATES)
+        || results.contains(WinningHandType.THIRTEEN_ORPHANS)) {
+      results.remove(WinningHandType.WIN_FROM_WALL);
+    }
+    results.addAll(
+        winningConditionCalculator.calculateExtraWinningHands(
+            winningConditions, winningHands, bonusWinningHands));
+    return results.build();
+  }
+}
@@ -7,14 +7,14 @@ import org.springframework.stereotype.Component;
 public class ScoreEvaluator {
 
   public int calculateScore(List<WinningHandType> winningHandTypes) {
-    if (winningHandTypes.contains(WinningHandType.TRICK_HAND)) {
+    return calculateScore(new WinningHand(winningHandTypes));
+  }
+
+  /** Sum of the scores without the cap of the faans, -1 for Trick Hand */
+  public int calculateScore(WinningHand winningHand) {
+    if (winningHand.isTrickHand()) {
       return WinningHandType.TRICK_HAND.getScore();
     }
-    var score = 0;
-    for (var winningHandType : winningHandTypes) {
-      score += winningHandType.getScore();
-    }
-    return score;
+    return winningHand.getScore();
   }
-
 }
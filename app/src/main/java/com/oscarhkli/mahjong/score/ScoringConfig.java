@@ -0,0 +1,56 @@
+package com.oscarhkli.mahjong.score;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RuleSetProperties.class)
+public class ScoringConfig {
+
+  /**
+   * Executor for scoring many hands in parallel on platform threads. Scoring is CPU bound, so the
+   * pool defaults to one worker per available processor, and stays bounded when requests are
+   * served on virtual threads.
+   *
+   * @param parallelism number of workers, or 0 for the number of available processors
+   * @return ExecutorService shared by parallel scoring
+   */
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService scoringExecutor(@Value("${scoring.parallelism:0}") int parallelism) {
+    return new ForkJoinPool(
+        parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Rule sets compiled from scoring.rule-sets, selected per request by name.
+   *
+   * @param ruleSetProperties configured rule sets
+   * @return RuleSets holding the built-in and the configured rule sets
+   */
+  @Bean
+  public RuleSets ruleSets(RuleSetProperties ruleSetProperties) {
+    return new RuleSets(ruleSetProperties);
+  }
+
+  /**
+   * Meters of the scoring stages, exported with the other actuator metrics.
+   *
+   * @param meterRegistry registry of the actuator, absent in slices without metrics
+   * @param ruleSets rule sets whose largest max faans bounds the faans histogram
+   * @return ScoringMetrics recording into the registry, or recording nothing without one
+   */
+  @Bean
+  public ScoringMetrics scoringMetrics(
+      ObjectProvider<MeterRegistry> meterRegistry, RuleSets ruleSets) {
+    var registry = meterRegistry.getIfAvailable();
+    return registry == null
+        ? ScoringMetrics.NOOP
+        : new ScoringMetrics(registry, ruleSets.maxFaans());
+  }
+}
@@ -0,0 +1,18 @@
+package com.oscarhkli.mahjong.score;
+
+import java.util.List;
+
+/**
+ * Scoring of a hand in its context.<br>
+ * {@link ScoreCalculator} is the reference engine, and any alternative engine implements the same
+ * interface so that it can be checked against it by the differential harness.
+ */
+public interface ScoringEngine {
+
+  WinningHand calculate(
+      List<MahjongTileType> tiles,
+      ExposedMelds exposedMelds,
+      List<MahjongTileType> bonusTiles,
+      WindType windSettings,
+      WinningConditions winningConditions);
+}
@@ -0,0 +1,179 @@
+package com.oscarhkli.mahjong.score;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters of the scoring pipeline, registered once so that recording is an array read.<br>
+ * Each stage of scoring and each response format has a timer, the meld construction of each
+ * Mahjong Set has its own timer and a histogram of the candidates it returns, and every scored hand
+ * counts its Winning Hand Types and adds its faans to a histogram. {@link #NOOP} records nothing
+ * and does not even read the clock, for scoring outside of the application such as enumeration and
+ * benchmarks.
+ */
+public final class ScoringMetrics {
+
+  public static final ScoringMetrics NOOP = new ScoringMetrics();
+
+  /** Stages of scoring besides meld construction, tagged in kebab case */
+  public enum Stage {
+    TILE_COUNTING,
+    PATTERN_DEDUCTION,
+    BONUS,
+    FINAL_ASSEMBLY;
+
+    String tag() {
+      return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+  }
+
+  /** Formats of a response written by the scoring API's own message converters */
+  public enum Format {
+    JSON,
+    COMPACT
+  }
+
+  private static final WinningHandType[] WINNING_HAND_TYPES = WinningHandType.values();
+  private static final MahjongSetType[] MAHJONG_SET_TYPES = MahjongSetType.values();
+
+  private final boolean enabled;
+  private final Timer[] stageTimers;
+  private final Timer[] serializationTimers;
+  private final Timer[] meldsTimers;
+  private final DistributionSummary[] candidates;
+  private final Counter[] winningHandTypes;
+  private final DistributionSummary faans;
+
+  private ScoringMetrics() {
+    this.enabled = false;
+    this.stageTimers = null;
+    this.serializationTimers = null;
+    this.meldsTimers = null;
+    this.candidates = null;
+    this.winningHandTypes = null;
+    this.faans = null;
+  }
+
+  public ScoringMetrics(MeterRegistry meterRegistry) {
+    this(meterRegistry, RuleSet.DEFAULT_MAX_FAANS);
+  }
+
+  /**
+   * @param meterRegistry registry to register the meters into
+   * @param maxFaans largest total faans of any rule set, with one faans histogram bucket up to it
+   */
+  public ScoringMetrics(MeterRegistry meterRegistry, int maxFaans) {
+    this.enabled = true;
+    var stages = Stage.values();
+    this.stageTimers = new Timer[stages.length];
+    for (var stage : stages) {
+      stageTimers[stage.ordinal()] =
+          Timer.builder("mahjong.scoring.stage")
+              .description("Time spent in a stage of scoring")
+              .tag("stage", stage.tag())
+              .register(meterRegistry);
+    }
+    var formats = Format.values();
+    this.serializationTimers = new Timer[formats.length];
+    for (var format : formats) {
+      serializationTimers[format.ordinal()] =
+          Timer.builder("mahjong.scoring.serialization")
+              .description("Time spent writing a scored hand as a response")
+              .tag("format", format.name().toLowerCase(Locale.ROOT))
+              .register(meterRegistry);
+    }
+    this.meldsTimers = new Timer[MAHJONG_SET_TYPES.length];
+    this.candidates = new DistributionSummary[MAHJONG_SET_TYPES.length];
+    for (var mahjongSetType : MAHJONG_SET_TYPES) {
+      if (MahjongConstant.BONUS.equals(mahjongSetType.getFamily())) {
+        // Bonus tiles are never arranged into melds
+        continue;
+      }
+      var set = mahjongSetType.name().toLowerCase(Locale.ROOT);
+      meldsTimers[mahjongSetType.ordinal()] =
+          Timer.builder("mahjong.scoring.melds")
+              .description("Time spent constructing the melds of a Mahjong Set")
+              .tag("set", set)
+              .register(meterRegistry);
+      candidates[mahjongSetType.ordinal()] =
+          DistributionSummary.builder("mahjong.scoring.melds.candidates")
+              .description("Melds candidates returned for a Mahjong Set")
+              .tag("set", set)
+              .serviceLevelObjectives(1, 2, 3, 4, 6, 8, 12, 16)
+              .register(meterRegistry);
+    }
+    this.winningHandTypes = new Counter[WINNING_HAND_TYPES.length];
+    for (var winningHandType : WINNING_HAND_TYPES) {
+      winningHandTypes[winningHandType.ordinal()] =
+          Counter.builder("mahjong.scoring.winning.hands")
+              .description("Winning Hand Types of the scored hands")
+              .tag("type", winningHandType.name())
+              .register(meterRegistry);
+    }
+    this.faans =
+        DistributionSummary.builder("mahjong.scoring.faans")
+            .description("Total faans of the scored hands")
+            .serviceLevelObjectives(faansBuckets(maxFaans))
+            .register(meterRegistry);
+  }
+
+  /** Every total from 1 to maxFaans, as Micrometer rejects a bucket at 0 */
+  private static double[] faansBuckets(int maxFaans) {
+    var buckets = new double[Math.max(maxFaans, 0)];
+    for (var i = 0; i < buckets.length; i++) {
+      buckets[i] = i + 1;
+    }
+    return buckets;
+  }
+
+  /**
+   * @return start time to pass to a stop method, 0 if nothing is recorded
+   */
+  public long start() {
+    return enabled ? System.nanoTime() : 0L;
+  }
+
+  public void stop(Stage stage, long startTime) {
+    if (enabled) {
+      stageTimers[stage.ordinal()].record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  public void stopSerialization(Format format, long startTime) {
+    if (enabled) {
+      serializationTimers[format.ordinal()].record(
+          System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * @param startTime start time of the construction
+   * @param candidateCount number of melds candidates or partitions constructed
+   */
+  public void stopMelds(MahjongSetType mahjongSetType, long startTime, int candidateCount) {
+    if (enabled) {
+      meldsTimers[mahjongSetType.ordinal()].record(
+          System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+      candidates[mahjongSetType.ordinal()].record(candidateCount);
+    }
+  }
+
+  /**
+   * @param winningHand Winning Hand returned to the client
+   * @param totalFaans total faans of the Winning Hand under its rule set
+   */
+  public void recordWinningHand(WinningHand winningHand, int totalFaans) {
+    if (!enabled) {
+      return;
+    }
+    for (var remaining = winningHand.getBits(); remaining != 0; remaining &= remaining - 1) {
+      var winningHandType = WINNING_HAND_TYPES[Long.numberOfTrailingZeros(remaining)];
+      winningHandTypes[winningHandType.ordinal()].increment(winningHand.count(winningHandType));
+    }
+    faans.record(totalFaans);
+  }
+}
@@ -0,0 +1,390 @@
+package com.oscarhkli.mahjong.score;
+
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shanten, i.e., the number of tiles a hand is away from waiting, 0 being a waiting hand and -1 a
+ * complete one.<br>
+ * Each Mahjong Set is summarised by the most partial sets (pairs, adjacent or gapped tiles) it
+ * can form for every number of melds, with and without an eye. Summaries are keyed by the same
+ * base-5 packed tile counts as {@link MeldsTable} and filled lazily, so that a hand is 5 lookups
+ * and a merge of their summaries. Thirteen Orphans is counted separately.
+ */
+@Component
+public class ShantenCalculator {
+
+  private static final int MAX_MELDS = 4;
+  private static final int MAX_PARTIALS = 4;
+  private static final int BITS_PER_ENTRY = 3;
+  private static final int ENTRY_MASK = (1 << BITS_PER_ENTRY) - 1;
+  private static final int IMPOSSIBLE = ENTRY_MASK;
+
+  /** Every (eye, melds) entry impossible */
+  private static final int NO_SUMMARY = (1 << (2 * (MAX_MELDS + 1) * BITS_PER_ENTRY)) - 1;
+
+  /** Lowest bit of every entry */
+  private static final int ENTRY_LOWEST_BITS = NO_SUMMARY / ENTRY_MASK;
+
+  /** Eye and melds of the entry at each bit shift */
+  private static final int[] EYE_OF_SHIFT = new int[Integer.SIZE];
+
+  private static final int[] MELDS_OF_SHIFT = new int[Integer.SIZE];
+
+  static {
+    for (var eye = 0; eye <= 1; eye++) {
+      for (var melds = 0; melds <= MAX_MELDS; melds++) {
+        EYE_OF_SHIFT[shift(eye, melds)] = eye;
+        MELDS_OF_SHIFT[shift(eye, melds)] = melds;
+      }
+    }
+  }
+
+  /** Summary of a Mahjong Set without tiles, which leaves any summary unchanged on merging */
+  private static final int EMPTY_SUMMARY = NO_SUMMARY & ~ENTRY_MASK;
+
+  /** Set on filled table slots so that an empty slot is 0 */
+  private static final int FILLED = 1 << 30;
+
+  private static final List<MahjongSetType> PLAYABLE_SET_TYPES =
+      List.of(
+          MahjongSetType.WIND,
+          MahjongSetType.DRAGON,
+          MahjongSetType.CHARACTER,
+          MahjongSetType.BAMBOO,
+          MahjongSetType.DOT);
+
+  /** The suits share a table as their summaries only depend on the tile counts */
+  private static final int[] SUITED_SUMMARIES = new int[pow5(MahjongSetType.CHARACTER.getSize())];
+
+  private static final int[] WIND_SUMMARIES = new int[pow5(MahjongSetType.WIND.getSize())];
+  private static final int[] DRAGON_SUMMARIES = new int[pow5(MahjongSetType.DRAGON.getSize())];
+
+  private static final int THIRTEEN_ORPHANS_SHANTEN = 13;
+
+  /** Honors, ones and nines */
+  private static final int[] ORPHAN_INDICES =
+      TileRegistry.orphans().stream().mapToInt(MahjongTileType::getIndex).toArray();
+
+  public int calculate(List<MahjongTileType> tiles, ExposedMelds exposedMelds) {
+    return calculate(HandVector.of(tiles), exposedMelds.size());
+  }
+
+  /**
+   * @param mahjongTiles tile counts of the concealed tiles
+   * @param exposedMeldSize number of exposed chows, pongs and kongs
+   * @return shanten of the better of regular hands and Thirteen Orphans
+   */
+  public int calculate(HandVector mahjongTiles, int exposedMeldSize) {
+    var summary = summary(MahjongSetType.WIND, mahjongTiles);
+    for (var i = 1; i < PLAYABLE_SET_TYPES.size(); i++) {
+      summary = merge(summary, summary(PLAYABLE_SET_TYPES.get(i), mahjongTiles));
+    }
+    var shanten = regularShanten(summary, exposedMeldSize);
+    if (exposedMeldSize == 0) {
+      shanten = Math.min(shanten, thirteenOrphansShanten(mahjongTiles));
+    }
+    return shanten;
+  }
+
+  /**
+   * Same as {@link #calculate(HandVector, int)} for callers keeping mutable counts, e.g.,
+   * simulations, which then do not allocate.
+   *
+   * @param tileCounts count of every playable tile, indexed by {@link MahjongTileType#getIndex()}
+   * @param exposedMeldSize number of exposed chows, pongs and kongs
+   * @return shanten of the better of regular hands and Thirteen Orphans
+   */
+  public int calculate(int[] tileCounts, int exposedMeldSize) {
+    var summary = summary(MahjongSetType.WIND, tileCounts);
+    for (var i = 1; i < PLAYABLE_SET_TYPES.size(); i++) {
+      summary = merge(summary, summary(PLAYABLE_SET_TYPES.get(i), tileCounts));
+    }
+    var shanten = regularShanten(summary, exposedMeldSize);
+    if (exposedMeldSize == 0) {
+      shanten = Math.min(shanten, thirteenOrphansShanten(tileCounts));
+    }
+    return shanten;
+  }
+
+  /**
+   * Discard leaving the lowest shanten.<br>
+   * Removing a tile only changes the summary of its Mahjong Set, so the other sets are merged once
+   * per set instead of once per discard.
+   *
+   * @param tileCounts count of every playable tile, indexed by {@link MahjongTileType#getIndex()},
+   *     left unchanged
+   * @param exposedMeldSize number of exposed chows, pongs and kongs
+   * @param preferredTile index of the tile to discard on ties, e.g., the tile just drawn
+   * @return index of the discard, the lowest one on ties without the preferred tile
+   */
+  public int bestDiscard(int[] tileCounts, int exposedMeldSize, int preferredTile) {
+    var windSummary = summary(MahjongSetType.WIND, tileCounts);
+    var dragonSummary = summary(MahjongSetType.DRAGON, tileCounts);
+    var characterSummary = summary(MahjongSetType.CHARACTER, tileCounts);
+    var bambooSummary = summary(MahjongSetType.BAMBOO, tileCounts);
+    var dotSummary = summary(MahjongSetType.DOT, tileCounts);
+
+    var bestDiscard = -1;
+    var bestShanten = Integer.MAX_VALUE;
+    for (var mahjongSetType : PLAYABLE_SET_TYPES) {
+      var otherSummary = EMPTY_SUMMARY;
+      if (mahjongSetType != MahjongSetType.WIND) {
+        otherSummary = merge(otherSummary, windSummary);
+      }
+      if (mahjongSetType != MahjongSetType.DRAGON) {
+        otherSummary = merge(otherSummary, dragonSummary);
+      }
+      if (mahjongSetType != MahjongSetType.CHARACTER) {
+        otherSummary = merge(otherSummary, characterSummary);
+      }
+      if (mahjongSetType != MahjongSetType.BAMBOO) {
+        otherSummary = merge(otherSummary, bambooSummary);
+      }
+      if (mahjongSetType != MahjongSetType.DOT) {
+        otherSummary = merge(otherSummary, dotSummary);
+      }
+      for (var index = mahjongSetType.getStartingTile().getIndex();
+          index <= mahjongSetType.getEndingTile().getIndex();
+          index++) {
+        if (tileCounts[index] == 0) {
+          continue;
+        }
+        tileCounts[index]--;
+        var shanten =
+            regularShanten(
+                merge(otherSummary, summary(mahjongSetType, tileCounts)), exposedMeldSize);
+        if (exposedMeldSize == 0) {
+          shanten = Math.min(shanten, thirteenOrphansShanten(tileCounts));
+        }
+        tileCounts[index]++;
+        if (shanten < bestShanten || (shanten == bestShanten && index == preferredTile)) {
+          bestDiscard = index;
+          bestShanten = shanten;
+        }
+      }
+    }
+    return bestDiscard;
+  }
+
+  /**
+   * 8 less 2 per meld, 1 per partial set and 1 for the eye, where melds and partial sets together
+   * cannot exceed 4 as any further partial set has no meld left to become.
+   */
+  private static int regularShanten(int summary, int exposedMeldSize) {
+    var shanten = Integer.MAX_VALUE;
+    var maxConcealedMelds = MAX_MELDS - exposedMeldSize;
+    for (var entries = possibleEntries(summary); entries != 0; entries &= entries - 1) {
+      var shift = Integer.numberOfTrailingZeros(entries);
+      var melds = MELDS_OF_SHIFT[shift];
+      if (melds > maxConcealedMelds) {
+        continue;
+      }
+      shanten =
+          Math.min(
+              shanten,
+              2 * MAX_MELDS
+                  - 2 * (melds + exposedMeldSize)
+                  - Math.min((summary >>> shift) & ENTRY_MASK, maxConcealedMelds - melds)
+                  - EYE_OF_SHIFT[shift]);
+    }
+    return shanten;
+  }
+
+  private static int thirteenOrphansShanten(HandVector mahjongTiles) {
+    var pairs =
+        mahjongTiles.orphansWithCount(2)
+            + mahjongTiles.orphansWithCount(3)
+            + mahjongTiles.orphansWithCount(4);
+    var distinctOrphans = mahjongTiles.orphansWithCount(1) + pairs;
+    return THIRTEEN_ORPHANS_SHANTEN - distinctOrphans - (pairs > 0 ? 1 : 0);
+  }
+
+  private static int thirteenOrphansShanten(int[] tileCounts) {
+    var distinctOrphans = 0;
+    var hasPair = false;
+    for (var orphanIndex : ORPHAN_INDICES) {
+      if (tileCounts[orphanIndex] > 0) {
+        distinctOrphans++;
+        hasPair |= tileCounts[orphanIndex] >= 2;
+      }
+    }
+    return THIRTEEN_ORPHANS_SHANTEN - distinctOrphans - (hasPair ? 1 : 0);
+  }
+
+  private static int summary(MahjongSetType mahjongSetType, HandVector mahjongTiles) {
+    return summary(mahjongSetType, mahjongTiles.suitKey(mahjongSetType));
+  }
+
+  private static int summary(MahjongSetType mahjongSetType, int[] tileCounts) {
+    return summary(
+        mahjongSetType,
+        MeldsTable.pack(
+            tileCounts, mahjongSetType.getStartingTile().getIndex(), mahjongSetType.getSize()));
+  }
+
+  private static int summary(MahjongSetType mahjongSetType, int key) {
+    if (key == MeldsTable.NOT_PACKABLE) {
+      throw new IllegalArgumentException(
+          "Too many tiles of a kind in %s".formatted(mahjongSetType));
+    }
+    var summaries =
+        switch (mahjongSetType) {
+          case WIND -> WIND_SUMMARIES;
+          case DRAGON -> DRAGON_SUMMARIES;
+          default -> SUITED_SUMMARIES;
+        };
+    var summary = summaries[key];
+    if (summary == 0) {
+      // Racing threads compute the same value, and int writes are atomic
+      summary = summarise(key, mahjongSetType) | FILLED;
+      summaries[key] = summary;
+    }
+    return summary & ~FILLED;
+  }
+
+  /** Best summary of the combinations of an entry of each summary */
+  private static int merge(int summaryA, int summaryB) {
+    if (summaryB == EMPTY_SUMMARY) {
+      return summaryA;
+    }
+    if (summaryA == EMPTY_SUMMARY) {
+      return summaryB;
+    }
+    var merged = NO_SUMMARY;
+    var possibleEntriesB = possibleEntries(summaryB);
+    for (var entriesA = possibleEntries(summaryA); entriesA != 0; entriesA &= entriesA - 1) {
+      var shiftA = Integer.numberOfTrailingZeros(entriesA);
+      var partialsA = (summaryA >>> shiftA) & ENTRY_MASK;
+      for (var entriesB = possibleEntriesB; entriesB != 0; entriesB &= entriesB - 1) {
+        var shiftB = Integer.numberOfTrailingZeros(entriesB);
+        var eye = EYE_OF_SHIFT[shiftA] + EYE_OF_SHIFT[shiftB];
+        var melds = MELDS_OF_SHIFT[shiftA] + MELDS_OF_SHIFT[shiftB];
+        if (eye > 1 || melds > MAX_MELDS) {
+          continue;
+        }
+        merged =
+            withBestEntry(
+                merged,
+                eye,
+                melds,
+                Math.min(partialsA + ((summaryB >>> shiftB) & ENTRY_MASK), MAX_PARTIALS));
+      }
+    }
+    return merged;
+  }
+
+  /**
+   * @return the lowest bit of every entry that is not {@link #IMPOSSIBLE}, i.e., not all ones
+   */
+  private static int possibleEntries(int summary) {
+    return ~(summary & (summary >>> 1) & (summary >>> 2)) & ENTRY_LOWEST_BITS;
+  }
+
+  private static int summarise(int key, MahjongSetType mahjongSetType) {
+    var tileCounts = new int[mahjongSetType.getSize()];
+    for (var i = 0; i < tileCounts.length; i++) {
+      tileCounts[i] = key % 5;
+      key /= 5;
+    }
+    var summary = new int[] {NO_SUMMARY};
+    summarise(
+        tileCounts,
+        0,
+        TileRegistry.isSuited(mahjongSetType),
+        0,
+        0,
+        0,
+        summary);
+    return summary[0];
+  }
+
+  /**
+   * Take apart the lowest remaining tile as a meld, an eye, a partial set or an isolated tile, and
+   * record the counts once every tile is taken.
+   */
+  private static void summarise(
+      int[] tileCounts,
+      int index,
+      boolean suited,
+      int eye,
+      int melds,
+      int partials,
+      int[] summary) {
+    while (index < tileCounts.length && tileCounts[index] == 0) {
+      index++;
+    }
+    if (index == tileCounts.length) {
+      summary[0] =
+          withBestEntry(
+              summary[0], eye, Math.min(melds, MAX_MELDS), Math.min(partials, MAX_PARTIALS));
+      return;
+    }
+    var hasNext = suited && index + 1 < tileCounts.length && tileCounts[index + 1] > 0;
+    var hasNextButOne = suited && index + 2 < tileCounts.length && tileCounts[index + 2] > 0;
+    if (tileCounts[index] >= 3) {
+      tileCounts[index] -= 3;
+      summarise(tileCounts, index, suited, eye, melds + 1, partials, summary);
+      tileCounts[index] += 3;
+    }
+    if (hasNext && hasNextButOne) {
+      take(tileCounts, index, 1, -1);
+      tileCounts[index + 2]--;
+      summarise(tileCounts, index, suited, eye, melds + 1, partials, summary);
+      take(tileCounts, index, 1, 1);
+      tileCounts[index + 2]++;
+    }
+    if (tileCounts[index] >= 2) {
+      tileCounts[index] -= 2;
+      if (eye == 0) {
+        summarise(tileCounts, index, suited, 1, melds, partials, summary);
+      }
+      summarise(tileCounts, index, suited, eye, melds, partials + 1, summary);
+      tileCounts[index] += 2;
+    }
+    if (hasNext) {
+      take(tileCounts, index, 1, -1);
+      summarise(tileCounts, index, suited, eye, melds, partials + 1, summary);
+      take(tileCounts, index, 1, 1);
+    }
+    if (hasNextButOne) {
+      take(tileCounts, index, 2, -1);
+      summarise(tileCounts, index, suited, eye, melds, partials + 1, summary);
+      take(tileCounts, index, 2, 1);
+    }
+    tileCounts[index]--;
+    summarise(tileCounts, index, suited, eye, melds, partials, summary);
+    tileCounts[index]++;
+  }
+
+  /** Add delta to the tile at index and to the one distance after it */
+  private static void take(int[] tileCounts, int index, int distance, int delta) {
+    tileCounts[index] += delta;
+    tileCounts[index + distance] += delta;
+  }
+
+  private static int entry(int summary, int eye, int melds) {
+    return (summary >>> shift(eye, melds)) & ENTRY_MASK;
+  }
+
+  private static int withBestEntry(int summary, int eye, int melds, int partials) {
+    var current = entry(summary, eye, melds);
+    if (current != IMPOSSIBLE && current >= partials) {
+      return summary;
+    }
+    var shift = shift(eye, melds);
+    return (summary & ~(ENTRY_MASK << shift)) | (partials << shift);
+  }
+
+  private static int shift(int eye, int melds) {
+    return (eye * (MAX_MELDS + 1) + melds) * BITS_PER_ENTRY;
+  }
+
+  private static int pow5(int exponent) {
+    var power = 1;
+    for (var i = 0; i < exponent; i++) {
+      power *= 5;
+    }
+    return power;
+  }
+}
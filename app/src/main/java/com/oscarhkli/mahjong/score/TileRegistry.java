@@ -0,0 +1,144 @@
+package com.oscarhkli.mahjong.score;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Facts about every tile looked up by {@link MahjongTileType#getIndex()} in constant time, so that
+ * scoring neither scans nor clones the enum values, nor compares the families of Mahjong Sets.<br>
+ * The tables are built once from {@link MahjongSetType} and never handed out, so they stay
+ * immutable. Lists of tiles are unmodifiable and in tile order.
+ */
+public final class TileRegistry {
+
+  /** Tiles of the hand, i.e., every tile but the Flowers and Seasons */
+  public static final int PLAYABLE_TILE_TYPES = MahjongTileType.F1.getIndex();
+
+  private static final MahjongTileType[] TILES = new MahjongTileType[MahjongConstant.MAHJONG_TYPES];
+  private static final MahjongSetType[] SET_TYPES =
+      new MahjongSetType[MahjongConstant.MAHJONG_TYPES];
+
+  /** 1-based position of each tile in its Mahjong Set */
+  private static final int[] RANKS = new int[MahjongConstant.MAHJONG_TYPES];
+
+  private static final boolean[] SUITED = new boolean[MahjongSetType.values().length];
+  private static final boolean[] TERMINALS = new boolean[MahjongConstant.MAHJONG_TYPES];
+  private static final boolean[] HONORS = new boolean[MahjongConstant.MAHJONG_TYPES];
+  private static final boolean[] CHOW_STARTS = new boolean[MahjongConstant.MAHJONG_TYPES];
+
+  @SuppressWarnings("unchecked")
+  private static final List<MahjongTileType>[] CHOW_STARTS_BY_SET =
+      new List[MahjongSetType.values().length];
+
+  @SuppressWarnings("unchecked")
+  private static final List<MahjongTileType>[] TERMINALS_BY_SET =
+      new List[MahjongSetType.values().length];
+
+  private static final List<MahjongTileType> ORPHANS;
+
+  static {
+    for (var tile : MahjongTileType.values()) {
+      TILES[tile.getIndex()] = tile;
+    }
+    var orphans = new ArrayList<MahjongTileType>();
+    for (var mahjongSetType : MahjongSetType.values()) {
+      var isSuited = MahjongConstant.SUITED.equals(mahjongSetType.getFamily());
+      var isHonor = MahjongConstant.HONOR.equals(mahjongSetType.getFamily());
+      SUITED[mahjongSetType.ordinal()] = isSuited;
+      var chowStarts = new ArrayList<MahjongTileType>();
+      var terminals = new ArrayList<MahjongTileType>();
+      var startingIndex = mahjongSetType.getStartingTile().getIndex();
+      for (var rank = 1; rank <= mahjongSetType.getSize(); rank++) {
+        var index = startingIndex + rank - 1;
+        SET_TYPES[index] = mahjongSetType;
+        RANKS[index] = rank;
+        HONORS[index] = isHonor;
+        TERMINALS[index] = isSuited && (rank == 1 || rank == mahjongSetType.getSize());
+        CHOW_STARTS[index] = isSuited && rank <= mahjongSetType.getSize() - 2;
+        if (CHOW_STARTS[index]) {
+          chowStarts.add(TILES[index]);
+        }
+        if (TERMINALS[index]) {
+          terminals.add(TILES[index]);
+        }
+        if (TERMINALS[index] || HONORS[index]) {
+          orphans.add(TILES[index]);
+        }
+      }
+      CHOW_STARTS_BY_SET[mahjongSetType.ordinal()] = List.copyOf(chowStarts);
+      TERMINALS_BY_SET[mahjongSetType.ordinal()] = List.copyOf(terminals);
+    }
+    ORPHANS = List.copyOf(orphans);
+  }
+
+  private TileRegistry() {}
+
+  /**
+   * @param index index of a tile
+   * @return the tile, or null if no tile has the index
+   */
+  public static MahjongTileType tile(int index) {
+    return index >= 0 && index < TILES.length ? TILES[index] : null;
+  }
+
+  /**
+   * @param mahjongSetType Mahjong Set Type
+   * @param rank 1-based position of the tile in the Mahjong Set
+   * @return the tile
+   */
+  public static MahjongTileType tile(MahjongSetType mahjongSetType, int rank) {
+    return TILES[mahjongSetType.getStartingTile().getIndex() + rank - 1];
+  }
+
+  public static MahjongSetType setType(MahjongTileType tile) {
+    return SET_TYPES[tile.getIndex()];
+  }
+
+  public static int rank(MahjongTileType tile) {
+    return RANKS[tile.getIndex()];
+  }
+
+  public static boolean isSuited(MahjongSetType mahjongSetType) {
+    return SUITED[mahjongSetType.ordinal()];
+  }
+
+  /** Whether the tile is a one or a nine of a suit */
+  public static boolean isTerminal(MahjongTileType tile) {
+    return TERMINALS[tile.getIndex()];
+  }
+
+  public static boolean isHonor(MahjongTileType tile) {
+    return HONORS[tile.getIndex()];
+  }
+
+  /** Whether the tile is a terminal or an honor */
+  public static boolean isOrphan(MahjongTileType tile) {
+    return TERMINALS[tile.getIndex()] || HONORS[tile.getIndex()];
+  }
+
+  /** Whether a Chow can start from the tile */
+  public static boolean isChowStart(MahjongTileType tile) {
+    return CHOW_STARTS[tile.getIndex()];
+  }
+
+  /**
+   * @return starting tiles of the Chows of the Mahjong Set, empty for non-suited sets
+   */
+  public static List<MahjongTileType> chowStarts(MahjongSetType mahjongSetType) {
+    return CHOW_STARTS_BY_SET[mahjongSetType.ordinal()];
+  }
+
+  /**
+   * @return the one and the nine of the Mahjong Set, empty for non-suited sets
+   */
+  public static List<MahjongTileType> terminals(MahjongSetType mahjongSetType) {
+    return TERMINALS_BY_SET[mahjongSetType.ordinal()];
+  }
+
+  /**
+   * @return the 13 terminals and honors
+   */
+  public static List<MahjongTileType> orphans() {
+    return ORPHANS;
+  }
+}
@@ -0,0 +1,72 @@
+package com.oscarhkli.mahjong.score;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/** Waiting tiles of a hand one tile short of Mahjong and what each of them would score. */
+@Slf4j
+@AllArgsConstructor
+@Service
+public class WaitCalculator {
+
+  private final HandStructureCalculator handStructureCalculator;
+  private final ScoreCalculator scoreCalculator;
+
+  /**
+   * Winning tiles are found by {@link HandStructureCalculator#deduceWinningTiles}, so only the
+   * tiles that actually complete the hand are scored in full.
+   *
+   * @param tiles concealed tiles of the waiting hand
+   * @param exposedMelds exposed melds of the waiting hand
+   * @param bonusTiles bonus tiles of the waiting hand
+   * @param windSettings wind settings
+   * @param winningConditions winning conditions applied to every winning tile
+   * @return every winning tile with its Winning Hand, in tile order
+   */
+  public List<Wait> calculate(
+      List<MahjongTileType> tiles,
+      ExposedMelds exposedMelds,
+      List<MahjongTileType> bonusTiles,
+      WindType windSettings,
+      WinningConditions winningConditions) {
+    return calculate(
+        tiles, exposedMelds, bonusTiles, windSettings, winningConditions, RuleSet.DEFAULT);
+  }
+
+  /**
+   * @param ruleSet rule set choosing between the meld partitions of each winning tile
+   * @return every winning tile with its Winning Hand, in tile order
+   */
+  public List<Wait> calculate(
+      List<MahjongTileType> tiles,
+      ExposedMelds exposedMelds,
+      List<MahjongTileType> bonusTiles,
+      WindType windSettings,
+      WinningConditions winningConditions,
+      RuleSet ruleSet) {
+    var waits = new ArrayList<Wait>();
+    for (var winningTile : handStructureCalculator.deduceWinningTiles(tiles, exposedMelds)) {
+      var winningTiles = new ArrayList<MahjongTileType>(tiles.size() + 1);
+      winningTiles.addAll(tiles);
+      winningTiles.add(winningTile);
+      var winningHand =
+          scoreCalculator.calculate(
+              winningTiles, exposedMelds, bonusTiles, windSettings, winningConditions, ruleSet);
+      if (winningHand.isTrickHand()) {
+        log.warn("Winning tile {} scored as Trick Hand", winningTile);
+        continue;
+      }
+      waits.add(new Wait(winningTile, winningHand));
+    }
+    return waits;
+  }
+
+  /**
+   * @param tile tile completing the hand
+   * @param winningHand Winning Hand with that tile
+   */
+  public record Wait(MahjongTileType tile, WinningHand winningHand) {}
+}
@@ -1,7 +1,5 @@
 package com.oscarhkli.mahjong.score;
 
-import java.util.ArrayList;
-import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -9,11 +7,9 @@ import org.springframework.stereotype.Component;
 @Component
 public class WinningConditionCalculator {
 
-  public List<WinningHandType> calculateExtraWinningHands(
-      WinningConditions winningConditions,
-      List<WinningHandType> winningHands,
-      List<WinningHandType> bonusWinningHands) {
-    var extraWinningHands = new ArrayList<WinningHandType>();
+  public WinningHand calculateExtraWinningHands(
+      WinningConditions winningConditions, WinningHand winningHands, WinningHand bonusWinningHands) {
+    var extraWinningHands = WinningHand.builder();
     var isAllKongs = winningHands.contains(WinningHandType.ALL_KONGS);
     if (winningConditions.isWinByKong() && !isAllKongs) {
       extraWinningHands.add(WinningHandType.WIN_BY_KONG);
@@ -29,7 +25,7 @@ public class WinningConditionCalculator {
     }
     var isWinByFlowersOnly = isWinByFlowersOnly(winningHands, bonusWinningHands);
     if (winningConditions.isSelfPick()) {
-      if (winningHands.stream().anyMatch(WinningHandType::isLimitHand) || isWinByFlowersOnly) {
+      if (winningHands.hasLimitHand() || isWinByFlowersOnly) {
         extraWinningHands.add(WinningHandType.SELF_PICK_WITHOUT_EXTRA_FAAN);
       } else {
         extraWinningHands.add(WinningHandType.SELF_PICK);
@@ -41,11 +37,11 @@ public class WinningConditionCalculator {
       }
     }
 
-    return extraWinningHands;
+    return extraWinningHands.build();
   }
 
   private static boolean isWinByFlowersOnly(
-      List<WinningHandType> winningHands, List<WinningHandType> bonusWinningHands) {
+      WinningHand winningHands, WinningHand bonusWinningHands) {
     return winningHands.isEmpty()
         && (bonusWinningHands.contains(WinningHandType.GREAT_FLOWERS)
             || bonusWinningHands.contains(WinningHandType.FLOWER_HANDS));
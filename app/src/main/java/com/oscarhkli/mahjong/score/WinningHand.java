@@ -0,0 +1,263 @@
+package com.oscarhkli.mahjong.score;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Winning Hand Types of a hand as a bitset of {@link WinningHandType} ordinals.<br>
+ * A Meld of Dragon and Flower/Season Of Own Wind are the only Winning Hand Types that can occur
+ * more than once, so their counts are kept in a small multiplicity array. The sum of the scores is
+ * computed once on construction.<br>
+ * {@link #getWinningHandTypes()} lists the Winning Hand Types in the order the scoring pipeline
+ * deduces them, i.e., structure, bonus tiles and then winning conditions, whatever order they were
+ * added in.
+ */
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public final class WinningHand {
+
+  /** Order of {@link #getWinningHandTypes()}, covering every Winning Hand Type */
+  static final WinningHandType[] REPORT_ORDER = {
+    WinningHandType.ALL_KONGS,
+    WinningHandType.THIRTEEN_ORPHANS,
+    WinningHandType.NINE_GATES,
+    WinningHandType.GREAT_WINDS,
+    WinningHandType.ALL_HONOR_TILES,
+    WinningHandType.ORPHANS,
+    WinningHandType.COMMON_HAND,
+    WinningHandType.ALL_IN_TRIPLETS,
+    WinningHandType.MIXED_ORPHANS,
+    WinningHandType.SMALL_WINDS,
+    WinningHandType.GREAT_DRAGON,
+    WinningHandType.SMALL_DRAGON,
+    WinningHandType.ALL_ONE_SUIT,
+    WinningHandType.MIXED_ONE_SUIT,
+    WinningHandType.SELF_TRIPLETS,
+    WinningHandType.WIN_FROM_WALL,
+    WinningHandType.PREVAILING_WIND,
+    WinningHandType.SEAT_WIND,
+    WinningHandType.ONE_DRAGON,
+    WinningHandType.GREAT_FLOWERS,
+    WinningHandType.FLOWER_HANDS,
+    WinningHandType.NO_FLOWERS,
+    WinningHandType.ALL_FLOWERS,
+    WinningHandType.FLOWER_OF_OWN_WIND,
+    WinningHandType.CHICKEN_HAND,
+    WinningHandType.WIN_BY_KONG,
+    WinningHandType.WIN_BY_DOUBLE_KONG,
+    WinningHandType.WIN_BY_LAST_CATCH,
+    WinningHandType.ROBBING_KONG,
+    WinningHandType.SELF_PICK_WITHOUT_EXTRA_FAAN,
+    WinningHandType.SELF_PICK,
+    WinningHandType.TRICK_HAND,
+  };
+
+  private static final WinningHandType[] WINNING_HAND_TYPES = WinningHandType.values();
+
+  private static final WinningHandType[] REPEATABLES = {
+    WinningHandType.ONE_DRAGON, WinningHandType.FLOWER_OF_OWN_WIND
+  };
+
+  /** Index in {@link #REPEATABLES} by ordinal, -1 if the Winning Hand Type is not repeatable */
+  private static final int[] REPEATABLE_SLOTS = new int[WINNING_HAND_TYPES.length];
+
+  private static final long LIMIT_HANDS;
+
+  static {
+    Arrays.fill(REPEATABLE_SLOTS, -1);
+    for (var slot = 0; slot < REPEATABLES.length; slot++) {
+      REPEATABLE_SLOTS[REPEATABLES[slot].ordinal()] = slot;
+    }
+    var limitHands = 0L;
+    for (var winningHandType : WINNING_HAND_TYPES) {
+      limitHands |= winningHandType.isLimitHand() ? bit(winningHandType) : 0L;
+    }
+    LIMIT_HANDS = limitHands;
+  }
+
+  public static final WinningHand EMPTY = new WinningHand(0L, new byte[REPEATABLES.length]);
+
+  /** Bitset of the ordinals of the Winning Hand Types */
+  @Getter @EqualsAndHashCode.Include private final long bits;
+
+  /** Count of each repeatable Winning Hand Type, 0 if absent */
+  @EqualsAndHashCode.Include private final byte[] multiplicities;
+
+  /** Sum of the scores of the Winning Hand Types, without the cap of the faans */
+  @Getter private final int score;
+
+  /** Built on first use, a benign race as the list is immutable */
+  private List<WinningHandType> winningHandTypes;
+
+  public WinningHand(Collection<WinningHandType> winningHandTypes) {
+    this(builder().addAll(winningHandTypes));
+  }
+
+  private WinningHand(Builder builder) {
+    this(builder.bits, builder.multiplicities.clone());
+  }
+
+  private WinningHand(long bits, byte[] multiplicities) {
+    this.bits = bits;
+    this.multiplicities = multiplicities;
+    var score = 0;
+    for (var remaining = bits; remaining != 0; remaining &= remaining - 1) {
+      var winningHandType = WINNING_HAND_TYPES[Long.numberOfTrailingZeros(remaining)];
+      score += winningHandType.getScore() * count(winningHandType);
+    }
+    this.score = score;
+  }
+
+  public static WinningHand of(WinningHandType... winningHandTypes) {
+    return new WinningHand(List.of(winningHandTypes));
+  }
+
+  /**
+   * @param bits bitset of the ordinals of Winning Hand Types, each occurring once
+   * @return Winning Hand of the Winning Hand Types
+   */
+  static WinningHand of(long bits) {
+    var multiplicities = new byte[REPEATABLES.length];
+    for (var slot = 0; slot < REPEATABLES.length; slot++) {
+      multiplicities[slot] = (byte) ((bits & bit(REPEATABLES[slot])) == 0 ? 0 : 1);
+    }
+    return new WinningHand(bits, multiplicities);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  static long bit(WinningHandType winningHandType) {
+    return 1L << winningHandType.ordinal();
+  }
+
+  public boolean contains(WinningHandType winningHandType) {
+    return (bits & bit(winningHandType)) != 0;
+  }
+
+  public int count(WinningHandType winningHandType) {
+    if (!contains(winningHandType)) {
+      return 0;
+    }
+    var slot = REPEATABLE_SLOTS[winningHandType.ordinal()];
+    return slot < 0 ? 1 : multiplicities[slot];
+  }
+
+  public boolean isEmpty() {
+    return bits == 0;
+  }
+
+  public boolean isTrickHand() {
+    return contains(WinningHandType.TRICK_HAND);
+  }
+
+  public boolean hasLimitHand() {
+    return (bits & LIMIT_HANDS) != 0;
+  }
+
+  /**
+   * @param excluded bitset of the ordinals of Winning Hand Types to remove
+   * @return this Winning Hand without the excluded Winning Hand Types
+   */
+  WinningHand without(long excluded) {
+    var multiplicities = this.multiplicities.clone();
+    for (var slot = 0; slot < REPEATABLES.length; slot++) {
+      if ((excluded & bit(REPEATABLES[slot])) != 0) {
+        multiplicities[slot] = 0;
+      }
+    }
+    return new WinningHand(bits & ~excluded, multiplicities);
+  }
+
+  /** Total faans under {@link RuleSet#DEFAULT} */
+  public int getFaans() {
+    return RuleSet.DEFAULT.faans(this);
+  }
+
+  public List<WinningHandType> getWinningHandTypes() {
+    var winningHandTypes = this.winningHandTypes;
+    if (winningHandTypes == null) {
+      var types = new ArrayList<WinningHandType>(Long.bitCount(bits));
+      for (var winningHandType : REPORT_ORDER) {
+        for (var i = count(winningHandType); i > 0; i--) {
+          types.add(winningHandType);
+        }
+      }
+      winningHandTypes = List.copyOf(types);
+      this.winningHandTypes = winningHandTypes;
+    }
+    return winningHandTypes;
+  }
+
+  @Override
+  public String toString() {
+    return "WinningHand(winningHandTypes=" + getWinningHandTypes() + ")";
+  }
+
+  /** Mutable Winning Hand for the scoring pipeline to add and remove Winning Hand Types. */
+  public static final class Builder {
+
+    private long bits;
+    private final byte[] multiplicities = new byte[REPEATABLES.length];
+
+    private Builder() {}
+
+    public Builder add(WinningHandType winningHandType) {
+      bits |= bit(winningHandType);
+      var slot = REPEATABLE_SLOTS[winningHandType.ordinal()];
+      if (slot >= 0) {
+        multiplicities[slot]++;
+      }
+      return this;
+    }
+
+    public Builder addAll(Collection<WinningHandType> winningHandTypes) {
+      for (var winningHandType : winningHandTypes) {
+        add(winningHandType);
+      }
+      return this;
+    }
+
+    public Builder addAll(WinningHand winningHand) {
+      bits |= winningHand.bits;
+      for (var slot = 0; slot < REPEATABLES.length; slot++) {
+        multiplicities[slot] += winningHand.multiplicities[slot];
+      }
+      return this;
+    }
+
+    public Builder remove(WinningHandType winningHandType) {
+      bits &= ~bit(winningHandType);
+      var slot = REPEATABLE_SLOTS[winningHandType.ordinal()];
+      if (slot >= 0) {
+        multiplicities[slot] = 0;
+      }
+      return this;
+    }
+
+    public boolean contains(WinningHandType winningHandType) {
+      return (bits & bit(winningHandType)) != 0;
+    }
+
+    public boolean isEmpty() {
+      return bits == 0;
+    }
+
+    /** Number of Winning Hand Types, counting repeats */
+    public int size() {
+      var size = Long.bitCount(bits);
+      for (var multiplicity : multiplicities) {
+        size += Math.max(multiplicity - 1, 0);
+      }
+      return size;
+    }
+
+    public WinningHand build() {
+      return bits == 0 ? EMPTY : new WinningHand(this);
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package com.oscarhkli.mahjong.score.api;
+
+import com.oscarhkli.mahjong.score.ExposedMelds;
+import com.oscarhkli.mahjong.score.MahjongTileType;
+import com.oscarhkli.mahjong.score.ScoringMetrics;
+import com.oscarhkli.mahjong.score.TileRegistry;
+import com.oscarhkli.mahjong.score.WindType;
+import com.oscarhkli.mahjong.score.WinningConditions;
+import com.oscarhkli.mahjong.score.WinningHandType;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compact binary format of {@link WinningHandRequest} and {@link WinningHandResponse}, where a tile
+ * is one byte of {@link MahjongTileType#getIndex()}.<br>
+ * A request is, in order, each list being a byte of its size followed by its tiles:
+ *
+ * <ul>
+ *   <li>hand tiles, then the chows, pongs and kongs of the exposed melds, then the bonus tiles
+ *   <li>a byte each for the prevailing and the seat wind
+ *   <li>a byte of winning condition flags, from bit 0: self pick, win by last catch, robbing kong,
+ *       win by kong and win by double kong
+ *   <li>a byte of the length of the ASCII rule set name, 0 for the default, followed by the name
+ * </ul>
+ *
+ * A response is 8 bytes of the Winning Hand Types as a big-endian bitset of {@link
+ * WinningHandType} ordinals, a byte each for the counts of One Dragon and Flower of Own Wind, and 2
+ * bytes of the total faans. Clients therefore depend on the order of WinningHandType.
+ */
+@Component
+public class CompactWinningHandMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+  public static final String MEDIA_TYPE_VALUE = "application/vnd.mahjong.compact";
+  public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+  private static final int SELF_PICK = 1;
+  private static final int WIN_BY_LAST_CATCH = 1 << 1;
+  private static final int ROBBING_KONG = 1 << 2;
+  private static final int WIN_BY_KONG = 1 << 3;
+  private static final int WIN_BY_DOUBLE_KONG = 1 << 4;
+
+  /** Size of a response */
+  static final int RESPONSE_SIZE = Long.BYTES + 2 + Short.BYTES;
+
+  private final ScoringMetrics scoringMetrics;
+
+  public CompactWinningHandMessageConverter() {
+    this(ScoringMetrics.NOOP);
+  }
+
+  @Autowired
+  public CompactWinningHandMessageConverter(ObjectProvider<ScoringMetrics> scoringMetrics) {
+    this(scoringMetrics.getIfAvailable(() -> ScoringMetrics.NOOP));
+  }
+
+  private CompactWinningHandMessageConverter(ScoringMetrics scoringMetrics) {
+    super(MEDIA_TYPE);
+    this.scoringMetrics = scoringMetrics;
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return WinningHandRequest.class == clazz || WinningHandResponse.class == clazz;
+  }
+
+  @Override
+  public boolean canRead(Class<?> clazz, MediaType mediaType) {
+    return WinningHandRequest.class == clazz && canRead(mediaType);
+  }
+
+  @Override
+  public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+    return WinningHandResponse.class == clazz && canWrite(mediaType);
+  }
+
+  @Override
+  protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+    var input = new DataInputStream(inputMessage.getBody());
+    try {
+      var handTiles = readTiles(input, inputMessage);
+      var exposedMelds =
+          new ExposedMelds(
+              readTiles(input, inputMessage),
+              readTiles(input, inputMessage),
+              readTiles(input, inputMessage));
+      var bonusTiles = readTiles(input, inputMessage);
+      var wind = new WindType(readTile(input, inputMessage), readTile(input, inputMessage));
+      var flags = input.readUnsignedByte();
+      var winningConditions =
+          new WinningConditions(
+              (flags & SELF_PICK) != 0,
+              (flags & WIN_BY_LAST_CATCH) != 0,
+              (flags & ROBBING_KONG) != 0,
+              (flags & WIN_BY_KONG) != 0,
+              (flags & WIN_BY_DOUBLE_KONG) != 0);
+      var ruleSetLength = input.readUnsignedByte();
+      var ruleSet =
+          ruleSetLength == 0
+              ? null
+              : new String(input.readNBytes(ruleSetLength), StandardCharsets.US_ASCII);
+      if ((ruleSet != null && ruleSet.length() < ruleSetLength) || input.read() != -1) {
+        throw new HttpMessageNotReadableException(
+            "Compact request does not match its sizes", inputMessage);
+      }
+      return new WinningHandRequest(
+          handTiles, exposedMelds, bonusTiles, wind, winningConditions, ruleSet);
+    } catch (EOFException e) {
+      throw new HttpMessageNotReadableException("Compact request is truncated", e, inputMessage);
+    }
+  }
+
+  /**
+   * @return winning condition flags of a compact request
+   */
+  static int flags(WinningConditions winningConditions) {
+    return (winningConditions.isSelfPick() ? SELF_PICK : 0)
+        | (winningConditions.isWinByLastCatch() ? WIN_BY_LAST_CATCH : 0)
+        | (winningConditions.isRobbingKong() ? ROBBING_KONG : 0)
+        | (winningConditions.isWinByKong() ? WIN_BY_KONG : 0)
+        | (winningConditions.isWinByDoubleKong() ? WIN_BY_DOUBLE_KONG : 0);
+  }
+
+  private static List<MahjongTileType> readTiles(
+      DataInputStream input, HttpInputMessage inputMessage) throws IOException {
+    var size = input.readUnsignedByte();
+    var tiles = new ArrayList<MahjongTileType>(size);
+    for (var i = 0; i < size; i++) {
+      tiles.add(readTile(input, inputMessage));
+    }
+    return tiles;
+  }
+
+  private static MahjongTileType readTile(DataInputStream input, HttpInputMessage inputMessage)
+      throws IOException {
+    var index = input.readUnsignedByte();
+    var tile = TileRegistry.tile(index);
+    if (tile == null) {
+      throw new HttpMessageNotReadableException("Unknown tile index " + index, inputMessage);
+    }
+    return tile;
+  }
+
+  @Override
+  protected void writeInternal(Object response, HttpOutputMessage outputMessage)
+      throws IOException {
+    var start = scoringMetrics.start();
+    var breakDown = ((WinningHandResponse) response).getData();
+    var bits = 0L;
+    var oneDragons = 0;
+    var flowersOfOwnWind = 0;
+    for (var winningHandDescription : breakDown.getWinningHands()) {
+      var winningHandType = winningHandDescription.getType();
+      bits |= 1L << winningHandType.ordinal();
+      oneDragons += winningHandType == WinningHandType.ONE_DRAGON ? 1 : 0;
+      flowersOfOwnWind += winningHandType == WinningHandType.FLOWER_OF_OWN_WIND ? 1 : 0;
+    }
+    var bytes = new ByteArrayOutputStream(RESPONSE_SIZE);
+    var output = new DataOutputStream(bytes);
+    output.writeLong(bits);
+    output.writeByte(oneDragons);
+    output.writeByte(flowersOfOwnWind);
+    output.writeShort(breakDown.getTotalFaans());
+    bytes.writeTo(outputMessage.getBody());
+    scoringMetrics.stopSerialization(ScoringMetrics.Format.COMPACT, start);
+  }
+
+  @Override
+  protected Long getContentLength(Object response, MediaType contentType) {
+    return (long) RESPONSE_SIZE;
+  }
+}
@@ -0,0 +1,52 @@
+package com.oscarhkli.mahjong.score.api;
+
+import com.oscarhkli.mahjong.score.DiscardCalculator;
+import com.oscarhkli.mahjong.score.MahjongTileType;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class DiscardingHandResponse {
+
+  List<Discard> data;
+
+  public static DiscardingHandResponse of(List<DiscardCalculator.Discard> discards) {
+    return DiscardingHandResponse.builder()
+        .data(discards.stream().map(Discard::of).toList())
+        .build();
+  }
+
+  @Value
+  @Builder
+  static class Discard {
+    MahjongTileType tile;
+    int shanten;
+    int liveTiles;
+    List<ImprovingTile> improvingTiles;
+
+    public static Discard of(DiscardCalculator.Discard discard) {
+      return Discard.builder()
+          .tile(discard.tile())
+          .shanten(discard.shanten())
+          .liveTiles(discard.liveTiles())
+          .improvingTiles(discard.improvingTiles().stream().map(ImprovingTile::of).toList())
+          .build();
+    }
+  }
+
+  @Value
+  @Builder
+  static class ImprovingTile {
+    MahjongTileType tile;
+    int liveTiles;
+
+    public static ImprovingTile of(DiscardCalculator.ImprovingTile improvingTile) {
+      return ImprovingTile.builder()
+          .tile(improvingTile.tile())
+          .liveTiles(improvingTile.liveTiles())
+          .build();
+    }
+  }
+}
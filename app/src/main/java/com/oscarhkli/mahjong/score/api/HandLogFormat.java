@@ -0,0 +1,99 @@
+package com.oscarhkli.mahjong.score.api;
+
+import com.oscarhkli.mahjong.score.ExposedMelds;
+import com.oscarhkli.mahjong.score.MahjongTileType;
+import com.oscarhkli.mahjong.score.WindType;
+import com.oscarhkli.mahjong.score.WinningConditions;
+import java.util.List;
+
+/**
+ * Compact log encoding of a hand, with tiles as {@link MahjongTileType#getIndex()} like the {@link
+ * CompactWinningHandMessageConverter compact format}, e.g. {@code hand=7,8,9,25,25
+ * exposed=c12;p0;k bonus=34 wind=0,0 flags=1 ruleSet=house}. Missing values are left empty.
+ */
+final class HandLogFormat {
+
+  private HandLogFormat() {}
+
+  static String of(WinningHandRequest request) {
+    return of(
+        request.handTiles(),
+        request.exposedMelds(),
+        request.bonusTiles(),
+        request.wind(),
+        request.winningConditions(),
+        request.ruleSet());
+  }
+
+  static String of(WaitingHandRequest request) {
+    return of(
+        request.handTiles(),
+        request.exposedMelds(),
+        request.bonusTiles(),
+        request.wind(),
+        request.winningConditions(),
+        request.ruleSet());
+  }
+
+  static String of(DiscardingHandRequest request) {
+    var log = new StringBuilder(64);
+    appendTiles(log.append("hand="), request.handTiles());
+    appendExposedMelds(log.append(" exposed="), request.exposedMelds());
+    appendTiles(log.append(" visible="), request.visibleTiles());
+    return log.toString();
+  }
+
+  private static String of(
+      List<MahjongTileType> handTiles,
+      ExposedMelds exposedMelds,
+      List<MahjongTileType> bonusTiles,
+      WindType wind,
+      WinningConditions winningConditions,
+      String ruleSet) {
+    var log = new StringBuilder(64);
+    appendTiles(log.append("hand="), handTiles);
+    appendExposedMelds(log.append(" exposed="), exposedMelds);
+    appendTiles(log.append(" bonus="), bonusTiles);
+    log.append(" wind=");
+    if (wind != null) {
+      appendTile(log, wind.prevailing());
+      appendTile(log.append(','), wind.seat());
+    }
+    log.append(" flags=");
+    if (winningConditions != null) {
+      log.append(CompactWinningHandMessageConverter.flags(winningConditions));
+    }
+    log.append(" ruleSet=");
+    if (ruleSet != null) {
+      log.append(ruleSet);
+    }
+    return log.toString();
+  }
+
+  private static void appendExposedMelds(StringBuilder log, ExposedMelds exposedMelds) {
+    if (exposedMelds == null) {
+      return;
+    }
+    appendTiles(log.append('c'), exposedMelds.getChows());
+    appendTiles(log.append(";p"), exposedMelds.getPongs());
+    appendTiles(log.append(";k"), exposedMelds.getKongs());
+  }
+
+  private static void appendTiles(StringBuilder log, List<MahjongTileType> tiles) {
+    if (tiles == null) {
+      return;
+    }
+    for (var i = 0; i < tiles.size(); i++) {
+      if (i > 0) {
+        log.append(',');
+      }
+      appendTile(log, tiles.get(i));
+    }
+  }
+
+  private static void appendTile(StringBuilder log, MahjongTileType tile) {
+    if (tile != null) {
+      log.append(tile.getIndex());
+    }
+  }
+}
@@ -0,0 +1,8 @@
+package com.oscarhkli.mahjong.score.api;
+
+public class InvalidRequestException extends RuntimeException {
+
+  public InvalidRequestException(String message) {
+    super(message);
+  }
+}
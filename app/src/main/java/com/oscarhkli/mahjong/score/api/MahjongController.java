@@ -0,0 +1,357 @@
+package com.oscarhkli.mahjong.score.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.oscarhkli.mahjong.score.ApiErrorResponse;
+import com.oscarhkli.mahjong.score.ApiErrorResponse.ApiError;
+import com.oscarhkli.mahjong.score.ApiErrorResponse.ErrorDetails;
+import com.oscarhkli.mahjong.score.DiscardCalculator;
+import com.oscarhkli.mahjong.score.ExposedMelds;
+import com.oscarhkli.mahjong.score.MahjongTileType;
+import com.oscarhkli.mahjong.score.RuleSet;
+import com.oscarhkli.mahjong.score.RuleSets;
+import com.oscarhkli.mahjong.score.ScoreCalculator;
+import com.oscarhkli.mahjong.score.ScoringMetrics;
+import com.oscarhkli.mahjong.score.TileRegistry;
+import com.oscarhkli.mahjong.score.WaitCalculator;
+import com.oscarhkli.mahjong.score.WinningConditions;
+import com.oscarhkli.mahjong.score.WinningHand;
+import com.oscarhkli.mahjong.score.api.WinningHandBatchResponse.Result;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Slf4j
+public class MahjongController {
+
+  private static final int WAITING_HAND_SIZE = 13;
+  private static final int DISCARDING_HAND_SIZE = 14;
+  private static final int COPIES_PER_TILE = 4;
+
+  private final ScoreCalculator scoreCalculator;
+  private final WaitCalculator waitCalculator;
+  private final DiscardCalculator discardCalculator;
+  private final RuleSets ruleSets;
+  private final ExecutorService scoringExecutor;
+  private final ScoringMetrics scoringMetrics;
+  private final int maxBatchSize;
+  private final double requestLogSampleRate;
+  private final ObjectReader streamRequestReader;
+  private final ObjectWriter streamResponseWriter;
+
+  public MahjongController(
+      ScoreCalculator scoreCalculator,
+      WaitCalculator waitCalculator,
+      DiscardCalculator discardCalculator,
+      RuleSets ruleSets,
+      ExecutorService scoringExecutor,
+      ScoringMetrics scoringMetrics,
+      ObjectMapper objectMapper,
+      @Value("${scoring.batch.max-size:1000}") int maxBatchSize,
+      @Value("${scoring.request-log.sample-rate:1.0}") double requestLogSampleRate) {
+    this.scoreCalculator = scoreCalculator;
+    this.waitCalculator = waitCalculator;
+    this.discardCalculator = discardCalculator;
+    this.ruleSets = ruleSets;
+    this.scoringExecutor = scoringExecutor;
+    this.scoringMetrics = scoringMetrics;
+    this.maxBatchSize = maxBatchSize;
+    this.requestLogSampleRate = requestLogSampleRate;
+    this.streamRequestReader = objectMapper.readerFor(WinningHandRequest.class);
+    // Leave flushing to the stream loop so that lines are not sent one packet each
+    this.streamResponseWriter =
+        objectMapper
+            .writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+  }
+
+  /**
+   * Besides JSON, the request and the response can each be CBOR or {@link
+   * CompactWinningHandMessageConverter compact binary}, chosen by Content-Type and Accept.
+   */
+  @PostMapping(
+      path = "/api/v1/mahjong/faans",
+      consumes = {
+        "application/json",
+        "application/cbor",
+        CompactWinningHandMessageConverter.MEDIA_TYPE_VALUE
+      },
+      produces = {
+        "application/json",
+        "application/cbor",
+        CompactWinningHandMessageConverter.MEDIA_TYPE_VALUE
+      })
+  public ResponseEntity<WinningHandResponse> deduceWinningHand(
+      @RequestHeader HttpHeaders headers, @RequestBody WinningHandRequest request) {
+    var ruleSet = ruleSet(request.ruleSet());
+    var winningHandResponse = WinningHandResponse.of(score(request, ruleSet), ruleSet);
+    if (isRequestLogged()) {
+      log.info(
+          "deduceWinningHand {} totalFaans={}, [referer: {}, user-agent: {}]",
+          HandLogFormat.of(request),
+          winningHandResponse.getData().getTotalFaans(),
+          headers.getOrEmpty(HttpHeaders.REFERER),
+          headers.getOrEmpty(HttpHeaders.USER_AGENT));
+    }
+    return ResponseEntity.ok(winningHandResponse);
+  }
+
+  @PostMapping(
+      path = "/api/v1/mahjong/faans:batch",
+      consumes = {"application/json", "application/cbor"},
+      produces = {"application/json", "application/cbor"})
+  public ResponseEntity<WinningHandBatchResponse> deduceWinningHands(
+      @RequestHeader HttpHeaders headers, @RequestBody WinningHandBatchRequest request) {
+    var items = Optional.ofNullable(request.items()).orElseGet(List::of);
+    log.info(
+        "deduceWinningHands batch size: {}, [referer: {}, user-agent: {}]",
+        items.size(),
+        headers.getOrEmpty(HttpHeaders.REFERER),
+        headers.getOrEmpty(HttpHeaders.USER_AGENT));
+    if (items.size() > maxBatchSize) {
+      throw new InvalidRequestException(
+          "Batch size %d exceeds the limit of %d".formatted(items.size(), maxBatchSize));
+    }
+
+    // Score every item in parallel, keeping the results in the order of the request
+    var results =
+        items.stream()
+            .map(item -> CompletableFuture.supplyAsync(() -> score(item), scoringExecutor))
+            .toList()
+            .stream()
+            .map(CompletableFuture::join)
+            .toList();
+    log.info(
+        "Return WinningHandBatchResponse with {} failed items",
+        results.stream().filter(result -> result.getError() != null).count());
+    return ResponseEntity.ok(WinningHandBatchResponse.builder().data(results).build());
+  }
+
+  /**
+   * Score one WinningHandRequest per line and write one WinningHandResponse per line, in the same
+   * order. A line that cannot be parsed or scored yields an ApiErrorResponse line instead.<br>
+   * Only one line is held in memory at a time and the next line is not read until the previous
+   * response is written, so a slow client throttles the upload through the socket buffers.
+   * Responses are flushed whenever no further input is immediately available.
+   */
+  @PostMapping(
+      path = "/api/v1/mahjong/faans:stream",
+      consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public void deduceWinningHandStream(
+      @RequestHeader HttpHeaders headers,
+      HttpServletRequest httpRequest,
+      HttpServletResponse httpResponse)
+      throws IOException {
+    log.info(
+        "deduceWinningHandStream [referer: {}, user-agent: {}]",
+        headers.getOrEmpty(HttpHeaders.REFERER),
+        headers.getOrEmpty(HttpHeaders.USER_AGENT));
+    httpResponse.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    httpResponse.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    var lines = 0L;
+    var failures = 0L;
+    var reader = httpRequest.getReader();
+    var writer = httpResponse.getWriter();
+    String line;
+    while ((line = reader.readLine()) != null) {
+      if (line.isBlank()) {
+        continue;
+      }
+      lines++;
+      Object response;
+      try {
+        WinningHandRequest request = streamRequestReader.readValue(line);
+        var ruleSet = ruleSet(request.ruleSet());
+        response = WinningHandResponse.of(score(request, ruleSet), ruleSet);
+      } catch (IOException | InvalidRequestException e) {
+        log.error("Invalid stream line {}: {}", lines, e.getMessage());
+        failures++;
+        response = new ApiErrorResponse(invalidRequestError(e));
+      } catch (RuntimeException e) {
+        log.error("Unable to score stream line {}", lines, e);
+        failures++;
+        response = new ApiErrorResponse(scoringError());
+      }
+      streamResponseWriter.writeValue(writer, response);
+      writer.write('\n');
+      if (!reader.ready()) {
+        writer.flush();
+      }
+    }
+    writer.flush();
+    log.info("Return {} WinningHandResponse lines with {} failed lines", lines, failures);
+  }
+
+  /**
+   * Every tile that completes a 13-tile waiting hand with its breakdown, so that a client does not
+   * need to score each of the 34 tiles separately. Kongs count as 3 tiles towards the 13.
+   */
+  @PostMapping(
+      path = "/api/v1/mahjong/waits",
+      consumes = "application/json",
+      produces = "application/json")
+  public ResponseEntity<WaitingHandResponse> deduceWaits(
+      @RequestHeader HttpHeaders headers, @RequestBody WaitingHandRequest request) {
+    var handTiles = Optional.ofNullable(request.handTiles()).orElseGet(List::of);
+    var exposedMelds = Optional.ofNullable(request.exposedMelds()).orElseGet(ExposedMelds::new);
+    validateHandSize("Waiting", handTiles, exposedMelds, WAITING_HAND_SIZE);
+    validateTileCopies(handTiles);
+    var ruleSet = ruleSet(request.ruleSet());
+    var waits =
+        waitCalculator.calculate(
+            handTiles,
+            exposedMelds,
+            request.bonusTiles(),
+            request.wind(),
+            Optional.ofNullable(request.winningConditions()).orElseGet(WinningConditions::new),
+            ruleSet);
+    if (isRequestLogged()) {
+      log.info(
+          "deduceWaits {} waits={}, [referer: {}, user-agent: {}]",
+          HandLogFormat.of(request),
+          waits.size(),
+          headers.getOrEmpty(HttpHeaders.REFERER),
+          headers.getOrEmpty(HttpHeaders.USER_AGENT));
+    }
+    return ResponseEntity.ok(WaitingHandResponse.of(waits, ruleSet));
+  }
+
+  /**
+   * Shanten after each possible discard of a 14-tile hand and the live tiles that would improve
+   * it, best discard first. Kongs count as 3 tiles towards the 14.
+   */
+  @PostMapping(
+      path = "/api/v1/mahjong/discards",
+      consumes = "application/json",
+      produces = "application/json")
+  public ResponseEntity<DiscardingHandResponse> deduceDiscards(
+      @RequestHeader HttpHeaders headers, @RequestBody DiscardingHandRequest request) {
+    var handTiles = Optional.ofNullable(request.handTiles()).orElseGet(List::of);
+    var exposedMelds = Optional.ofNullable(request.exposedMelds()).orElseGet(ExposedMelds::new);
+    validateHandSize("Discarding", handTiles, exposedMelds, DISCARDING_HAND_SIZE);
+    validateTileCopies(handTiles);
+    var discards =
+        discardCalculator.calculate(
+            handTiles,
+            exposedMelds,
+            Optional.ofNullable(request.visibleTiles()).orElseGet(List::of));
+    if (isRequestLogged()) {
+      log.info(
+          "deduceDiscards {} discards={}, [referer: {}, user-agent: {}]",
+          HandLogFormat.of(request),
+          discards.size(),
+          headers.getOrEmpty(HttpHeaders.REFERER),
+          headers.getOrEmpty(HttpHeaders.USER_AGENT));
+    }
+    return ResponseEntity.ok(DiscardingHandResponse.of(discards));
+  }
+
+  /**
+   * Whether to log a single-hand request, sampled at scoring.request-log.sample-rate so that the
+   * log line and the encoding of the hand are skipped for most requests.
+   */
+  private boolean isRequestLogged() {
+    return log.isInfoEnabled()
+        && (requestLogSampleRate >= 1.0
+            || ThreadLocalRandom.current().nextDouble() < requestLogSampleRate);
+  }
+
+  private static void validateHandSize(
+      String handName, List<MahjongTileType> handTiles, ExposedMelds exposedMelds, int handSize) {
+    var tileCount = handTiles.size() + 3 * exposedMelds.size();
+    if (tileCount != handSize) {
+      throw new InvalidRequestException(
+          "%s hand must have %d tiles but has %d".formatted(handName, handSize, tileCount));
+    }
+  }
+
+  private static void validateTileCopies(List<MahjongTileType> handTiles) {
+    var tileCounts = new int[TileRegistry.PLAYABLE_TILE_TYPES];
+    for (var tile : handTiles) {
+      var index = tile.getIndex();
+      if (index < tileCounts.length && ++tileCounts[index] > COPIES_PER_TILE) {
+        throw new InvalidRequestException("Too many %s tiles in hand".formatted(tile));
+      }
+    }
+  }
+
+  private Result score(WinningHandBatchRequest.Item item) {
+    try {
+      if (item.request() == null) {
+        throw new InvalidRequestException("Missing request");
+      }
+      var ruleSet = ruleSet(item.request().ruleSet());
+      return Result.of(item.id(), score(item.request(), ruleSet), ruleSet);
+    } catch (InvalidRequestException e) {
+      log.error("Invalid batch item {}: {}", item.id(), e.getMessage());
+      return Result.of(item.id(), invalidRequestError(e));
+    } catch (RuntimeException e) {
+      log.error("Unable to score batch item {}", item.id(), e);
+      return Result.of(item.id(), scoringError());
+    }
+  }
+
+  private RuleSet ruleSet(String name) {
+    return ruleSets
+        .find(name)
+        .orElseThrow(() -> new InvalidRequestException("Unknown rule set %s".formatted(name)));
+  }
+
+  /** Error of an item that cannot be parsed or fails validation, echoing the cause */
+  private static ApiError invalidRequestError(Exception e) {
+    return new ApiError(
+        Integer.toString(HttpStatus.BAD_REQUEST.value()),
+        "Unable to score hand",
+        List.of(new ErrorDetails(e.getClass().getSimpleName(), e.getMessage())));
+  }
+
+  /** Error of an item that failed unexpectedly, without leaking the internal cause */
+  private static ApiError scoringError() {
+    return new ApiError(
+        Integer.toString(HttpStatus.INTERNAL_SERVER_ERROR.value()),
+        "Unable to score hand",
+        List.of());
+  }
+
+  /** Winning Hand of the request under the rule set, counted in the scoring metrics */
+  private WinningHand score(WinningHandRequest request, RuleSet ruleSet) {
+    if (request.handTiles() != null) {
+      validateTileCopies(request.handTiles());
+    }
+    var winningHand = ruleSet.apply(calculate(request, ruleSet));
+    scoringMetrics.recordWinningHand(winningHand, ruleSet.faans(winningHand));
+    return winningHand;
+  }
+
+  private WinningHand calculate(WinningHandRequest request, RuleSet ruleSet) {
+    return this.scoreCalculator.calculate(
+        request.handTiles(),
+        Optional.ofNullable(request.exposedMelds()).orElseGet(ExposedMelds::new),
+        request.bonusTiles(),
+        request.wind(),
+        Optional.ofNullable(request.winningConditions()).orElseGet(WinningConditions::new),
+        ruleSet);
+  }
+}
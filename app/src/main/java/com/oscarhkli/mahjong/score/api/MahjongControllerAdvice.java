@@ -0,0 +1,32 @@
+package com.oscarhkli.mahjong.score.api;
+
+import com.oscarhkli.mahjong.score.ApiErrorResponse;
+import com.oscarhkli.mahjong.score.ApiErrorResponse.ApiError;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@Slf4j
+@RestControllerAdvice(assignableTypes = {MahjongController.class})
+public class MahjongControllerAdvice {
+
+  @ExceptionHandler(value = {InvalidRequestException.class})
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  protected ResponseEntity<ApiErrorResponse> handleInvalidRequestException(
+      InvalidRequestException ex) {
+    log.error("Invalid request: {}", ex.getMessage());
+    var errorResponse =
+        new ApiErrorResponse(
+            new ApiError(
+                Integer.toString(HttpStatus.BAD_REQUEST.value()), ex.getMessage(), List.of()));
+    // Errors are always JSON, as the compact binary format has no error message
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(errorResponse);
+  }
+}
@@ -0,0 +1,39 @@
+package com.oscarhkli.mahjong.score.api;
+
+import com.oscarhkli.mahjong.score.MahjongTileType;
+import com.oscarhkli.mahjong.score.RuleSet;
+import com.oscarhkli.mahjong.score.WaitCalculator;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class WaitingHandResponse {
+
+  List<Wait> data;
+
+  public static WaitingHandResponse of(List<WaitCalculator.Wait> waits) {
+    return of(waits, RuleSet.DEFAULT);
+  }
+
+  public static WaitingHandResponse of(List<WaitCalculator.Wait> waits, RuleSet ruleSet) {
+    return WaitingHandResponse.builder()
+        .data(waits.stream().map(wait -> Wait.of(wait, ruleSet)).toList())
+        .build();
+  }
+
+  @Value
+  @Builder
+  static class Wait {
+    MahjongTileType tile;
+    WinningHandResponse.BreakDown data;
+
+    public static Wait of(WaitCalculator.Wait wait, RuleSet ruleSet) {
+      return Wait.builder()
+          .tile(wait.tile())
+          .data(WinningHandResponse.BreakDown.of(ruleSet.apply(wait.winningHand()), ruleSet))
+          .build();
+    }
+  }
+}
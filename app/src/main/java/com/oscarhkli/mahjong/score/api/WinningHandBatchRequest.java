@@ -0,0 +1,11 @@
+package com.oscarhkli.mahjong.score.api;
+
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record WinningHandBatchRequest(List<Item> items) {
+
+  @Builder
+  public record Item(String id, WinningHandRequest request) {}
+}
@@ -0,0 +1,40 @@
+package com.oscarhkli.mahjong.score.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.oscarhkli.mahjong.score.ApiErrorResponse.ApiError;
+import com.oscarhkli.mahjong.score.RuleSet;
+import com.oscarhkli.mahjong.score.WinningHand;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class WinningHandBatchResponse {
+
+  List<Result> data;
+
+  @Value
+  @Builder
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  static class Result {
+    String id;
+    WinningHandResponse.BreakDown data;
+    ApiError error;
+
+    public static Result of(String id, WinningHand winningHand) {
+      return of(id, winningHand, RuleSet.DEFAULT);
+    }
+
+    public static Result of(String id, WinningHand winningHand, RuleSet ruleSet) {
+      return Result.builder()
+          .id(id)
+          .data(WinningHandResponse.BreakDown.of(winningHand, ruleSet))
+          .build();
+    }
+
+    public static Result of(String id, ApiError error) {
+      return Result.builder().id(id).error(error).build();
+    }
+  }
+}
@@ -13,4 +13,5 @@ public record WinningHandRequest(
     ExposedMelds exposedMelds,
     List<MahjongTileType> bonusTiles,
     WindType wind,
-    WinningConditions winningConditions) {}
+    WinningConditions winningConditions,
+    String ruleSet) {}
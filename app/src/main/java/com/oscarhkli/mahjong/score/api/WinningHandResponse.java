@@ -0,0 +1,121 @@
+package com.oscarhkli.mahjong.score.api;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.oscarhkli.mahjong.score.RuleSet;
+import com.oscarhkli.mahjong.score.WinningHand;
+import com.oscarhkli.mahjong.score.WinningHandType;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import lombok.Value;
+
+@Value
+@Builder
+public class WinningHandResponse {
+
+  BreakDown data;
+
+  public static WinningHandResponse of(WinningHand winningHand) {
+    return of(winningHand, RuleSet.DEFAULT);
+  }
+
+  public static WinningHandResponse of(WinningHand winningHand, RuleSet ruleSet) {
+    return WinningHandResponse.builder().data(BreakDown.of(winningHand, ruleSet)).build();
+  }
+
+  @Value
+  @Builder
+  static class BreakDown {
+    int totalFaans;
+    List<WinningHandDescription> winningHands;
+
+    /** Rule set of the descriptions when built by {@link #of(WinningHand, RuleSet)} */
+    @JsonIgnore @EqualsAndHashCode.Exclude @ToString.Exclude RuleSet ruleSet;
+
+    public static BreakDown of(WinningHand winningHand) {
+      return of(winningHand, RuleSet.DEFAULT);
+    }
+
+    /**
+     * @param winningHand Winning Hand, after {@link RuleSet#apply(WinningHand)}
+     * @param ruleSet rule set of the faans
+     * @return BreakDown of the Winning Hand under the rule set
+     */
+    public static BreakDown of(WinningHand winningHand, RuleSet ruleSet) {
+      return BreakDown.builder()
+          .totalFaans(ruleSet.faans(winningHand))
+          .winningHands(
+              winningHand.getWinningHandTypes().stream()
+                  .map(winningHandType -> WinningHandDescription.of(winningHandType, ruleSet))
+                  .toList())
+          .ruleSet(ruleSet)
+          .build();
+    }
+  }
+
+  /** Immutable, so one instance per rule set and Winning Hand Type serves every response */
+  @Value
+  @Builder
+  static class WinningHandDescription {
+    private static final WinningHandType[] WINNING_HAND_TYPES = WinningHandType.values();
+
+    /** Descriptions by rule set, rule sets being compared by identity */
+    private static final Map<RuleSet, WinningHandDescription[]> DESCRIPTIONS =
+        new ConcurrentHashMap<>();
+
+    /** JSON of the descriptions by rule set, indexed like {@link #DESCRIPTIONS} */
+    private static final Map<RuleSet, byte[][]> FRAGMENTS = new ConcurrentHashMap<>();
+
+    WinningHandType type;
+    String name;
+    int faans;
+    boolean limitHand;
+
+    public static WinningHandDescription of(WinningHandType winningHandType) {
+      return of(winningHandType, RuleSet.DEFAULT);
+    }
+
+    /**
+     * @return the description shared by every response under the rule set, built on first use
+     */
+    public static WinningHandDescription of(WinningHandType winningHandType, RuleSet ruleSet) {
+      var descriptions = DESCRIPTIONS.computeIfAbsent(ruleSet, WinningHandDescription::describe);
+      return descriptions[winningHandType.ordinal()];
+    }
+
+    /**
+     * @param serializer JSON writer of a description, only called the first time for the rule set
+     * @return JSON of every description under the rule set, indexed by Winning Hand Type ordinal
+     */
+    static byte[][] fragments(
+        RuleSet ruleSet, Function<WinningHandDescription, byte[]> serializer) {
+      return FRAGMENTS.computeIfAbsent(
+          ruleSet,
+          r -> {
+            var fragments = new byte[WINNING_HAND_TYPES.length][];
+            for (var winningHandType : WINNING_HAND_TYPES) {
+              fragments[winningHandType.ordinal()] = serializer.apply(of(winningHandType, r));
+            }
+            return fragments;
+          });
+    }
+
+    private static WinningHandDescription[] describe(RuleSet ruleSet) {
+      var descriptions = new WinningHandDescription[WINNING_HAND_TYPES.length];
+      for (var winningHandType : WINNING_HAND_TYPES) {
+        descriptions[winningHandType.ordinal()] =
+            WinningHandDescription.builder()
+                .type(winningHandType)
+                .name(winningHandType.getWinningHandName())
+                .faans(ruleSet.faans(winningHandType))
+                .limitHand(winningHandType.isLimitHand())
+                .build();
+      }
+      return descriptions;
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package com.oscarhkli.mahjong.score.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oscarhkli.mahjong.score.RuleSet;
+import com.oscarhkli.mahjong.score.RuleSets;
+import com.oscarhkli.mahjong.score.ScoringMetrics;
+import com.oscarhkli.mahjong.score.api.WinningHandResponse.WinningHandDescription;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes {@link WinningHandResponse} as JSON from fragments serialized once, instead of having
+ * Jackson serialize the same descriptions for every response.<br>
+ * The JSON of each {@link WinningHandDescription} is serialized by the application ObjectMapper on
+ * start-up for every configured rule set, and on first use for any other, so that the output is
+ * byte for byte what Jackson writes. Each fragment is then an array read by Winning Hand Type.
+ * Reading is left to Jackson.
+ */
+@Component
+public class WinningHandResponseMessageConverter
+    extends AbstractHttpMessageConverter<WinningHandResponse> {
+
+  private static final byte[] TOTAL_FAANS = ascii("{\"data\":{\"totalFaans\":");
+  private static final byte[] WINNING_HANDS = ascii(",\"winningHands\":[");
+  private static final byte[] END = ascii("]}}");
+
+  private final ObjectMapper objectMapper;
+  private final ScoringMetrics scoringMetrics;
+
+  public WinningHandResponseMessageConverter(
+      ObjectMapper objectMapper,
+      ObjectProvider<RuleSets> ruleSets,
+      ObjectProvider<ScoringMetrics> scoringMetrics) {
+    super(MediaType.APPLICATION_JSON);
+    this.objectMapper = objectMapper;
+    this.scoringMetrics = scoringMetrics.getIfAvailable(() -> ScoringMetrics.NOOP);
+    precompute(RuleSet.DEFAULT);
+    ruleSets.ifAvailable(
+        available ->
+            available.names().forEach(name -> available.find(name).ifPresent(this::precompute)));
+  }
+
+  private void precompute(RuleSet ruleSet) {
+    WinningHandDescription.fragments(ruleSet, this::serialize);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return WinningHandResponse.class == clazz;
+  }
+
+  @Override
+  protected boolean canRead(MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected WinningHandResponse readInternal(
+      Class<? extends WinningHandResponse> clazz, HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException("WinningHandResponse is not read", inputMessage);
+  }
+
+  @Override
+  protected void writeInternal(WinningHandResponse response, HttpOutputMessage outputMessage)
+      throws IOException {
+    var start = scoringMetrics.start();
+    write(response, outputMessage.getBody());
+    scoringMetrics.stopSerialization(ScoringMetrics.Format.JSON, start);
+  }
+
+  private void write(WinningHandResponse response, OutputStream body) throws IOException {
+    var breakDown = response.getData();
+    if (breakDown == null || breakDown.getRuleSet() == null) {
+      // Not built by WinningHandResponse.of, so there is nothing to gain over Jackson
+      body.write(objectMapper.writeValueAsBytes(response));
+      return;
+    }
+    var fragments = WinningHandDescription.fragments(breakDown.getRuleSet(), this::serialize);
+    body.write(TOTAL_FAANS);
+    body.write(ascii(Integer.toString(breakDown.getTotalFaans())));
+    body.write(WINNING_HANDS);
+    var winningHands = breakDown.getWinningHands();
+    for (var i = 0; i < winningHands.size(); i++) {
+      if (i > 0) {
+        body.write(',');
+      }
+      body.write(fragments[winningHands.get(i).getType().ordinal()]);
+    }
+    body.write(END);
+  }
+
+  private byte[] serialize(WinningHandDescription winningHandDescription) {
+    try {
+      return objectMapper.writeValueAsBytes(winningHandDescription);
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static byte[] ascii(String json) {
+    return json.getBytes(StandardCharsets.US_ASCII);
+  }
+}
@@ -0,0 +1,134 @@
+package com.oscarhkli.mahjong.score.differential;
+
+import com.oscarhkli.mahjong.score.ScoringEngine;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Differential testing of a candidate {@link ScoringEngine} against a reference engine on random
+ * {@link ScoringCase}s.<br>
+ * Engines agree on a case when they produce the same Winning Hand Types, in any order, and the
+ * same faans, or fail with the same exception. Cases are split across a ForkJoinPool like the
+ * simulation, so that the cases only depend on the seed, and every reported mismatch comes with a
+ * minimized reproducer.
+ */
+@Slf4j
+public class DifferentialHarness {
+
+  /** Cases scored by a worker without splitting further */
+  static final int CASES_PER_TASK = 1024;
+
+  private final ScoringEngine reference;
+  private final ScoringEngine candidate;
+  private final int parallelism;
+
+  public DifferentialHarness(ScoringEngine reference, ScoringEngine candidate, int parallelism) {
+    this.reference = reference;
+    this.candidate = candidate;
+    this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+  }
+
+  /**
+   * @param cases number of random cases to score with both engines
+   * @param seed seed of the random cases
+   * @return number of mismatches and the first of them
+   */
+  public DifferentialReport run(long cases, long seed) {
+    var startTime = System.nanoTime();
+    DifferentialTally tally;
+    try (var forkJoinPool = new ForkJoinPool(parallelism)) {
+      tally = forkJoinPool.invoke(new DifferentialTask(cases, new SplittableRandom(seed)));
+    }
+    var report =
+        new DifferentialReport(
+            tally.cases,
+            tally.mismatches,
+            List.copyOf(tally.examples),
+            Duration.ofNanos(System.nanoTime() - startTime));
+    log.info(
+        "Compared {} cases in {} ms, {} mismatches",
+        report.cases(),
+        report.elapsed().toMillis(),
+        report.mismatches());
+    report
+        .examples()
+        .forEach(
+            mismatch ->
+                log.warn(
+                    "Expected {} but was {} for {}",
+                    mismatch.expected(),
+                    mismatch.actual(),
+                    mismatch.minimizedCase()));
+    return report;
+  }
+
+  /**
+   * @param scoringCase case to score
+   * @return mismatch with a minimized reproducer, or null if the engines agree
+   */
+  Mismatch compare(ScoringCase scoringCase) {
+    if (!isMismatch(scoringCase)) {
+      return null;
+    }
+    var minimizedCase = ScoringCaseMinimizer.minimize(scoringCase, this::isMismatch);
+    return new Mismatch(
+        scoringCase,
+        minimizedCase,
+        outcome(reference, minimizedCase),
+        outcome(candidate, minimizedCase));
+  }
+
+  private boolean isMismatch(ScoringCase scoringCase) {
+    return !outcome(reference, scoringCase).equals(outcome(candidate, scoringCase));
+  }
+
+  private static String outcome(ScoringEngine scoringEngine, ScoringCase scoringCase) {
+    try {
+      var winningHand = scoringCase.score(scoringEngine);
+      return "%s = %d faans"
+          .formatted(
+              winningHand.getWinningHandTypes().stream().sorted().toList(),
+              winningHand.getFaans());
+    } catch (RuntimeException e) {
+      return e.getClass().getSimpleName();
+    }
+  }
+
+  private class DifferentialTask extends RecursiveTask<DifferentialTally> {
+
+    private final long cases;
+    private final SplittableRandom random;
+
+    DifferentialTask(long cases, SplittableRandom random) {
+      this.cases = cases;
+      this.random = random;
+    }
+
+    @Override
+    protected DifferentialTally compute() {
+      if (cases <= CASES_PER_TASK) {
+        var tally = new DifferentialTally();
+        var generator = new ScoringCaseGenerator(random);
+        for (var i = 0; i < cases; i++) {
+          var scoringCase = generator.next();
+          tally.cases++;
+          if (isMismatch(scoringCase)) {
+            tally.mismatches++;
+            if (tally.needsExample()) {
+              tally.examples.add(compare(scoringCase));
+            }
+          }
+        }
+        return tally;
+      }
+      var firstHalf = new DifferentialTask(cases / 2, random.split());
+      firstHalf.fork();
+      var secondHalf = new DifferentialTask(cases - cases / 2, random).compute();
+      return firstHalf.join().merge(secondHalf);
+    }
+  }
+}
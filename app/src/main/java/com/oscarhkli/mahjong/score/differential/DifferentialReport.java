@@ -0,0 +1,24 @@
+package com.oscarhkli.mahjong.score.differential;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a differential run.
+ *
+ * @param cases number of scored cases
+ * @param mismatches number of cases on which the engines disagree
+ * @param examples first mismatches found, each with a minimized reproducer
+ * @param elapsed wall-clock time of the run
+ */
+public record DifferentialReport(
+    long cases, long mismatches, List<Mismatch> examples, Duration elapsed) {
+
+  public boolean hasMismatches() {
+    return mismatches > 0;
+  }
+
+  public double casesPerSecond() {
+    return elapsed.isZero() ? 0.0 : cases * 1e9 / elapsed.toNanos();
+  }
+}
@@ -0,0 +1,59 @@
+package com.oscarhkli.mahjong.score.differential;
+
+import com.oscarhkli.mahjong.score.BonusWinningConditionCalculator;
+import com.oscarhkli.mahjong.score.HandStructureCalculator;
+import com.oscarhkli.mahjong.score.MeldsFactory;
+import com.oscarhkli.mahjong.score.ScoreCalculator;
+import com.oscarhkli.mahjong.score.ScoringEngine;
+import com.oscarhkli.mahjong.score.WinningConditionCalculator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compares the {@link ScoringEngine} of the application against an uncached {@link
+ * ScoreCalculator} on start-up with the differential profile.<br>
+ * Start-up fails when the engines disagree on any case, so that the run can gate an engine
+ * optimization.
+ */
+@Slf4j
+@Profile("differential")
+@Component
+public class DifferentialRunner implements CommandLineRunner {
+
+  private final DifferentialHarness differentialHarness;
+  private final long cases;
+  private final long seed;
+
+  public DifferentialRunner(
+      ScoringEngine scoringEngine,
+      MeldsFactory meldsFactory,
+      BonusWinningConditionCalculator bonusWinningConditionCalculator,
+      WinningConditionCalculator winningConditionCalculator,
+      @Value("${scoring.parallelism:0}") int parallelism,
+      @Value("${differential.cases:1000000}") long cases,
+      @Value("${differential.seed:0}") long seed) {
+    this.differentialHarness =
+        new DifferentialHarness(
+            new ScoreCalculator(
+                new HandStructureCalculator(meldsFactory),
+                bonusWinningConditionCalculator,
+                winningConditionCalculator),
+            scoringEngine,
+            parallelism);
+    this.cases = cases;
+    this.seed = seed;
+  }
+
+  @Override
+  public void run(String... args) {
+    var report = differentialHarness.run(cases, seed);
+    log.info("Cases/s: {}", Math.round(report.casesPerSecond()));
+    if (report.hasMismatches()) {
+      throw new IllegalStateException(
+          "%d of %d cases mismatched".formatted(report.mismatches(), report.cases()));
+    }
+  }
+}
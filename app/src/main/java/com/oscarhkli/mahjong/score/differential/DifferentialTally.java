@@ -0,0 +1,29 @@
+package com.oscarhkli.mahjong.score.differential;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Mutable counts of one differential worker, merged once the workers finish. */
+class DifferentialTally {
+
+  static final int MAX_EXAMPLES = 10;
+
+  long cases;
+  long mismatches;
+  final List<Mismatch> examples = new ArrayList<>();
+
+  boolean needsExample() {
+    return examples.size() < MAX_EXAMPLES;
+  }
+
+  DifferentialTally merge(DifferentialTally other) {
+    cases += other.cases;
+    mismatches += other.mismatches;
+    for (var example : other.examples) {
+      if (needsExample()) {
+        examples.add(example);
+      }
+    }
+    return this;
+  }
+}
@@ -0,0 +1,12 @@
+package com.oscarhkli.mahjong.score.differential;
+
+/**
+ * Scoring on which the engines disagree.
+ *
+ * @param scoringCase generated case
+ * @param minimizedCase simplest case derived from it on which the engines still disagree
+ * @param expected outcome of the reference engine on the minimized case
+ * @param actual outcome of the candidate engine on the minimized case
+ */
+public record Mismatch(
+    ScoringCase scoringCase, ScoringCase minimizedCase, String expected, String actual) {}
@@ -0,0 +1,23 @@
+package com.oscarhkli.mahjong.score.differential;
+
+import com.oscarhkli.mahjong.score.ExposedMelds;
+import com.oscarhkli.mahjong.score.MahjongTileType;
+import com.oscarhkli.mahjong.score.ScoringEngine;
+import com.oscarhkli.mahjong.score.WindType;
+import com.oscarhkli.mahjong.score.WinningConditions;
+import com.oscarhkli.mahjong.score.WinningHand;
+import java.util.List;
+
+/** Arguments of a single scoring, printed as a reproducer when engines disagree. */
+public record ScoringCase(
+    List<MahjongTileType> tiles,
+    ExposedMelds exposedMelds,
+    List<MahjongTileType> bonusTiles,
+    WindType windSettings,
+    WinningConditions winningConditions) {
+
+  public WinningHand score(ScoringEngine scoringEngine) {
+    return scoringEngine.calculate(
+        tiles, exposedMelds, bonusTiles, windSettings, winningConditions);
+  }
+}
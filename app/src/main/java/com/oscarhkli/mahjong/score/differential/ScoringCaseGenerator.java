@@ -0,0 +1,304 @@
+package com.oscarhkli.mahjong.score.differential;
+
+import com.oscarhkli.mahjong.score.ExposedMelds;
+import com.oscarhkli.mahjong.score.MahjongSetType;
+import com.oscarhkli.mahjong.score.MahjongTileType;
+import com.oscarhkli.mahjong.score.TileRegistry;
+import com.oscarhkli.mahjong.score.WindType;
+import com.oscarhkli.mahjong.score.WinningConditions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Random scoring cases that never hold more than 4 copies of a tile.<br>
+ * Most cases are complete hands of random melds drawn from a random subset of the Mahjong Sets,
+ * so that one-suit, honor and triplet patterns come up often, with some of the melds exposed. The
+ * rest are limit hands, complete hands with a tile swapped and random tiles, the last two mostly
+ * being Trick Hands. Bonus tiles, winds and winning conditions are random, favouring the edge
+ * cases of no flowers, all flowers and the rarer winning conditions.
+ */
+class ScoringCaseGenerator {
+
+  private static final int HAND_SIZE = 14;
+  private static final int MAX_TILE_COUNT = 4;
+  private static final int MAX_ATTEMPTS = 20;
+  private static final List<MahjongSetType> PLAYABLE_SET_TYPES =
+      List.of(
+          MahjongSetType.WIND,
+          MahjongSetType.DRAGON,
+          MahjongSetType.CHARACTER,
+          MahjongSetType.BAMBOO,
+          MahjongSetType.DOT);
+  private static final List<MahjongSetType> SUITS =
+      List.of(MahjongSetType.CHARACTER, MahjongSetType.BAMBOO, MahjongSetType.DOT);
+  private static final List<MahjongTileType> ORPHANS = TileRegistry.orphans();
+  private static final List<MahjongTileType> BONUS_TILES =
+      List.of(
+          MahjongTileType.F1,
+          MahjongTileType.F2,
+          MahjongTileType.F3,
+          MahjongTileType.F4,
+          MahjongTileType.S1,
+          MahjongTileType.S2,
+          MahjongTileType.S3,
+          MahjongTileType.S4);
+  private static final List<MahjongTileType> WINDS =
+      List.of(
+          MahjongTileType.EAST, MahjongTileType.SOUTH, MahjongTileType.WEST, MahjongTileType.NORTH);
+
+  private final SplittableRandom random;
+
+  ScoringCaseGenerator(SplittableRandom random) {
+    this.random = random;
+  }
+
+  ScoringCase next() {
+    var kind = random.nextInt(100);
+    Hand hand;
+    if (kind < 65) {
+      hand = regularHand();
+    } else if (kind < 75) {
+      hand = limitHand();
+    } else if (kind < 90) {
+      hand = swapTile(regularHand());
+    } else {
+      hand = randomHand();
+    }
+    return new ScoringCase(
+        hand.tiles(),
+        new ExposedMelds(hand.chows, hand.pongs, hand.kongs),
+        bonusTiles(),
+        new WindType(randomWind(), randomWind()),
+        winningConditions());
+  }
+
+  private Hand regularHand() {
+    var setTypes = new ArrayList<MahjongSetType>();
+    if (random.nextInt(4) == 0) {
+      setTypes.add(PLAYABLE_SET_TYPES.get(random.nextInt(PLAYABLE_SET_TYPES.size())));
+    } else {
+      for (var setType : PLAYABLE_SET_TYPES) {
+        if (random.nextBoolean()) {
+          setTypes.add(setType);
+        }
+      }
+      if (setTypes.isEmpty()) {
+        setTypes.add(SUITS.get(random.nextInt(SUITS.size())));
+      }
+    }
+
+    var hand = new Hand();
+    for (var meld = 0; meld < 4; meld++) {
+      var added = false;
+      for (var attempt = 0; !added && attempt < MAX_ATTEMPTS; attempt++) {
+        var setType =
+            attempt < MAX_ATTEMPTS / 2
+                ? setTypes.get(random.nextInt(setTypes.size()))
+                : PLAYABLE_SET_TYPES.get(random.nextInt(PLAYABLE_SET_TYPES.size()));
+        added = addMeld(hand, setType);
+      }
+    }
+    for (var attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+      var setType =
+          attempt < MAX_ATTEMPTS / 2
+              ? setTypes.get(random.nextInt(setTypes.size()))
+              : PLAYABLE_SET_TYPES.get(random.nextInt(PLAYABLE_SET_TYPES.size()));
+      if (hand.addConcealed(randomTile(setType), 2)) {
+        break;
+      }
+    }
+    return hand;
+  }
+
+  private boolean addMeld(Hand hand, MahjongSetType setType) {
+    var meld = random.nextInt(100);
+    var exposed = random.nextInt(4) == 0;
+    if (meld < 8) {
+      var tile = randomTile(setType);
+      if (!hand.add(tile, MAX_TILE_COUNT)) {
+        return false;
+      }
+      hand.kongs.add(tile);
+      return true;
+    }
+    if (meld < 45 || !TileRegistry.isSuited(setType)) {
+      var tile = randomTile(setType);
+      if (exposed) {
+        if (!hand.add(tile, 3)) {
+          return false;
+        }
+        hand.pongs.add(tile);
+        return true;
+      }
+      return hand.addConcealed(tile, 3);
+    }
+    var start = TileRegistry.chowStarts(setType).get(random.nextInt(setType.getSize() - 2));
+    for (var i = 0; i < 3; i++) {
+      if (hand.counts[start.getIndex() + i] == MAX_TILE_COUNT) {
+        return false;
+      }
+    }
+    for (var i = 0; i < 3; i++) {
+      var tile = TileRegistry.tile(start.getIndex() + i);
+      if (exposed) {
+        hand.add(tile, 1);
+      } else {
+        hand.addConcealed(tile, 1);
+      }
+    }
+    if (exposed) {
+      hand.chows.add(start);
+    }
+    return true;
+  }
+
+  private Hand limitHand() {
+    var hand = new Hand();
+    switch (random.nextInt(4)) {
+      case 0 -> {
+        for (var orphan : ORPHANS) {
+          hand.addConcealed(orphan, 1);
+        }
+        hand.addConcealed(ORPHANS.get(random.nextInt(ORPHANS.size())), 1);
+      }
+      case 1 -> {
+        var pongs = 0;
+        while (pongs < 4) {
+          pongs += hand.addConcealed(ORPHANS.get(random.nextInt(ORPHANS.size())), 3) ? 1 : 0;
+        }
+        while (!hand.addConcealed(ORPHANS.get(random.nextInt(ORPHANS.size())), 2)) {
+          // Retry until the eye is a tile other than the pongs
+        }
+      }
+      case 2 -> {
+        var suit = SUITS.get(random.nextInt(SUITS.size()));
+        var startingIndex = suit.getStartingTile().getIndex();
+        for (var i = 0; i < suit.getSize(); i++) {
+          hand.addConcealed(
+              TileRegistry.tile(startingIndex + i), i == 0 || i == suit.getSize() - 1 ? 3 : 1);
+        }
+        hand.addConcealed(TileRegistry.tile(startingIndex + random.nextInt(suit.getSize())), 1);
+      }
+      default -> {
+        while (hand.kongs.size() < 4) {
+          var tile = randomPlayableTile();
+          if (hand.add(tile, MAX_TILE_COUNT)) {
+            hand.kongs.add(tile);
+          }
+        }
+        while (!hand.addConcealed(randomPlayableTile(), 2)) {
+          // Retry until the eye is a tile other than the kongs
+        }
+      }
+    }
+    return hand;
+  }
+
+  private Hand swapTile(Hand hand) {
+    if (hand.concealed.isEmpty()) {
+      return hand;
+    }
+    var removed = hand.concealed.remove(random.nextInt(hand.concealed.size()));
+    hand.counts[removed.getIndex()]--;
+    while (!hand.addConcealed(randomPlayableTile(), 1)) {
+      // Retry until a tile with a copy left
+    }
+    return hand;
+  }
+
+  private Hand randomHand() {
+    var hand = new Hand();
+    var exposedMelds = random.nextInt(3);
+    for (var meld = 0; meld < exposedMelds; meld++) {
+      var tile = randomPlayableTile();
+      if (hand.add(tile, 3)) {
+        hand.pongs.add(tile);
+      }
+    }
+    while (hand.concealed.size() + 3 * hand.pongs.size() < HAND_SIZE) {
+      hand.addConcealed(randomPlayableTile(), 1);
+    }
+    return hand;
+  }
+
+  private MahjongTileType randomTile(MahjongSetType setType) {
+    return TileRegistry.tile(setType, 1 + random.nextInt(setType.getSize()));
+  }
+
+  private MahjongTileType randomPlayableTile() {
+    return TileRegistry.tile(random.nextInt(TileRegistry.PLAYABLE_TILE_TYPES));
+  }
+
+  private MahjongTileType randomWind() {
+    return WINDS.get(random.nextInt(WINDS.size()));
+  }
+
+  private List<MahjongTileType> bonusTiles() {
+    var kind = random.nextInt(100);
+    if (kind < 35) {
+      return List.of();
+    }
+    if (kind < 40) {
+      return BONUS_TILES;
+    }
+    var bonusTiles = new ArrayList<MahjongTileType>();
+    if (kind < 45) {
+      var missing = random.nextInt(BONUS_TILES.size());
+      for (var i = 0; i < BONUS_TILES.size(); i++) {
+        if (i != missing) {
+          bonusTiles.add(BONUS_TILES.get(i));
+        }
+      }
+      return bonusTiles;
+    }
+    for (var bonusTile : BONUS_TILES) {
+      if (random.nextInt(5) == 0) {
+        bonusTiles.add(bonusTile);
+      }
+    }
+    return bonusTiles;
+  }
+
+  private WinningConditions winningConditions() {
+    var isSelfPick = random.nextBoolean();
+    return new WinningConditions(
+        isSelfPick,
+        random.nextInt(20) == 0,
+        !isSelfPick && random.nextInt(20) == 0,
+        isSelfPick && random.nextInt(20) == 0,
+        isSelfPick && random.nextInt(50) == 0);
+  }
+
+  /** Tiles of a hand being built, counting the copies used by both concealed and exposed tiles */
+  private static class Hand {
+
+    final int[] counts = new int[TileRegistry.PLAYABLE_TILE_TYPES];
+    final List<MahjongTileType> concealed = new ArrayList<>();
+    final List<MahjongTileType> chows = new ArrayList<>();
+    final List<MahjongTileType> pongs = new ArrayList<>();
+    final List<MahjongTileType> kongs = new ArrayList<>();
+
+    boolean add(MahjongTileType tile, int copies) {
+      if (counts[tile.getIndex()] + copies > MAX_TILE_COUNT) {
+        return false;
+      }
+      counts[tile.getIndex()] += copies;
+      return true;
+    }
+
+    boolean addConcealed(MahjongTileType tile, int copies) {
+      if (!add(tile, copies)) {
+        return false;
+      }
+      for (var i = 0; i < copies; i++) {
+        concealed.add(tile);
+      }
+      return true;
+    }
+
+    List<MahjongTileType> tiles() {
+      return concealed.stream().sorted().toList();
+    }
+  }
+}
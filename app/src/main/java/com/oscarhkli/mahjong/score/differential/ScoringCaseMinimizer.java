@@ -0,0 +1,126 @@
+package com.oscarhkli.mahjong.score.differential;
+
+import com.oscarhkli.mahjong.score.ExposedMelds;
+import com.oscarhkli.mahjong.score.MahjongTileType;
+import com.oscarhkli.mahjong.score.TileRegistry;
+import com.oscarhkli.mahjong.score.WindType;
+import com.oscarhkli.mahjong.score.WinningConditions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Greedy simplification of a scoring case while a predicate, typically that the engines
+ * disagree, still holds.<br>
+ * Each step drops a bonus tile, clears a winning condition, resets the winds to East or conceals
+ * an exposed chow or pong, and the steps are repeated until none of them applies.
+ */
+final class ScoringCaseMinimizer {
+
+  private static final WindType EAST_WINDS =
+      new WindType(MahjongTileType.EAST, MahjongTileType.EAST);
+
+  private ScoringCaseMinimizer() {}
+
+  static ScoringCase minimize(ScoringCase scoringCase, Predicate<ScoringCase> isFailing) {
+    var minimized = scoringCase;
+    var simplified = true;
+    while (simplified) {
+      simplified = false;
+      for (var candidate : simplifications(minimized)) {
+        if (isFailing.test(candidate)) {
+          minimized = candidate;
+          simplified = true;
+          break;
+        }
+      }
+    }
+    return minimized;
+  }
+
+  private static List<ScoringCase> simplifications(ScoringCase scoringCase) {
+    var simplifications = new ArrayList<ScoringCase>();
+    for (var i = 0; i < scoringCase.bonusTiles().size(); i++) {
+      var bonusTiles = new ArrayList<>(scoringCase.bonusTiles());
+      bonusTiles.remove(i);
+      simplifications.add(
+          new ScoringCase(
+              scoringCase.tiles(),
+              scoringCase.exposedMelds(),
+              bonusTiles,
+              scoringCase.windSettings(),
+              scoringCase.winningConditions()));
+    }
+
+    var conditions = scoringCase.winningConditions();
+    var flags =
+        new boolean[] {
+          conditions.isSelfPick(),
+          conditions.isWinByLastCatch(),
+          conditions.isRobbingKong(),
+          conditions.isWinByKong(),
+          conditions.isWinByDoubleKong()
+        };
+    for (var i = 0; i < flags.length; i++) {
+      if (flags[i]) {
+        var cleared = flags.clone();
+        cleared[i] = false;
+        simplifications.add(
+            withContext(
+                scoringCase,
+                scoringCase.windSettings(),
+                new WinningConditions(cleared[0], cleared[1], cleared[2], cleared[3], cleared[4])));
+      }
+    }
+
+    if (!EAST_WINDS.equals(scoringCase.windSettings())) {
+      simplifications.add(withContext(scoringCase, EAST_WINDS, conditions));
+    }
+
+    var exposedMelds = scoringCase.exposedMelds();
+    for (var i = 0; i < exposedMelds.getChows().size(); i++) {
+      var chows = new ArrayList<>(exposedMelds.getChows());
+      var start = chows.remove(i);
+      var chowTiles =
+          Stream.of(0, 1, 2)
+              .map(offset -> TileRegistry.tile(start.getIndex() + offset))
+              .toList();
+      simplifications.add(
+          withMelds(
+              scoringCase,
+              chowTiles,
+              new ExposedMelds(chows, exposedMelds.getPongs(), exposedMelds.getKongs())));
+    }
+    for (var i = 0; i < exposedMelds.getPongs().size(); i++) {
+      var pongs = new ArrayList<>(exposedMelds.getPongs());
+      var tile = pongs.remove(i);
+      simplifications.add(
+          withMelds(
+              scoringCase,
+              List.of(tile, tile, tile),
+              new ExposedMelds(exposedMelds.getChows(), pongs, exposedMelds.getKongs())));
+    }
+    return simplifications;
+  }
+
+  private static ScoringCase withContext(
+      ScoringCase scoringCase, WindType windSettings, WinningConditions winningConditions) {
+    return new ScoringCase(
+        scoringCase.tiles(),
+        scoringCase.exposedMelds(),
+        scoringCase.bonusTiles(),
+        windSettings,
+        winningConditions);
+  }
+
+  private static ScoringCase withMelds(
+      ScoringCase scoringCase, List<MahjongTileType> concealedTiles, ExposedMelds exposedMelds) {
+    return new ScoringCase(
+        Stream.concat(scoringCase.tiles().stream(), concealedTiles.stream()).sorted().toList(),
+        exposedMelds,
+        scoringCase.bonusTiles(),
+        scoringCase.windSettings(),
+        scoringCase.winningConditions());
+  }
+}
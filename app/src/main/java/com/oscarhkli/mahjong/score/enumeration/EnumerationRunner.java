@@ -0,0 +1,49 @@
+package com.oscarhkli.mahjong.score.enumeration;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Generates the faan frequency table on start-up with the enumeration profile and writes it to a
+ * binary file.
+ */
+@Slf4j
+@Profile("enumeration")
+@Component
+public class EnumerationRunner implements CommandLineRunner {
+
+  private final FaanFrequencyTableGenerator faanFrequencyTableGenerator;
+  private final Path output;
+
+  public EnumerationRunner(
+      FaanFrequencyTableGenerator faanFrequencyTableGenerator,
+      @Value("${enumeration.output:faan-frequencies.bin}") Path output) {
+    this.faanFrequencyTableGenerator = faanFrequencyTableGenerator;
+    this.output = output;
+  }
+
+  @Override
+  public void run(String... args) throws IOException {
+    var table = faanFrequencyTableGenerator.generate();
+    try (var outputStream = new BufferedOutputStream(Files.newOutputStream(output))) {
+      table.write(outputStream);
+    }
+    log.info(
+        "Hands: {}, combinations: {}, written to {}",
+        table.hands(),
+        table.combinations(),
+        output.toAbsolutePath());
+    for (var faans = -1; faans <= FaanFrequencyTable.MAX_FAANS; faans++) {
+      log.info(
+          "{} faans: {} hands ({}%)",
+          faans, table.hands(faans), "%.5f".formatted(table.probability(faans) * 100));
+    }
+  }
+}
@@ -0,0 +1,201 @@
+package com.oscarhkli.mahjong.score.enumeration;
+
+import com.oscarhkli.mahjong.score.WinningHand;
+import com.oscarhkli.mahjong.score.WinningHandType;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Frequencies of faans, overall and by {@link WinningHandType}, of enumerated hands.<br>
+ * Every hand is counted both as a distinct hand and by its combinations, i.e., the number of ways
+ * to pick its tiles from the 136 tiles, the latter giving the probability of being dealt it.<br>
+ * The binary format stores the names of the Winning Hand Types, so that a table stays readable
+ * after the enum is reordered.
+ */
+@EqualsAndHashCode
+public class FaanFrequencyTable {
+
+  static final int MAGIC = 0x4d4a4654;
+  static final int VERSION = 1;
+  static final int MAX_FAANS = 13;
+
+  /** Faans from Trick Hand at -1 up to MAX_FAANS */
+  private static final int FAAN_SLOTS = MAX_FAANS + 2;
+
+  private static final WinningHandType[] WINNING_HAND_TYPES = WinningHandType.values();
+
+  private final long[] hands = new long[FAAN_SLOTS];
+  private final long[] combinations = new long[FAAN_SLOTS];
+  private final long[][] handsByType = new long[WINNING_HAND_TYPES.length][FAAN_SLOTS];
+  private final long[][] combinationsByType = new long[WINNING_HAND_TYPES.length][FAAN_SLOTS];
+
+  void add(WinningHand winningHand, long hands, long combinations) {
+    var slot = slot(winningHand.getFaans());
+    this.hands[slot] += hands;
+    this.combinations[slot] += combinations;
+    for (var winningHandType : winningHand.getWinningHandTypes()) {
+      handsByType[winningHandType.ordinal()][slot] += hands;
+      combinationsByType[winningHandType.ordinal()][slot] += combinations;
+    }
+  }
+
+  FaanFrequencyTable merge(FaanFrequencyTable other) {
+    for (var slot = 0; slot < FAAN_SLOTS; slot++) {
+      hands[slot] += other.hands[slot];
+      combinations[slot] += other.combinations[slot];
+      for (var type = 0; type < WINNING_HAND_TYPES.length; type++) {
+        handsByType[type][slot] += other.handsByType[type][slot];
+        combinationsByType[type][slot] += other.combinationsByType[type][slot];
+      }
+    }
+    return this;
+  }
+
+  public long hands() {
+    var total = 0L;
+    for (var count : hands) {
+      total += count;
+    }
+    return total;
+  }
+
+  public long hands(int faans) {
+    return hands[slot(faans)];
+  }
+
+  public long hands(WinningHandType winningHandType, int faans) {
+    return handsByType[winningHandType.ordinal()][slot(faans)];
+  }
+
+  public long combinations() {
+    var total = 0L;
+    for (var count : combinations) {
+      total += count;
+    }
+    return total;
+  }
+
+  public long combinations(int faans) {
+    return combinations[slot(faans)];
+  }
+
+  public long combinations(WinningHandType winningHandType, int faans) {
+    return combinationsByType[winningHandType.ordinal()][slot(faans)];
+  }
+
+  /**
+   * @param faans faans, -1 for Trick Hand
+   * @return probability of a complete hand scoring the faans
+   */
+  public double probability(int faans) {
+    var total = combinations();
+    return total == 0 ? 0.0 : (double) combinations(faans) / total;
+  }
+
+  /**
+   * @param winningHandType Winning Hand Type
+   * @param faans faans, -1 for Trick Hand
+   * @return probability of a complete hand scoring the faans with the Winning Hand Type
+   */
+  public double probability(WinningHandType winningHandType, int faans) {
+    var total = combinations();
+    return total == 0 ? 0.0 : (double) combinations(winningHandType, faans) / total;
+  }
+
+  /**
+   * Writes the magic number, the version, the number of faan slots, the totals by faans and then
+   * the name and the counts by faans of each Winning Hand Type that occurred.
+   *
+   * @param outputStream stream to write to, left open
+   * @throws IOException if writing fails
+   */
+  public void write(OutputStream outputStream) throws IOException {
+    var output = new DataOutputStream(outputStream);
+    output.writeInt(MAGIC);
+    output.writeInt(VERSION);
+    output.writeInt(FAAN_SLOTS);
+    writeCounts(output, hands, combinations);
+    var occurredTypes = 0;
+    for (var type = 0; type < WINNING_HAND_TYPES.length; type++) {
+      occurredTypes += isEmpty(handsByType[type]) ? 0 : 1;
+    }
+    output.writeInt(occurredTypes);
+    for (var type = 0; type < WINNING_HAND_TYPES.length; type++) {
+      if (!isEmpty(handsByType[type])) {
+        output.writeUTF(WINNING_HAND_TYPES[type].name());
+        writeCounts(output, handsByType[type], combinationsByType[type]);
+      }
+    }
+    output.flush();
+  }
+
+  /**
+   * @param inputStream stream written by {@link #write(OutputStream)}, left open
+   * @return table read
+   * @throws IOException if reading fails or the stream is not a table of this version
+   */
+  public static FaanFrequencyTable read(InputStream inputStream) throws IOException {
+    var input = new DataInputStream(inputStream);
+    if (input.readInt() != MAGIC) {
+      throw new IOException("Not a faan frequency table");
+    }
+    var version = input.readInt();
+    if (version != VERSION) {
+      throw new IOException("Unsupported faan frequency table version %d".formatted(version));
+    }
+    var faanSlots = input.readInt();
+    if (faanSlots != FAAN_SLOTS) {
+      throw new IOException("Unsupported number of faans %d".formatted(faanSlots));
+    }
+    var table = new FaanFrequencyTable();
+    readCounts(input, table.hands, table.combinations);
+    var occurredTypes = input.readInt();
+    for (var i = 0; i < occurredTypes; i++) {
+      var name = input.readUTF();
+      WinningHandType winningHandType;
+      try {
+        winningHandType = WinningHandType.valueOf(name);
+      } catch (IllegalArgumentException e) {
+        throw new IOException("Unknown Winning Hand Type %s".formatted(name), e);
+      }
+      readCounts(
+          input,
+          table.handsByType[winningHandType.ordinal()],
+          table.combinationsByType[winningHandType.ordinal()]);
+    }
+    return table;
+  }
+
+  private static void writeCounts(DataOutputStream output, long[] hands, long[] combinations)
+      throws IOException {
+    for (var slot = 0; slot < FAAN_SLOTS; slot++) {
+      output.writeLong(hands[slot]);
+      output.writeLong(combinations[slot]);
+    }
+  }
+
+  private static void readCounts(DataInputStream input, long[] hands, long[] combinations)
+      throws IOException {
+    for (var slot = 0; slot < FAAN_SLOTS; slot++) {
+      hands[slot] = input.readLong();
+      combinations[slot] = input.readLong();
+    }
+  }
+
+  private static boolean isEmpty(long[] counts) {
+    for (var count : counts) {
+      if (count != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int slot(int faans) {
+    return Math.min(faans, MAX_FAANS) + 1;
+  }
+}
@@ -0,0 +1,123 @@
+package com.oscarhkli.mahjong.score.enumeration;
+
+import com.oscarhkli.mahjong.score.BonusWinningConditionCalculator;
+import com.oscarhkli.mahjong.score.ExposedMelds;
+import com.oscarhkli.mahjong.score.HandStructureCalculator;
+import com.oscarhkli.mahjong.score.MahjongTileType;
+import com.oscarhkli.mahjong.score.MeldsFactory;
+import com.oscarhkli.mahjong.score.ScoreCalculator;
+import com.oscarhkli.mahjong.score.TileRegistry;
+import com.oscarhkli.mahjong.score.WindType;
+import com.oscarhkli.mahjong.score.WinningConditionCalculator;
+import com.oscarhkli.mahjong.score.WinningConditions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scores every complete concealed hand enumerated by {@link HandEnumerator} into a {@link
+ * FaanFrequencyTable}.<br>
+ * Every hand is won from a discard without bonus tiles by the East seat in the East round, so that
+ * the table only depends on the scoring rules and doubles as a regression oracle for them.<br>
+ * Millions of distinct hands are scored once each, so the scoring bypasses the caches of the Spring
+ * managed calculators.
+ */
+@Slf4j
+@Component
+public class FaanFrequencyTableGenerator {
+
+  /** Prefixes enumerated by a worker without splitting further */
+  static final int PREFIXES_PER_TASK = 64;
+
+  private static final ExposedMelds NO_EXPOSED_MELDS = new ExposedMelds();
+  private static final WindType WIND_SETTINGS =
+      new WindType(MahjongTileType.EAST, MahjongTileType.EAST);
+  private static final WinningConditions WINNING_CONDITIONS = new WinningConditions();
+
+  private final ScoreCalculator scoreCalculator;
+  private final int parallelism;
+
+  @Autowired
+  public FaanFrequencyTableGenerator(
+      MeldsFactory meldsFactory,
+      BonusWinningConditionCalculator bonusWinningConditionCalculator,
+      WinningConditionCalculator winningConditionCalculator,
+      @Value("${scoring.parallelism:0}") int parallelism) {
+    this(
+        new ScoreCalculator(
+            new HandStructureCalculator(meldsFactory),
+            bonusWinningConditionCalculator,
+            winningConditionCalculator),
+        parallelism);
+  }
+
+  FaanFrequencyTableGenerator(ScoreCalculator scoreCalculator, int parallelism) {
+    this.scoreCalculator = scoreCalculator;
+    this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+  }
+
+  public FaanFrequencyTable generate() {
+    var startTime = System.nanoTime();
+    var handEnumerator = new HandEnumerator();
+    var table = new FaanFrequencyTable();
+    try (var forkJoinPool = new ForkJoinPool(parallelism)) {
+      table.merge(
+          forkJoinPool.invoke(new EnumerationTask(handEnumerator, 0, handEnumerator.prefixes())));
+    }
+    handEnumerator.enumerateThirteenOrphans(
+        (tileCounts, hands, combinations) -> score(table, tileCounts, hands, combinations));
+    log.info(
+        "Enumerated {} hands in {} ms",
+        table.hands(),
+        (System.nanoTime() - startTime) / 1_000_000);
+    return table;
+  }
+
+  private void score(FaanFrequencyTable table, int[] tileCounts, long hands, long combinations) {
+    var tiles = new ArrayList<MahjongTileType>(14);
+    for (var index = 0; index < tileCounts.length; index++) {
+      for (var i = 0; i < tileCounts[index]; i++) {
+        tiles.add(TileRegistry.tile(index));
+      }
+    }
+    var winningHand =
+        scoreCalculator.calculate(
+            tiles, NO_EXPOSED_MELDS, List.of(), WIND_SETTINGS, WINNING_CONDITIONS);
+    table.add(winningHand, hands, combinations);
+  }
+
+  private class EnumerationTask extends RecursiveTask<FaanFrequencyTable> {
+
+    private final HandEnumerator handEnumerator;
+    private final int fromPrefix;
+    private final int toPrefix;
+
+    EnumerationTask(HandEnumerator handEnumerator, int fromPrefix, int toPrefix) {
+      this.handEnumerator = handEnumerator;
+      this.fromPrefix = fromPrefix;
+      this.toPrefix = toPrefix;
+    }
+
+    @Override
+    protected FaanFrequencyTable compute() {
+      if (toPrefix - fromPrefix <= PREFIXES_PER_TASK) {
+        var table = new FaanFrequencyTable();
+        handEnumerator.enumerate(
+            fromPrefix,
+            toPrefix,
+            (tileCounts, hands, combinations) -> score(table, tileCounts, hands, combinations));
+        return table;
+      }
+      var middle = (fromPrefix + toPrefix) >>> 1;
+      var firstHalf = new EnumerationTask(handEnumerator, fromPrefix, middle);
+      firstHalf.fork();
+      var secondHalf = new EnumerationTask(handEnumerator, middle, toPrefix);
+      return secondHalf.compute().merge(firstHalf.join());
+    }
+  }
+}
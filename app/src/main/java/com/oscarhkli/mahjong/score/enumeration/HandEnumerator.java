@@ -0,0 +1,258 @@
+package com.oscarhkli.mahjong.score.enumeration;
+
+import com.oscarhkli.mahjong.score.MahjongSetType;
+import com.oscarhkli.mahjong.score.TileRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Enumeration of every complete concealed hand, i.e., 4 melds and an eye, plus the Thirteen
+ * Orphans.<br>
+ * A complete hand is made of one {@link HandShape} per Mahjong Set. Character, Bamboo and Dot only
+ * differ by name, so a hand is only visited when its suited shapes are in non-decreasing order,
+ * standing for every distinct permutation of its suits. The work is split by the shapes of the
+ * Character and Bamboo tiles, called prefixes, so that workers can enumerate disjoint ranges.
+ */
+class HandEnumerator {
+
+  static final int MELDS = 4;
+  static final int PLAYABLE_TILE_TYPES = TileRegistry.PLAYABLE_TILE_TYPES;
+
+  private static final int MAX_TILE_COUNT = 4;
+  private static final int CHARACTER_INDEX = MahjongSetType.CHARACTER.getStartingTile().getIndex();
+  private static final int BAMBOO_INDEX = MahjongSetType.BAMBOO.getStartingTile().getIndex();
+  private static final int DOT_INDEX = MahjongSetType.DOT.getStartingTile().getIndex();
+  private static final int WIND_INDEX = MahjongSetType.WIND.getStartingTile().getIndex();
+  private static final int DRAGON_INDEX = MahjongSetType.DRAGON.getStartingTile().getIndex();
+
+  /** Visitor of enumerated hands. */
+  interface HandVisitor {
+
+    /**
+     * @param tileCounts count of each playable tile, reused by the next visit
+     * @param hands number of distinct hands the visited hand stands for
+     * @param combinations number of ways to pick the tiles of those hands from the 136 tiles
+     */
+    void visit(int[] tileCounts, long hands, long combinations);
+  }
+
+  private final List<HandShape> suitedShapes;
+  private final List<HandShape[]> honorShapes;
+
+  /** First suited shape index by melds and eyes */
+  private final int[][] bucketStarts = new int[MELDS + 1][2];
+
+  /** Last suited shape index + 1 by melds and eyes */
+  private final int[][] bucketEnds = new int[MELDS + 1][2];
+
+  private final int[] characterShapes;
+  private final int[] bambooShapes;
+
+  HandEnumerator() {
+    this.suitedShapes = shapes(MahjongSetType.DOT);
+    for (var i = suitedShapes.size() - 1; i >= 0; i--) {
+      var shape = suitedShapes.get(i);
+      if (bucketEnds[shape.melds()][shape.eyes()] == 0) {
+        bucketEnds[shape.melds()][shape.eyes()] = i + 1;
+      }
+      bucketStarts[shape.melds()][shape.eyes()] = i;
+    }
+
+    this.honorShapes = new ArrayList<>();
+    var dragonShapes = shapes(MahjongSetType.DRAGON);
+    for (var windShape : shapes(MahjongSetType.WIND)) {
+      for (var dragonShape : dragonShapes) {
+        if (windShape.melds() + dragonShape.melds() <= MELDS
+            && windShape.eyes() + dragonShape.eyes() <= 1) {
+          honorShapes.add(new HandShape[] {windShape, dragonShape});
+        }
+      }
+    }
+
+    var prefixes = new ArrayList<int[]>();
+    for (var i = 0; i < suitedShapes.size(); i++) {
+      for (var j = i; j < suitedShapes.size(); j++) {
+        var melds = suitedShapes.get(i).melds() + suitedShapes.get(j).melds();
+        var eyes = suitedShapes.get(i).eyes() + suitedShapes.get(j).eyes();
+        if (melds <= MELDS && eyes <= 1) {
+          prefixes.add(new int[] {i, j});
+        }
+      }
+    }
+    this.characterShapes = prefixes.stream().mapToInt(prefix -> prefix[0]).toArray();
+    this.bambooShapes = prefixes.stream().mapToInt(prefix -> prefix[1]).toArray();
+  }
+
+  /**
+   * @param mahjongSetType Mahjong Set Type
+   * @return every shape of the Mahjong Set, ordered by melds then eyes
+   */
+  static List<HandShape> shapes(MahjongSetType mahjongSetType) {
+    var size = mahjongSetType.getSize();
+    var chows = TileRegistry.isSuited(mahjongSetType) ? size - 2 : 0;
+    var shapes = new HashMap<Integer, HandShape>();
+    addShapes(new int[size], 0, 0, chows, shapes);
+    return shapes.values().stream()
+        .sorted(
+            Comparator.comparingInt(HandShape::melds)
+                .thenComparingInt(HandShape::eyes)
+                .thenComparingInt(shape -> key(shape.tileCounts())))
+        .toList();
+  }
+
+  /**
+   * Adds melds in non-decreasing order, pongs of each tile first then chows starting from each
+   * tile, so that every multiset of melds is visited once.
+   */
+  private static void addShapes(
+      int[] tileCounts, int melds, int firstMeld, int chows, Map<Integer, HandShape> shapes) {
+    addShape(tileCounts, melds, 0, shapes);
+    for (var eye = 0; eye < tileCounts.length; eye++) {
+      if (tileCounts[eye] + 2 <= MAX_TILE_COUNT) {
+        tileCounts[eye] += 2;
+        addShape(tileCounts, melds, 1, shapes);
+        tileCounts[eye] -= 2;
+      }
+    }
+    if (melds == MELDS) {
+      return;
+    }
+    for (var meld = firstMeld; meld < tileCounts.length + chows; meld++) {
+      var pong = meld < tileCounts.length;
+      var tile = pong ? meld : meld - tileCounts.length;
+      if (take(tileCounts, tile, pong, 1)) {
+        addShapes(tileCounts, melds + 1, meld, chows, shapes);
+        take(tileCounts, tile, pong, -1);
+      }
+    }
+  }
+
+  private static boolean take(int[] tileCounts, int tile, boolean pong, int delta) {
+    if (pong) {
+      if (tileCounts[tile] + 3 * delta > MAX_TILE_COUNT) {
+        return false;
+      }
+      tileCounts[tile] += 3 * delta;
+      return true;
+    }
+    for (var i = tile; i < tile + 3; i++) {
+      if (tileCounts[i] + delta > MAX_TILE_COUNT) {
+        return false;
+      }
+    }
+    for (var i = tile; i < tile + 3; i++) {
+      tileCounts[i] += delta;
+    }
+    return true;
+  }
+
+  private static void addShape(
+      int[] tileCounts, int melds, int eyes, Map<Integer, HandShape> shapes) {
+    shapes.computeIfAbsent(
+        key(tileCounts),
+        key -> new HandShape(tileCounts.clone(), melds, eyes, combinations(tileCounts)));
+  }
+
+  private static int key(int[] tileCounts) {
+    var key = 0;
+    for (var i = tileCounts.length - 1; i >= 0; i--) {
+      key = key * (MAX_TILE_COUNT + 1) + tileCounts[i];
+    }
+    return key;
+  }
+
+  private static long combinations(int[] tileCounts) {
+    var combinations = 1L;
+    for (var count : tileCounts) {
+      combinations *= choose(count);
+    }
+    return combinations;
+  }
+
+  /** Ways to pick count tiles from the 4 copies of a tile */
+  private static long choose(int count) {
+    return switch (count) {
+      case 0, 4 -> 1;
+      case 1, 3 -> 4;
+      default -> 6;
+    };
+  }
+
+  int prefixes() {
+    return characterShapes.length;
+  }
+
+  /**
+   * Visits every hand in canonical order whose Character and Bamboo shapes are one of the
+   * prefixes in the range.
+   *
+   * @param fromPrefix first prefix, inclusive
+   * @param toPrefix last prefix, exclusive
+   * @param visitor visitor of the hands
+   */
+  void enumerate(int fromPrefix, int toPrefix, HandVisitor visitor) {
+    var tileCounts = new int[PLAYABLE_TILE_TYPES];
+    for (var prefix = fromPrefix; prefix < toPrefix; prefix++) {
+      var characterIndex = characterShapes[prefix];
+      var bambooIndex = bambooShapes[prefix];
+      var character = suitedShapes.get(characterIndex);
+      var bamboo = suitedShapes.get(bambooIndex);
+      copy(character, tileCounts, CHARACTER_INDEX);
+      copy(bamboo, tileCounts, BAMBOO_INDEX);
+      for (var honors : honorShapes) {
+        var wind = honors[0];
+        var dragon = honors[1];
+        var melds = MELDS - character.melds() - bamboo.melds() - wind.melds() - dragon.melds();
+        var eyes = 1 - character.eyes() - bamboo.eyes() - wind.eyes() - dragon.eyes();
+        if (melds < 0 || eyes < 0) {
+          continue;
+        }
+        copy(wind, tileCounts, WIND_INDEX);
+        copy(dragon, tileCounts, DRAGON_INDEX);
+        var prefixCombinations =
+            character.combinations()
+                * bamboo.combinations()
+                * wind.combinations()
+                * dragon.combinations();
+        var dotEnd = bucketEnds[melds][eyes];
+        for (var dotIndex = Math.max(bucketStarts[melds][eyes], bambooIndex);
+            dotIndex < dotEnd;
+            dotIndex++) {
+          var dot = suitedShapes.get(dotIndex);
+          copy(dot, tileCounts, DOT_INDEX);
+          var hands = permutations(characterIndex, bambooIndex, dotIndex);
+          visitor.visit(tileCounts, hands, hands * prefixCombinations * dot.combinations());
+        }
+      }
+    }
+  }
+
+  /** Visits the 13 Thirteen Orphans, one per tile forming the eye. */
+  void enumerateThirteenOrphans(HandVisitor visitor) {
+    var tileCounts = new int[PLAYABLE_TILE_TYPES];
+    for (var orphan : TileRegistry.orphans()) {
+      tileCounts[orphan.getIndex()] = 1;
+    }
+    var combinations = combinations(tileCounts) / choose(1) * choose(2);
+    for (var eye : TileRegistry.orphans()) {
+      tileCounts[eye.getIndex()] = 2;
+      visitor.visit(tileCounts, 1, combinations);
+      tileCounts[eye.getIndex()] = 1;
+    }
+  }
+
+  private static void copy(HandShape shape, int[] tileCounts, int fromIndex) {
+    System.arraycopy(shape.tileCounts(), 0, tileCounts, fromIndex, shape.tileCounts().length);
+  }
+
+  /** Distinct permutations of 3 shape indices in non-decreasing order */
+  private static long permutations(int first, int second, int third) {
+    if (first == third) {
+      return 1;
+    }
+    return first == second || second == third ? 3 : 6;
+  }
+}
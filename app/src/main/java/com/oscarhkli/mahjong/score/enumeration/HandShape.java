@@ -0,0 +1,11 @@
+package com.oscarhkli.mahjong.score.enumeration;
+
+/**
+ * Tile counts of a single Mahjong Set that split fully into melds and at most one eye.
+ *
+ * @param tileCounts count of each tile of the Mahjong Set, its first tile at index 0
+ * @param melds number of melds
+ * @param eyes 1 if the shape holds the eye, otherwise 0
+ * @param combinations number of ways to pick the tiles from the 4 copies of each tile
+ */
+record HandShape(int[] tileCounts, int melds, int eyes, long combinations) {}
@@ -0,0 +1,180 @@
+package com.oscarhkli.mahjong.score.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+/**
+ * Signs and verifies the JWTs of the API.<br>
+ * The key and the parser are built once. A verified token is kept in a bounded cache keyed by the
+ * SHA-256 of the token until it expires, so that the signature of a token reused across requests
+ * is only checked on its first use.
+ */
+@Component
+public class JwtHelper {
+
+  private static final long MINUTE_TO_MILLISECOND = 60 * 1000L;
+
+  private final SecretKey key;
+  private final JwtParser parser;
+  private final long tokenExpirationTime;
+  private final long refreshTokenExpirationTime;
+  private final Cache<String, VerifiedToken> verifiedTokens;
+
+  public JwtHelper(
+      @Value("${auth.secret-key}") String secretKey,
+      @Value("${auth.token-expiration-minute}") long tokenExpirationMinute,
+      @Value("${auth.refresh-token-expiration-minute}") long refreshTokenExpirationMinute,
+      @Value("${auth.verified-token-cache-size:10000}") long verifiedTokenCacheSize) {
+    this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+    this.parser = Jwts.parser().verifyWith(key).build();
+    this.tokenExpirationTime = tokenExpirationMinute * MINUTE_TO_MILLISECOND;
+    this.refreshTokenExpirationTime = refreshTokenExpirationMinute * MINUTE_TO_MILLISECOND;
+    this.verifiedTokens =
+        Caffeine.newBuilder()
+            .maximumSize(verifiedTokenCacheSize)
+            .expireAfter(new UntilTokenExpiry())
+            .build();
+  }
+
+  public String generateToken(String subject) {
+    return Jwts.builder()
+        .subject(subject)
+        .issuedAt(new Date())
+        .expiration(new Date(System.currentTimeMillis() + tokenExpirationTime))
+        .signWith(key)
+        .compact();
+  }
+
+  public String generateToken(String subject, List<String> roles) {
+    return Jwts.builder()
+        .subject(subject)
+        .claim("roles", roles)
+        .issuedAt(new Date())
+        .expiration(new Date(System.currentTimeMillis() + tokenExpirationTime))
+        .signWith(key)
+        .compact();
+  }
+
+  // Generate Refresh Token
+  public String generateRefreshToken(String username) {
+    return Jwts.builder()
+        .subject(username)
+        .expiration(new Date(System.currentTimeMillis() + refreshTokenExpirationTime))
+        .signWith(key)
+        .compact();
+  }
+
+  /**
+   * Parse and verify the token, or return it from the cache if it was verified before and has not
+   * expired since.
+   *
+   * @param token compact JWT
+   * @return subject, roles and expiration of the token
+   * @throws io.jsonwebtoken.JwtException if the token is malformed, forged or expired
+   */
+  public VerifiedToken verify(String token) {
+    var tokenHash = hash(token);
+    var verifiedToken = verifiedTokens.getIfPresent(tokenHash);
+    if (verifiedToken != null && !verifiedToken.isExpired()) {
+      return verifiedToken;
+    }
+    // Parsing an expired token throws, so it is never cached again
+    verifiedToken = VerifiedToken.of(parser.parseSignedClaims(token).getPayload());
+    if (verifiedToken.expiration() != null) {
+      verifiedTokens.put(tokenHash, verifiedToken);
+    }
+    return verifiedToken;
+  }
+
+  public String extractSubject(String token) {
+    return verify(token).subject();
+  }
+
+  public boolean validateToken(String token, String subject) {
+    return subject.equals(verify(token).subject());
+  }
+
+  public List<SimpleGrantedAuthority> extractAuthorities(String token) {
+    return verify(token).authorities();
+  }
+
+  public List<String> extractRoles(String token) {
+    return verify(token).roles();
+  }
+
+  private static String hash(String token) {
+    try {
+      var digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /**
+   * Claims of a token whose signature has been verified.
+   *
+   * @param expiration null if the token never expires
+   */
+  public record VerifiedToken(
+      String subject,
+      List<String> roles,
+      List<SimpleGrantedAuthority> authorities,
+      Date expiration) {
+
+    @SuppressWarnings("unchecked")
+    static VerifiedToken of(Claims claims) {
+      List<String> roles =
+          Optional.ofNullable(claims.get("roles", List.class)).orElseGet(List::of);
+      return new VerifiedToken(
+          claims.getSubject(),
+          List.copyOf(roles),
+          roles.stream().map(SimpleGrantedAuthority::new).toList(),
+          claims.getExpiration());
+    }
+
+    boolean isExpired() {
+      return expiration != null && expiration.before(new Date());
+    }
+  }
+
+  /** Keep each verified token in the cache until it expires */
+  private static class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(String tokenHash, VerifiedToken verifiedToken, long currentTime) {
+      var remainingMillis = verifiedToken.expiration().getTime() - System.currentTimeMillis();
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String tokenHash, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+      return expireAfterCreate(tokenHash, verifiedToken, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String tokenHash, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
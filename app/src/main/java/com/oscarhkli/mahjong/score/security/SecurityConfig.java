@@ -47,7 +47,15 @@ public class SecurityConfig {
             auth ->
                 auth.requestMatchers("/auth/login")
                     .permitAll()
-                    .requestMatchers("/api/v1/mahjong/faans")
+                    .requestMatchers(
+                        "/api/v1/mahjong/faans",
+                        "/api/v1/mahjong/faans:batch",
+                        "/api/v1/mahjong/faans:stream",
+                        "/api/v1/mahjong/waits",
+                        "/api/v1/mahjong/discards")
+                    .hasRole("USER")
+                    .requestMatchers(
+                        "/actuator/metrics/**", "/actuator/prometheus", "/actuator/caches/**")
                     .hasRole("USER")
                     .anyRequest()
                     .permitAll())
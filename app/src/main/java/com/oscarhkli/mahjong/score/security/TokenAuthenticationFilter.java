@@ -27,15 +27,14 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
     if (authHeader != null && authHeader.startsWith("Bearer ")) {
       try {
         var token = authHeader.substring(7);
-        if (jwtHelper.validateToken(token, SUBJECT)) {
-          var username = jwtHelper.extractSubject(token);
-          var authorities = jwtHelper.extractAuthorities(token);
+        // Parse and verify the token once for both the subject and the roles
+        var verifiedToken = jwtHelper.verify(token);
+        if (SUBJECT.equals(verifiedToken.subject())) {
           var authentication =
               new UsernamePasswordAuthenticationToken(
-                  username,
+                  verifiedToken.subject(),
                   null, // No credentials needed since it's a JWT
-                  authorities // Default role
-                  );
+                  verifiedToken.authorities());
           SecurityContextHolder.getContext().setAuthentication(authentication);
         }
       } catch (Exception e) {
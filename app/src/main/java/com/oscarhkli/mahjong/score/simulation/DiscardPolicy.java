@@ -0,0 +1,20 @@
+package com.oscarhkli.mahjong.score.simulation;
+
+import java.util.SplittableRandom;
+
+/**
+ * Choice of discard of a simulated player. Implementations are shared by every simulation worker,
+ * so they must be stateless or thread-safe, and should not allocate as they are called on every
+ * draw.
+ */
+public interface DiscardPolicy {
+
+  /**
+   * @param tileCounts concealed tiles after the draw, indexed by tile index, to be left unchanged
+   * @param exposedMeldSize number of exposed melds
+   * @param drawnTile index of the tile just drawn
+   * @param random random numbers of the calling worker
+   * @return index of a tile in tileCounts to discard
+   */
+  int discard(int[] tileCounts, int exposedMeldSize, int drawnTile, SplittableRandom random);
+}
@@ -0,0 +1,19 @@
+package com.oscarhkli.mahjong.score.simulation;
+
+import com.oscarhkli.mahjong.score.ShantenCalculator;
+import java.util.SplittableRandom;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/** Discard the tile leaving the lowest shanten, the drawn tile then the lowest tile on ties. */
+@AllArgsConstructor
+@Component
+public class ShantenDiscardPolicy implements DiscardPolicy {
+
+  private final ShantenCalculator shantenCalculator;
+
+  @Override
+  public int discard(int[] tileCounts, int exposedMeldSize, int drawnTile, SplittableRandom random) {
+    return shantenCalculator.bestDiscard(tileCounts, exposedMeldSize, drawnTile);
+  }
+}
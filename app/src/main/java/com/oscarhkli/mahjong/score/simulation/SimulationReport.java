@@ -0,0 +1,53 @@
+package com.oscarhkli.mahjong.score.simulation;
+
+import com.oscarhkli.mahjong.score.WinningHandType;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * @param hands number of simulated hands
+ * @param wins hands won by self-pick
+ * @param exhaustiveDraws hands ending with the wall exhausted
+ * @param winningHandTypes number of wins scoring each Winning Hand Type
+ * @param faans number of wins by faans, capped at 13, Trick Hands being -1
+ * @param elapsed wall-clock time of the simulation
+ */
+public record SimulationReport(
+    long hands,
+    long wins,
+    long exhaustiveDraws,
+    Map<WinningHandType, Long> winningHandTypes,
+    Map<Integer, Long> faans,
+    Duration elapsed) {
+
+  static SimulationReport of(SimulationTally tally, Duration elapsed) {
+    var winningHandTypes = new EnumMap<WinningHandType, Long>(WinningHandType.class);
+    for (var winningHandType : WinningHandType.values()) {
+      var count = tally.winningHandTypes[winningHandType.ordinal()];
+      if (count > 0) {
+        winningHandTypes.put(winningHandType, count);
+      }
+    }
+    var faans = new TreeMap<Integer, Long>();
+    for (var i = 0; i < tally.faans.length; i++) {
+      if (tally.faans[i] > 0) {
+        faans.put(i - 1, tally.faans[i]);
+      }
+    }
+    return new SimulationReport(
+        tally.hands,
+        tally.wins,
+        tally.exhaustiveDraws,
+        Collections.unmodifiableMap(winningHandTypes),
+        Collections.unmodifiableMap(faans),
+        elapsed);
+  }
+
+  public double handsPerSecond() {
+    var nanos = elapsed.toNanos();
+    return nanos == 0 ? 0 : hands * 1e9 / nanos;
+  }
+}
@@ -0,0 +1,53 @@
+package com.oscarhkli.mahjong.score.simulation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/** Runs a simulation on start-up with the simulation profile and logs its distributions. */
+@Slf4j
+@Profile("simulation")
+@Component
+public class SimulationRunner implements CommandLineRunner {
+
+  private final Simulator simulator;
+  private final long hands;
+  private final long seed;
+
+  public SimulationRunner(
+      Simulator simulator,
+      @Value("${simulation.hands:100000}") long hands,
+      @Value("${simulation.seed:0}") long seed) {
+    this.simulator = simulator;
+    this.hands = hands;
+    this.seed = seed;
+  }
+
+  @Override
+  public void run(String... args) {
+    var report = simulator.simulate(hands, seed);
+    log.info(
+        "Hands: {}, wins: {}, exhaustive draws: {}, hands/s: {}",
+        report.hands(),
+        report.wins(),
+        report.exhaustiveDraws(),
+        Math.round(report.handsPerSecond()));
+    report
+        .faans()
+        .forEach(
+            (faans, wins) ->
+                log.info("{} faans: {} ({}%)", faans, wins, percentage(wins, report.wins())));
+    report
+        .winningHandTypes()
+        .forEach(
+            (winningHandType, wins) ->
+                log.info(
+                    "{}: {} ({}%)", winningHandType, wins, percentage(wins, report.wins())));
+  }
+
+  private static String percentage(long count, long total) {
+    return "%.3f".formatted(total == 0 ? 0.0 : count * 100.0 / total);
+  }
+}
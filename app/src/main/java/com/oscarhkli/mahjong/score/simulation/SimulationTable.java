@@ -0,0 +1,157 @@
+package com.oscarhkli.mahjong.score.simulation;
+
+import com.oscarhkli.mahjong.score.ExposedMelds;
+import com.oscarhkli.mahjong.score.MahjongTileType;
+import com.oscarhkli.mahjong.score.ScoreCalculator;
+import com.oscarhkli.mahjong.score.ShantenCalculator;
+import com.oscarhkli.mahjong.score.TileRegistry;
+import com.oscarhkli.mahjong.score.WindType;
+import com.oscarhkli.mahjong.score.WinningConditions;
+import com.oscarhkli.mahjong.score.WinningHand;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Table of 4 players drawing and discarding until one completes a hand by self-pick or the wall is
+ * exhausted. Discards are never claimed.<br>
+ * The wall and the hands are arrays reused from hand to hand, so that a draw does not allocate;
+ * only completed hands are turned into tiles for {@link ScoreCalculator}. Not thread-safe, each
+ * simulation worker owns a table.
+ */
+class SimulationTable {
+
+  static final int SEATS = 4;
+  static final int HAND_SIZE = 13;
+
+  private static final int COPIES_PER_TILE = 4;
+  private static final int PLAYABLE_TILE_TYPES = TileRegistry.PLAYABLE_TILE_TYPES;
+  private static final int TILE_TYPES = MahjongTileType.values().length;
+  private static final int WALL_SIZE =
+      PLAYABLE_TILE_TYPES * COPIES_PER_TILE + TILE_TYPES - PLAYABLE_TILE_TYPES;
+  private static final MahjongTileType[] SEAT_WINDS = {
+    MahjongTileType.EAST, MahjongTileType.SOUTH, MahjongTileType.WEST, MahjongTileType.NORTH
+  };
+  private static final WinningConditions SELF_PICK =
+      new WinningConditions(true, false, false, false, false);
+  private static final WinningConditions SELF_PICK_BY_LAST_CATCH =
+      new WinningConditions(true, true, false, false, false);
+
+  private final ScoreCalculator scoreCalculator;
+  private final ShantenCalculator shantenCalculator;
+  private final DiscardPolicy discardPolicy;
+  private final SplittableRandom random;
+
+  private final int[] wall = new int[WALL_SIZE];
+  private final int[][] tileCounts = new int[SEATS][PLAYABLE_TILE_TYPES];
+
+  /** Bitmask of the bonus tiles of each seat, F1 being the least significant bit */
+  private final int[] bonusTiles = new int[SEATS];
+
+  /** Next tile to draw from the front of the wall */
+  private int front;
+
+  /** Replacements for bonus tiles are drawn from the back of the wall, before this index */
+  private int back;
+
+  SimulationTable(
+      ScoreCalculator scoreCalculator,
+      ShantenCalculator shantenCalculator,
+      DiscardPolicy discardPolicy,
+      SplittableRandom random) {
+    this.scoreCalculator = scoreCalculator;
+    this.shantenCalculator = shantenCalculator;
+    this.discardPolicy = discardPolicy;
+    this.random = random;
+    var i = 0;
+    for (var index = 0; index < TILE_TYPES; index++) {
+      var copies = index < PLAYABLE_TILE_TYPES ? COPIES_PER_TILE : 1;
+      for (var copy = 0; copy < copies; copy++) {
+        wall[i++] = index;
+      }
+    }
+  }
+
+  void play(SimulationTally tally) {
+    shuffleWall();
+    for (var seat = 0; seat < SEATS; seat++) {
+      Arrays.fill(tileCounts[seat], 0);
+      bonusTiles[seat] = 0;
+    }
+    for (var i = 0; i < HAND_SIZE; i++) {
+      for (var seat = 0; seat < SEATS; seat++) {
+        draw(seat);
+      }
+    }
+
+    for (var seat = 0; ; seat = (seat + 1) % SEATS) {
+      var drawnTile = draw(seat);
+      if (drawnTile < 0) {
+        tally.exhaustiveDraw();
+        return;
+      }
+      var seatTileCounts = tileCounts[seat];
+      if (shantenCalculator.calculate(seatTileCounts, 0) == -1) {
+        tally.win(score(seat));
+        return;
+      }
+      seatTileCounts[discardPolicy.discard(seatTileCounts, 0, drawnTile, random)]--;
+    }
+  }
+
+  /** Fisher-Yates shuffle of the whole wall in place */
+  private void shuffleWall() {
+    for (var i = wall.length - 1; i > 0; i--) {
+      var j = random.nextInt(i + 1);
+      var tile = wall[i];
+      wall[i] = wall[j];
+      wall[j] = tile;
+    }
+    front = 0;
+    back = wall.length;
+  }
+
+  /**
+   * Draw a playable tile into the hand of the seat, setting bonus tiles aside and replacing them
+   * from the back of the wall.
+   *
+   * @return index of the drawn tile, or -1 if the wall is exhausted
+   */
+  private int draw(int seat) {
+    if (front == back) {
+      return -1;
+    }
+    var tile = wall[front++];
+    while (tile >= PLAYABLE_TILE_TYPES) {
+      bonusTiles[seat] |= 1 << (tile - PLAYABLE_TILE_TYPES);
+      if (front == back) {
+        return -1;
+      }
+      tile = wall[--back];
+    }
+    tileCounts[seat][tile]++;
+    return tile;
+  }
+
+  private WinningHand score(int seat) {
+    var tiles = new ArrayList<MahjongTileType>(HAND_SIZE + 1);
+    for (var index = 0; index < PLAYABLE_TILE_TYPES; index++) {
+      for (var copy = 0; copy < tileCounts[seat][index]; copy++) {
+        tiles.add(TileRegistry.tile(index));
+      }
+    }
+    var bonusTileList = new ArrayList<MahjongTileType>();
+    for (var index = PLAYABLE_TILE_TYPES; index < TILE_TYPES; index++) {
+      if ((bonusTiles[seat] & (1 << (index - PLAYABLE_TILE_TYPES))) != 0) {
+        bonusTileList.add(TileRegistry.tile(index));
+      }
+    }
+    return scoreCalculator.calculate(
+        tiles,
+        new ExposedMelds(),
+        List.copyOf(bonusTileList),
+        new WindType(MahjongTileType.EAST, SEAT_WINDS[seat]),
+        front == back ? SELF_PICK_BY_LAST_CATCH : SELF_PICK);
+  }
+}
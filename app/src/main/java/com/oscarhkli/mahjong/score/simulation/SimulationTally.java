@@ -0,0 +1,45 @@
+package com.oscarhkli.mahjong.score.simulation;
+
+import com.oscarhkli.mahjong.score.WinningHand;
+import com.oscarhkli.mahjong.score.WinningHandType;
+
+/** Mutable counts of one simulation worker, merged once the workers finish. */
+class SimulationTally {
+
+  static final int MAX_FAANS = 13;
+
+  long hands;
+  long wins;
+  long exhaustiveDraws;
+  final long[] winningHandTypes = new long[WinningHandType.values().length];
+
+  /** Wins by faans, Trick Hands being at -1 + 1 = 0 */
+  final long[] faans = new long[MAX_FAANS + 2];
+
+  void win(WinningHand winningHand) {
+    hands++;
+    wins++;
+    for (var winningHandType : winningHand.getWinningHandTypes()) {
+      winningHandTypes[winningHandType.ordinal()]++;
+    }
+    faans[Math.min(winningHand.getFaans(), MAX_FAANS) + 1]++;
+  }
+
+  void exhaustiveDraw() {
+    hands++;
+    exhaustiveDraws++;
+  }
+
+  SimulationTally merge(SimulationTally other) {
+    hands += other.hands;
+    wins += other.wins;
+    exhaustiveDraws += other.exhaustiveDraws;
+    for (var i = 0; i < winningHandTypes.length; i++) {
+      winningHandTypes[i] += other.winningHandTypes[i];
+    }
+    for (var i = 0; i < faans.length; i++) {
+      faans[i] += other.faans[i];
+    }
+    return this;
+  }
+}
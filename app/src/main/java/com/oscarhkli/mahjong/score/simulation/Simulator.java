@@ -0,0 +1,113 @@
+package com.oscarhkli.mahjong.score.simulation;
+
+import com.oscarhkli.mahjong.score.BonusWinningConditionCalculator;
+import com.oscarhkli.mahjong.score.HandStructureCalculator;
+import com.oscarhkli.mahjong.score.MeldsFactory;
+import com.oscarhkli.mahjong.score.ScoreCalculator;
+import com.oscarhkli.mahjong.score.ShantenCalculator;
+import com.oscarhkli.mahjong.score.WinningConditionCalculator;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Monte Carlo simulation of hands played out with a {@link DiscardPolicy}.<br>
+ * Hands are split across a ForkJoinPool, each half of a range taking a {@link
+ * SplittableRandom#split()} stream, so that results only depend on the seed and not on the
+ * scheduling of the workers.<br>
+ * Simulated hands are random and rarely repeat, so they are scored without the caches of the
+ * Spring managed calculators, leaving the caches to the hands of requests.
+ */
+@Slf4j
+@Component
+public class Simulator {
+
+  /** Hands simulated by a worker without splitting further */
+  static final int HANDS_PER_TASK = 256;
+
+  private final ScoreCalculator scoreCalculator;
+  private final ShantenCalculator shantenCalculator;
+  private final DiscardPolicy discardPolicy;
+  private final int parallelism;
+
+  @Autowired
+  public Simulator(
+      MeldsFactory meldsFactory,
+      BonusWinningConditionCalculator bonusWinningConditionCalculator,
+      WinningConditionCalculator winningConditionCalculator,
+      ShantenCalculator shantenCalculator,
+      DiscardPolicy discardPolicy,
+      @Value("${scoring.parallelism:0}") int parallelism) {
+    this(
+        new ScoreCalculator(
+            new HandStructureCalculator(meldsFactory),
+            bonusWinningConditionCalculator,
+            winningConditionCalculator),
+        shantenCalculator,
+        discardPolicy,
+        parallelism);
+  }
+
+  public Simulator(
+      ScoreCalculator scoreCalculator,
+      ShantenCalculator shantenCalculator,
+      DiscardPolicy discardPolicy,
+      int parallelism) {
+    this.scoreCalculator = scoreCalculator;
+    this.shantenCalculator = shantenCalculator;
+    this.discardPolicy = discardPolicy;
+    this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+  }
+
+  /**
+   * @param hands number of hands to simulate
+   * @param seed seed of the random numbers
+   * @return distributions of the simulated hands
+   */
+  public SimulationReport simulate(long hands, long seed) {
+    var startTime = System.nanoTime();
+    SimulationTally tally;
+    try (var forkJoinPool = new ForkJoinPool(parallelism)) {
+      tally = forkJoinPool.invoke(new SimulationTask(hands, new SplittableRandom(seed)));
+    }
+    var report = SimulationReport.of(tally, Duration.ofNanos(System.nanoTime() - startTime));
+    log.info(
+        "Simulated {} hands in {} ms, {} hands/s",
+        report.hands(),
+        report.elapsed().toMillis(),
+        Math.round(report.handsPerSecond()));
+    return report;
+  }
+
+  private class SimulationTask extends RecursiveTask<SimulationTally> {
+
+    private final long hands;
+    private final SplittableRandom random;
+
+    SimulationTask(long hands, SplittableRandom random) {
+      this.hands = hands;
+      this.random = random;
+    }
+
+    @Override
+    protected SimulationTally compute() {
+      if (hands <= HANDS_PER_TASK) {
+        var tally = new SimulationTally();
+        var table = new SimulationTable(scoreCalculator, shantenCalculator, discardPolicy, random);
+        for (var i = 0; i < hands; i++) {
+          table.play(tally);
+        }
+        return tally;
+      }
+      var firstHalf = new SimulationTask(hands / 2, random.split());
+      firstHalf.fork();
+      var secondHalf = new SimulationTask(hands - hands / 2, random);
+      return secondHalf.compute().merge(firstHalf.join());
+    }
+  }
+}
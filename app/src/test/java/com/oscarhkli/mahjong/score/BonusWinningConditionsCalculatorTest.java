@@ -38,7 +38,7 @@ class BonusWinningConditionsCalculatorTest {
         bonusWinningConditionCalculator.calculateBonusWinningHands(
             windMelds, dragonMelds, bonusTiles, windSettings, exposedMelds);
 
-    then(winningHandTypes).containsExactlyInAnyOrderElementsOf(expected);
+    then(winningHandTypes.getWinningHandTypes()).containsExactlyInAnyOrderElementsOf(expected);
   }
 
   private static Stream<Arguments> calculateBonusWinningConditions() {
@@ -0,0 +1,108 @@
+package com.oscarhkli.mahjong.score;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.oscarhkli.mahjong.score.DiscardCalculator.Discard;
+import com.oscarhkli.mahjong.score.DiscardCalculator.ImprovingTile;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class DiscardCalculatorTest {
+
+  DiscardCalculator discardCalculator = new DiscardCalculator(new ShantenCalculator());
+
+  @Test
+  void calculate() {
+    var tiles =
+        Stream.of(
+                "D1", "D1", "D1", "D2", "D3", "D4", "D5", "D6", "D7", "D8", "D9", "D9", "D9",
+                "EAST")
+            .map(MahjongTileType::valueOf)
+            .toList();
+
+    var discards = discardCalculator.calculate(tiles, new ExposedMelds(), List.of());
+
+    then(discards)
+        .extracting(Discard::tile)
+        .containsExactlyInAnyOrder(
+            MahjongTileType.EAST,
+            MahjongTileType.D1,
+            MahjongTileType.D2,
+            MahjongTileType.D3,
+            MahjongTileType.D4,
+            MahjongTileType.D5,
+            MahjongTileType.D6,
+            MahjongTileType.D7,
+            MahjongTileType.D8,
+            MahjongTileType.D9);
+    var bestDiscard = discards.getFirst();
+    then(bestDiscard.tile()).isEqualTo(MahjongTileType.EAST);
+    then(bestDiscard.shanten()).isZero();
+    then(bestDiscard.liveTiles()).isEqualTo(23);
+    then(bestDiscard.improvingTiles())
+        .containsExactly(
+            new ImprovingTile(MahjongTileType.D1, 1),
+            new ImprovingTile(MahjongTileType.D2, 3),
+            new ImprovingTile(MahjongTileType.D3, 3),
+            new ImprovingTile(MahjongTileType.D4, 3),
+            new ImprovingTile(MahjongTileType.D5, 3),
+            new ImprovingTile(MahjongTileType.D6, 3),
+            new ImprovingTile(MahjongTileType.D7, 3),
+            new ImprovingTile(MahjongTileType.D8, 3),
+            new ImprovingTile(MahjongTileType.D9, 1));
+    then(discards)
+        .isSortedAccordingTo(
+            (a, b) ->
+                a.shanten() != b.shanten()
+                    ? Integer.compare(a.shanten(), b.shanten())
+                    : Integer.compare(b.liveTiles(), a.liveTiles()));
+  }
+
+  @Test
+  void calculateWithVisibleTiles() {
+    var tiles =
+        Stream.of(
+                "D1", "D1", "D1", "D2", "D3", "D4", "D5", "D6", "D7", "D8", "D9", "D9", "D9",
+                "EAST")
+            .map(MahjongTileType::valueOf)
+            .toList();
+
+    var discards =
+        discardCalculator.calculate(
+            tiles,
+            new ExposedMelds(),
+            List.of(MahjongTileType.D2, MahjongTileType.D2, MahjongTileType.D2, MahjongTileType.F1));
+
+    var bestDiscard = discards.getFirst();
+    then(bestDiscard.tile()).isEqualTo(MahjongTileType.EAST);
+    then(bestDiscard.liveTiles()).isEqualTo(20);
+    then(bestDiscard.improvingTiles())
+        .extracting(ImprovingTile::tile)
+        .doesNotContain(MahjongTileType.D2);
+  }
+
+  @Test
+  void calculateWithExposedMelds() {
+    var tiles =
+        Stream.of("B1", "B1", "B1", "B2", "B9").map(MahjongTileType::valueOf).toList();
+
+    var discards =
+        discardCalculator.calculate(
+            tiles,
+            new ExposedMelds(
+                List.of(MahjongTileType.B1),
+                List.of(MahjongTileType.RED, MahjongTileType.GREEN),
+                List.of()),
+            List.of());
+
+    then(discards.getFirst())
+        .isEqualTo(
+            new Discard(
+                MahjongTileType.B9,
+                0,
+                List.of(
+                    new ImprovingTile(MahjongTileType.B2, 2),
+                    new ImprovingTile(MahjongTileType.B3, 3))));
+  }
+}
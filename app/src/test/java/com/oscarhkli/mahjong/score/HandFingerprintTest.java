@@ -0,0 +1,77 @@
+package com.oscarhkli.mahjong.score;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class HandFingerprintTest {
+
+  private static final WindType WIND =
+      new WindType(MahjongTileType.EAST, MahjongTileType.SOUTH);
+
+  @Test
+  void ofIgnoresTileOrder() {
+    var fingerprint =
+        HandFingerprint.of(
+            List.of(MahjongTileType.D1, MahjongTileType.D2, MahjongTileType.D3),
+            new ExposedMelds(
+                List.of(MahjongTileType.B1, MahjongTileType.C4),
+                List.of(MahjongTileType.RED),
+                List.of()),
+            List.of(MahjongTileType.F1, MahjongTileType.S2),
+            WIND,
+            new WinningConditions());
+    var reordered =
+        HandFingerprint.of(
+            List.of(MahjongTileType.D3, MahjongTileType.D1, MahjongTileType.D2),
+            new ExposedMelds(
+                List.of(MahjongTileType.C4, MahjongTileType.B1),
+                List.of(MahjongTileType.RED),
+                List.of()),
+            List.of(MahjongTileType.S2, MahjongTileType.F1),
+            WIND,
+            new WinningConditions());
+
+    then(reordered).isEqualTo(fingerprint).hasSameHashCodeAs(fingerprint);
+  }
+
+  @Test
+  void ofDistinguishesWinningConditions() {
+    var tiles = List.of(MahjongTileType.D1, MahjongTileType.D2, MahjongTileType.D3);
+
+    then(
+            HandFingerprint.of(
+                tiles,
+                new ExposedMelds(),
+                List.of(),
+                WIND,
+                new WinningConditions(true, false, false, false, false)))
+        .isNotEqualTo(
+            HandFingerprint.of(tiles, new ExposedMelds(), List.of(), WIND, new WinningConditions()));
+  }
+
+  @Test
+  void ofDistinguishesRuleSets() {
+    var tiles = List.of(MahjongTileType.D1, MahjongTileType.D2, MahjongTileType.D3);
+    var house = RuleSet.compile(1, "house", Map.of(), 10, Map.of());
+
+    var conditions = new WinningConditions();
+
+    then(HandFingerprint.of(tiles, new ExposedMelds(), List.of(), WIND, conditions, house))
+        .isNotEqualTo(
+            HandFingerprint.of(
+                tiles, new ExposedMelds(), List.of(), WIND, conditions, RuleSet.DEFAULT));
+  }
+
+  @Test
+  void ofKeepsMissingInputs() {
+    var fingerprint = HandFingerprint.of(List.of(), null, null, null, null);
+
+    then(fingerprint.tiles()).isEqualTo(HandVector.EMPTY);
+    then(fingerprint.chows()).isNull();
+    then(fingerprint.bonusTiles()).isNull();
+    then(fingerprint.windSettings()).isNull();
+  }
+}
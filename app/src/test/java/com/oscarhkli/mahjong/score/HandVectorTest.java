@@ -0,0 +1,158 @@
+package com.oscarhkli.mahjong.score;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class HandVectorTest {
+
+  @ParameterizedTest
+  @EnumSource(MahjongTileType.class)
+  void addAndRemove(MahjongTileType tile) {
+    var handVector = HandVector.EMPTY.add(tile);
+
+    then(handVector.count(tile)).isEqualTo(1);
+    then(handVector.contains(tile)).isTrue();
+    for (var otherTile : MahjongTileType.values()) {
+      if (otherTile != tile) {
+        then(handVector.count(otherTile)).as("count of %s", otherTile).isZero();
+      }
+    }
+    then(handVector.remove(tile)).isEqualTo(HandVector.EMPTY);
+  }
+
+  @Test
+  void of() {
+    var handVector =
+        HandVector.of(
+            List.of(
+                MahjongTileType.D9,
+                MahjongTileType.WHITE,
+                MahjongTileType.D9,
+                MahjongTileType.C1,
+                MahjongTileType.F3,
+                MahjongTileType.D9,
+                MahjongTileType.D9));
+
+    then(handVector.count(MahjongTileType.D9)).isEqualTo(4);
+    then(handVector.count(MahjongTileType.WHITE)).isEqualTo(1);
+    then(handVector.count(MahjongTileType.C1)).isEqualTo(1);
+    then(handVector.count(MahjongTileType.F3)).isEqualTo(1);
+    then(handVector.count(MahjongTileType.D8)).isZero();
+    then(handVector)
+        .isEqualTo(
+            HandVector.EMPTY
+                .add(MahjongTileType.C1)
+                .add(MahjongTileType.F3)
+                .add(MahjongTileType.WHITE)
+                .add(MahjongTileType.D9)
+                .add(MahjongTileType.D9)
+                .add(MahjongTileType.D9)
+                .add(MahjongTileType.D9));
+  }
+
+  @Test
+  void tooManyTiles() {
+    var tiles = Collections.nCopies(8, MahjongTileType.B5);
+
+    thenThrownBy(() -> HandVector.of(tiles)).isInstanceOf(IllegalArgumentException.class);
+    thenThrownBy(() -> HandVector.of(tiles.subList(0, 7)).add(MahjongTileType.B5))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void removeMissingTile() {
+    thenThrownBy(() -> HandVector.EMPTY.remove(MahjongTileType.EAST))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @ParameterizedTest
+  @MethodSource
+  void suitCounts(MahjongSetType mahjongSetType, int[] expectedCounts, int expectedKey) {
+    var handVector =
+        HandVector.of(
+            List.of(
+                MahjongTileType.EAST,
+                MahjongTileType.NORTH,
+                MahjongTileType.NORTH,
+                MahjongTileType.WHITE,
+                MahjongTileType.C9,
+                MahjongTileType.B1,
+                MahjongTileType.B1,
+                MahjongTileType.B1,
+                MahjongTileType.B2,
+                MahjongTileType.D5));
+
+    then(handVector.suitCounts(mahjongSetType)).containsExactly(expectedCounts);
+    then(handVector.suitKey(mahjongSetType)).isEqualTo(expectedKey);
+    then(handVector.suitKey(mahjongSetType))
+        .isEqualTo(MeldsTable.pack(expectedCounts, 1, mahjongSetType.getSize()));
+  }
+
+  private static Stream<Arguments> suitCounts() {
+    return Stream.of(
+        Arguments.of(MahjongSetType.WIND, new int[] {0, 1, 0, 0, 2}, 1 + 2 * 125),
+        Arguments.of(MahjongSetType.DRAGON, new int[] {0, 0, 0, 1}, 25),
+        Arguments.of(
+            MahjongSetType.CHARACTER, new int[] {0, 0, 0, 0, 0, 0, 0, 0, 0, 1}, 390625),
+        Arguments.of(MahjongSetType.BAMBOO, new int[] {0, 3, 1, 0, 0, 0, 0, 0, 0, 0}, 8),
+        Arguments.of(MahjongSetType.DOT, new int[] {0, 0, 0, 0, 0, 1, 0, 0, 0, 0}, 625));
+  }
+
+  @Test
+  void orphansWithCount() {
+    var handVector =
+        HandVector.of(
+            Stream.of(
+                    "C1", "C9", "B1", "B9", "D1", "D9", "EAST", "SOUTH", "WEST", "NORTH", "RED",
+                    "GREEN", "WHITE", "WHITE", "D5")
+                .map(MahjongTileType::valueOf)
+                .toList());
+
+    then(handVector.orphansWithCount(1)).isEqualTo(12);
+    then(handVector.orphansWithCount(2)).isEqualTo(1);
+    then(handVector.orphansWithCount(0)).isZero();
+    then(handVector.hasTileWithCount(2)).isTrue();
+    then(handVector.hasTileWithCount(3)).isFalse();
+  }
+
+  @Test
+  void hasEveryTile() {
+    var handVector =
+        HandVector.of(
+            Stream.of(
+                    "B1", "B1", "B1", "B2", "B3", "B4", "B5", "B5", "B6", "B7", "B8", "B9", "B9",
+                    "B9")
+                .map(MahjongTileType::valueOf)
+                .toList());
+
+    then(handVector.hasEveryTile(MahjongSetType.BAMBOO)).isTrue();
+    then(handVector.hasEveryTile(MahjongSetType.DOT)).isFalse();
+    then(handVector.suitTotal(MahjongSetType.BAMBOO)).isEqualTo(14);
+    then(handVector.remove(MahjongTileType.B6).hasEveryTile(MahjongSetType.BAMBOO)).isFalse();
+  }
+
+  @Test
+  void hasAllBonusTiles() {
+    var handVector =
+        HandVector.of(
+            List.of(
+                MahjongTileType.F1,
+                MahjongTileType.F2,
+                MahjongTileType.F3,
+                MahjongTileType.F4,
+                MahjongTileType.S2));
+
+    then(handVector.hasAllBonusTiles(MahjongSetType.FLOWER)).isTrue();
+    then(handVector.hasAllBonusTiles(MahjongSetType.SEASON)).isFalse();
+    then(handVector.hasAllBonusTiles(MahjongSetType.DOT)).isFalse();
+  }
+}
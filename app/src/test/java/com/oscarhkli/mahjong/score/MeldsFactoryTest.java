@@ -2,10 +2,14 @@ package com.oscarhkli.mahjong.score;
 
 import static org.assertj.core.api.BDDAssertions.then;
 
+import java.lang.management.ManagementFactory;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 class MeldsFactoryTest {
@@ -540,4 +544,124 @@ class MeldsFactoryTest {
                     0,
                     0))));
   }
+
+  @Test
+  void partition() {
+    var handVector =
+        HandVector.of(
+            List.of(
+                MahjongTileType.D1,
+                MahjongTileType.D1,
+                MahjongTileType.D1,
+                MahjongTileType.D2,
+                MahjongTileType.D2,
+                MahjongTileType.D2,
+                MahjongTileType.D3,
+                MahjongTileType.D3,
+                MahjongTileType.D3,
+                MahjongTileType.D9,
+                MahjongTileType.D9));
+
+    var partitions =
+        meldsFactory.partition(
+            MahjongSetType.DOT,
+            handVector,
+            new ExposedMelds(List.of(MahjongTileType.D4), List.of(), List.of()));
+
+    then(partitions)
+        .usingRecursiveFieldByFieldElementComparator()
+        .containsExactlyInAnyOrder(
+            new Melds(
+                MahjongSetType.DOT,
+                List.of(MahjongTileType.D4),
+                List.of(MahjongTileType.D1, MahjongTileType.D2, MahjongTileType.D3),
+                List.of(),
+                MahjongTileType.D9,
+                new int[10],
+                0,
+                0),
+            new Melds(
+                MahjongSetType.DOT,
+                List.of(
+                    MahjongTileType.D1,
+                    MahjongTileType.D1,
+                    MahjongTileType.D1,
+                    MahjongTileType.D4),
+                List.of(),
+                List.of(),
+                MahjongTileType.D9,
+                new int[10],
+                0,
+                0));
+  }
+
+  @Test
+  void partitionIncompleteTiles() {
+    var handVector =
+        HandVector.of(List.of(MahjongTileType.D1, MahjongTileType.D2, MahjongTileType.D4));
+
+    then(meldsFactory.partition(MahjongSetType.DOT, handVector, new ExposedMelds())).isEmpty();
+    then(meldsFactory.partition(MahjongSetType.BAMBOO, handVector, new ExposedMelds()))
+        .singleElement()
+        .usingRecursiveComparison()
+        .isEqualTo(
+            new Melds(
+                MahjongSetType.BAMBOO, List.of(), List.of(), List.of(), null, new int[10], 0, 0));
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = MahjongSetType.class,
+      names = {"WIND", "DRAGON", "CHARACTER", "BAMBOO", "DOT"})
+  void decomposeMatchesConstruct(MahjongSetType mahjongSetType) {
+    var random = new Random(mahjongSetType.ordinal());
+    var meldsBuffer = MeldsBuffer.local();
+    for (var hand = 0; hand < 2000; hand++) {
+      var handVector = randomSuit(random, mahjongSetType);
+
+      var melds = meldsFactory.decompose(mahjongSetType, handVector, meldsBuffer).toMelds();
+
+      var expected = meldsFactory.construct(mahjongSetType, handVector, new ExposedMelds());
+      then(melds)
+          .as("%s of %s", mahjongSetType, handVector)
+          .usingRecursiveFieldByFieldElementComparator()
+          .containsExactlyElementsOf(expected);
+    }
+  }
+
+  @Test
+  void decomposeDoesNotAllocate() {
+    var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    var random = new Random(0);
+    var handVectors =
+        Stream.generate(() -> randomSuit(random, MahjongSetType.DOT)).limit(256).toList();
+    var meldsBuffer = MeldsBuffer.local();
+    handVectors.forEach(
+        handVector -> meldsFactory.decompose(MahjongSetType.DOT, handVector, meldsBuffer));
+
+    var allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes();
+    for (var i = 0; i < 100; i++) {
+      for (var handVector : handVectors) {
+        meldsFactory.decompose(MahjongSetType.DOT, handVector, meldsBuffer);
+      }
+    }
+    allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBytes;
+
+    // Iterating the hands and reading the counter may allocate a little, far below 1 byte per call
+    then(allocatedBytes).isLessThan(handVectors.size() * 100L);
+  }
+
+  /** Up to 14 tiles of a single Mahjong Set, a few of them beyond the shapes of a winning hand */
+  private static HandVector randomSuit(Random random, MahjongSetType mahjongSetType) {
+    var handVector = HandVector.EMPTY;
+    var startingTileIndex = mahjongSetType.getStartingTile().getIndex();
+    for (var tiles = random.nextInt(15); tiles > 0; tiles--) {
+      var tile =
+          MahjongTileType.valueOfIndex(startingTileIndex + random.nextInt(mahjongSetType.getSize()));
+      if (handVector.count(tile) < HandVector.MAX_TILE_COUNT) {
+        handVector = handVector.add(tile);
+      }
+    }
+    return handVector;
+  }
 }
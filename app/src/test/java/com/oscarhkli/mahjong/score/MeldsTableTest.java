@@ -0,0 +1,52 @@
+package com.oscarhkli.mahjong.score;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class MeldsTableTest {
+
+  @ParameterizedTest
+  @MethodSource
+  void pack(int[] tileCounts, int fromIndex, int size, int expected) {
+    then(MeldsTable.pack(tileCounts, fromIndex, size)).isEqualTo(expected);
+  }
+
+  private static Stream<Arguments> pack() {
+    return Stream.of(
+        Arguments.of(new int[] {0, 0, 0, 0}, 0, 4, 0),
+        Arguments.of(new int[] {1, 0, 0, 0}, 0, 4, 1),
+        Arguments.of(new int[] {0, 1, 0, 0}, 0, 4, 5),
+        Arguments.of(new int[] {3, 0, 0, 2}, 0, 4, 3 + 2 * 125),
+        Arguments.of(new int[] {9, 4, 4, 4, 4}, 1, 4, 624),
+        Arguments.of(new int[] {0, 5, 0, 0}, 0, 4, MeldsTable.NOT_PACKABLE));
+  }
+
+  @Test
+  void get() {
+    var melds =
+        List.of(
+            new Melds(
+                MahjongSetType.DRAGON,
+                List.of(),
+                List.of(MahjongTileType.RED),
+                List.of(),
+                null,
+                new int[4],
+                0,
+                0));
+    var meldsTable = MeldsTable.of(Map.of(3, melds, 0, List.of()));
+
+    then(meldsTable.size()).isEqualTo(2);
+    then(meldsTable.get(3)).isSameAs(melds);
+    then(meldsTable.get(0)).isEmpty();
+    then(meldsTable.get(15)).isNull();
+    then(meldsTable.get(MeldsTable.NOT_PACKABLE)).isNull();
+  }
+}
@@ -0,0 +1,121 @@
+package com.oscarhkli.mahjong.score;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class PatternEvaluatorTest {
+
+  @ParameterizedTest
+  @MethodSource
+  void evaluate(long features, List<WinningHandType> expected) {
+    then(WinningHand.of(PatternEvaluator.evaluate(features)).getWinningHandTypes())
+        .containsExactlyElementsOf(expected);
+  }
+
+  private static Stream<Arguments> evaluate() {
+    return Stream.of(
+        Arguments.of(0L, List.of()),
+        Arguments.of(PatternEvaluator.FOUR_CHOWS, List.of(WinningHandType.COMMON_HAND)),
+        Arguments.of(
+            PatternEvaluator.FOUR_CHOWS | PatternEvaluator.ALL_ONE_SUIT,
+            List.of(WinningHandType.COMMON_HAND, WinningHandType.ALL_ONE_SUIT)),
+        Arguments.of(
+            PatternEvaluator.ALL_ONE_SUIT | PatternEvaluator.MIXED_ONE_SUIT,
+            List.of(WinningHandType.ALL_ONE_SUIT)),
+        Arguments.of(
+            PatternEvaluator.FOUR_PONG_KONGS
+                | PatternEvaluator.FOUR_ORPHAN_PONG_KONGS
+                | PatternEvaluator.ORPHAN_EYE
+                | PatternEvaluator.MIXED_ONE_SUIT,
+            List.of(
+                WinningHandType.ALL_IN_TRIPLETS,
+                WinningHandType.MIXED_ORPHANS,
+                WinningHandType.MIXED_ONE_SUIT)),
+        Arguments.of(
+            PatternEvaluator.FOUR_PONG_KONGS | PatternEvaluator.FOUR_ORPHAN_PONG_KONGS,
+            List.of(WinningHandType.ALL_IN_TRIPLETS)),
+        Arguments.of(
+            PatternEvaluator.THREE_WIND_PONG_KONGS
+                | PatternEvaluator.WIND_EYE
+                | PatternEvaluator.THREE_DRAGON_PONG_KONGS,
+            List.of(WinningHandType.SMALL_WINDS, WinningHandType.GREAT_DRAGON)),
+        Arguments.of(
+            PatternEvaluator.TWO_DRAGON_PONG_KONGS | PatternEvaluator.WIND_EYE, List.of()),
+        Arguments.of(
+            PatternEvaluator.TWO_DRAGON_PONG_KONGS | PatternEvaluator.DRAGON_EYE,
+            List.of(WinningHandType.SMALL_DRAGON)),
+        Arguments.of(
+            PatternEvaluator.FOUR_WIND_PONG_KONGS
+                | PatternEvaluator.FOUR_HONOR_PONG_KONGS
+                | PatternEvaluator.FOUR_PONG_KONGS
+                | PatternEvaluator.HONOR_EYE,
+            List.of(WinningHandType.GREAT_WINDS)),
+        Arguments.of(
+            PatternEvaluator.FOUR_HONOR_PONG_KONGS
+                | PatternEvaluator.FOUR_PONG_KONGS
+                | PatternEvaluator.HONOR_EYE,
+            List.of(WinningHandType.ALL_HONOR_TILES)),
+        Arguments.of(
+            PatternEvaluator.FOUR_SUITED_ORPHAN_PONG_KONGS
+                | PatternEvaluator.SUITED_ORPHAN_EYE
+                | PatternEvaluator.FOUR_PONG_KONGS,
+            List.of(WinningHandType.ORPHANS)));
+  }
+
+  @Test
+  void evaluateMelds() {
+    var windMelds = melds(MahjongSetType.WIND, List.of(), List.of(MahjongTileType.EAST), null);
+    var dragonMelds = melds(MahjongSetType.DRAGON, List.of(), List.of(), MahjongTileType.RED);
+    var characterMelds =
+        melds(
+            MahjongSetType.CHARACTER,
+            List.of(MahjongTileType.C2),
+            List.of(MahjongTileType.C1, MahjongTileType.C9),
+            null);
+    var emptyBambooMelds = melds(MahjongSetType.BAMBOO, List.of(), List.of(), null);
+    var emptyDotMelds = melds(MahjongSetType.DOT, List.of(), List.of(), null);
+
+    var features =
+        PatternEvaluator.features(
+            windMelds, dragonMelds, characterMelds, emptyBambooMelds, emptyDotMelds);
+
+    then(features)
+        .isEqualTo(
+            PatternEvaluator.DRAGON_EYE
+                | PatternEvaluator.HONOR_EYE
+                | PatternEvaluator.ORPHAN_EYE
+                | PatternEvaluator.MIXED_ONE_SUIT);
+    then(WinningHand.of(PatternEvaluator.evaluate(features)).getWinningHandTypes())
+        .containsExactly(WinningHandType.MIXED_ONE_SUIT);
+    then(PatternEvaluator.evaluateHonors(windMelds, dragonMelds)).isZero();
+  }
+
+  @Test
+  void evaluateHonors() {
+    var windMelds =
+        melds(
+            MahjongSetType.WIND,
+            List.of(),
+            List.of(MahjongTileType.EAST, MahjongTileType.SOUTH, MahjongTileType.WEST),
+            MahjongTileType.NORTH);
+    var dragonMelds = melds(MahjongSetType.DRAGON, List.of(), List.of(MahjongTileType.RED), null);
+
+    then(PatternEvaluator.evaluateHonors(windMelds, dragonMelds))
+        .isEqualTo(WinningHand.bit(WinningHandType.ALL_HONOR_TILES));
+  }
+
+  private static Melds melds(
+      MahjongSetType mahjongSetType,
+      List<MahjongTileType> chows,
+      List<MahjongTileType> pongs,
+      MahjongTileType eye) {
+    return new Melds(
+        mahjongSetType, chows, pongs, List.of(), eye, new int[mahjongSetType.getSize()], 0, 0);
+  }
+}
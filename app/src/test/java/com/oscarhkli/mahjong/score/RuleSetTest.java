@@ -0,0 +1,77 @@
+package com.oscarhkli.mahjong.score;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class RuleSetTest {
+
+  RuleSet ruleSet =
+      RuleSet.compile(
+          1,
+          "house",
+          Map.of(WinningHandType.NO_FLOWERS, 0, WinningHandType.ALL_ONE_SUIT, 6),
+          10,
+          Map.of(WinningHandType.SELF_PICK, List.of(WinningHandType.WIN_FROM_WALL)));
+
+  @Test
+  void defaultFollowsWinningHandTypes() {
+    for (var winningHandType : WinningHandType.values()) {
+      then(RuleSet.DEFAULT.faans(winningHandType)).isEqualTo(winningHandType.getScore());
+    }
+    var winningHand =
+        new WinningHand(List.of(WinningHandType.NINE_GATES, WinningHandType.GREAT_FLOWERS));
+
+    then(RuleSet.DEFAULT.faans(winningHand)).isEqualTo(13);
+    then(RuleSet.DEFAULT.apply(winningHand)).isSameAs(winningHand);
+  }
+
+  @Test
+  void faans() {
+    then(ruleSet.getId()).isEqualTo(1);
+    then(ruleSet.getName()).isEqualTo("house");
+    then(ruleSet.faans(WinningHandType.NO_FLOWERS)).isZero();
+    then(ruleSet.faans(WinningHandType.ALL_ONE_SUIT)).isEqualTo(6);
+    then(ruleSet.faans(WinningHandType.COMMON_HAND)).isEqualTo(1);
+    then(
+            ruleSet.faans(
+                new WinningHand(
+                    List.of(
+                        WinningHandType.COMMON_HAND,
+                        WinningHandType.ALL_ONE_SUIT,
+                        WinningHandType.NO_FLOWERS))))
+        .isEqualTo(7);
+    then(ruleSet.faans(new WinningHand(List.of(WinningHandType.THIRTEEN_ORPHANS))))
+        .isEqualTo(10);
+    then(
+            ruleSet.faans(
+                new WinningHand(List.of(WinningHandType.TRICK_HAND, WinningHandType.NO_FLOWERS))))
+        .isEqualTo(-1);
+  }
+
+  @Test
+  void apply() {
+    var winningHand =
+        new WinningHand(
+            List.of(
+                WinningHandType.COMMON_HAND,
+                WinningHandType.WIN_FROM_WALL,
+                WinningHandType.SELF_PICK));
+    var withoutSelfPick =
+        new WinningHand(List.of(WinningHandType.COMMON_HAND, WinningHandType.WIN_FROM_WALL));
+
+    then(ruleSet.apply(winningHand).getWinningHandTypes())
+        .containsExactly(WinningHandType.COMMON_HAND, WinningHandType.SELF_PICK);
+    then(ruleSet.apply(withoutSelfPick)).isSameAs(withoutSelfPick);
+  }
+
+  @Test
+  void compileRejectsNegativeMaxFaans() {
+    thenThrownBy(() -> RuleSet.compile(1, "negative", Map.of(), -1, Map.of()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Rule set negative must have non-negative max faans but has -1");
+  }
+}
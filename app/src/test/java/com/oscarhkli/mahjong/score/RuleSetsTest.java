@@ -0,0 +1,62 @@
+package com.oscarhkli.mahjong.score;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import com.oscarhkli.mahjong.score.RuleSetProperties.Definition;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class RuleSetsTest {
+
+  @Test
+  void find() {
+    var ruleSets =
+        new RuleSets(
+            new RuleSetProperties(
+                Map.of(
+                    "ten-faan-limit",
+                    new Definition(10, null, null),
+                    "cheap-flowers",
+                    new Definition(null, Map.of(WinningHandType.NO_FLOWERS, 0), null))));
+
+    then(ruleSets.names()).containsExactly("cheap-flowers", "default", "ten-faan-limit");
+    then(ruleSets.find(null)).contains(RuleSet.DEFAULT);
+    then(ruleSets.find("default")).contains(RuleSet.DEFAULT);
+    then(ruleSets.find("missing")).isEmpty();
+    var tenFaanLimit = ruleSets.find("ten-faan-limit").orElseThrow();
+    then(tenFaanLimit.getMaxFaans()).isEqualTo(10);
+    then(ruleSets.get(tenFaanLimit.getId())).isSameAs(tenFaanLimit);
+    var cheapFlowers = ruleSets.find("cheap-flowers").orElseThrow();
+    then(cheapFlowers.getMaxFaans()).isEqualTo(RuleSet.DEFAULT_MAX_FAANS);
+    then(cheapFlowers.faans(WinningHandType.NO_FLOWERS)).isZero();
+    then(ruleSets.get(0)).isSameAs(RuleSet.DEFAULT);
+    then(ruleSets.maxFaans()).isEqualTo(RuleSet.DEFAULT_MAX_FAANS);
+  }
+
+  @Test
+  void maxFaansOfAnyRuleSet() {
+    var ruleSets =
+        new RuleSets(
+            new RuleSetProperties(Map.of("twenty-faan-limit", new Definition(20, null, null))));
+
+    then(ruleSets.maxFaans()).isEqualTo(20);
+  }
+
+  @Test
+  void defaultIsReserved() {
+    var ruleSetProperties =
+        new RuleSetProperties(Map.of("default", new Definition(10, null, null)));
+
+    thenThrownBy(() -> new RuleSets(ruleSetProperties))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Rule set default is reserved for the built-in rules");
+  }
+
+  @Test
+  void withoutConfiguredRuleSets() {
+    var ruleSets = new RuleSets(new RuleSetProperties(null));
+
+    then(ruleSets.names()).containsExactly("default");
+  }
+}
@@ -0,0 +1,114 @@
+package com.oscarhkli.mahjong.score;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.oscarhkli.mahjong.score.simulation.Simulator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+@SpringBootTest
+class ScoreCalculatorCacheTest {
+
+  @Autowired ScoreCalculator scoreCalculator;
+  @Autowired CacheManager cacheManager;
+  @Autowired Simulator simulator;
+
+  Cache<?, ?> winningHandsCache;
+  Cache<?, ?> handStructuresCache;
+
+  @BeforeEach
+  void setUp() {
+    winningHandsCache = clearedCache(CacheConfig.WINNING_HANDS_CACHE);
+    handStructuresCache = clearedCache(CacheConfig.HAND_STRUCTURES_CACHE);
+  }
+
+  private Cache<?, ?> clearedCache(String name) {
+    var cache = cacheManager.getCache(name);
+    then(cache).isNotNull();
+    cache.clear();
+    return (Cache<?, ?>) cache.getNativeCache();
+  }
+
+  @Test
+  void calculateReturnsCachedWinningHandForReorderedHand() {
+    var hits = winningHandsCache.stats().hitCount();
+    var wind = new WindType(MahjongTileType.EAST, MahjongTileType.WEST);
+
+    var winningHand =
+        scoreCalculator.calculate(
+            List.of(
+                MahjongTileType.D1,
+                MahjongTileType.D2,
+                MahjongTileType.D3,
+                MahjongTileType.D9,
+                MahjongTileType.D9),
+            new ExposedMelds(List.of(MahjongTileType.D4, MahjongTileType.D1), List.of(), List.of()),
+            List.of(MahjongTileType.F1),
+            wind,
+            new WinningConditions());
+    var reorderedWinningHand =
+        scoreCalculator.calculate(
+            List.of(
+                MahjongTileType.D9,
+                MahjongTileType.D3,
+                MahjongTileType.D9,
+                MahjongTileType.D2,
+                MahjongTileType.D1),
+            new ExposedMelds(List.of(MahjongTileType.D1, MahjongTileType.D4), List.of(), List.of()),
+            List.of(MahjongTileType.F1),
+            wind,
+            new WinningConditions());
+
+    then(reorderedWinningHand).isSameAs(winningHand);
+    then(winningHandsCache.stats().hitCount()).isEqualTo(hits + 1);
+    then(winningHandsCache.estimatedSize()).isOne();
+  }
+
+  @Test
+  void calculateReusesHandStructureForDifferentContext() {
+    var hits = handStructuresCache.stats().hitCount();
+    var tiles =
+        List.of(
+            MahjongTileType.EAST,
+            MahjongTileType.EAST,
+            MahjongTileType.EAST,
+            MahjongTileType.D9,
+            MahjongTileType.D9);
+    var exposedMelds =
+        new ExposedMelds(List.of(MahjongTileType.D1), List.of(MahjongTileType.RED), List.of());
+
+    var eastSeatWinningHand =
+        scoreCalculator.calculate(
+            tiles,
+            exposedMelds,
+            List.of(),
+            new WindType(MahjongTileType.SOUTH, MahjongTileType.EAST),
+            new WinningConditions());
+    var westSeatSelfPickWinningHand =
+        scoreCalculator.calculate(
+            tiles,
+            exposedMelds,
+            List.of(MahjongTileType.F1),
+            new WindType(MahjongTileType.SOUTH, MahjongTileType.WEST),
+            new WinningConditions(true, false, false, false, false));
+
+    then(eastSeatWinningHand).isNotEqualTo(westSeatSelfPickWinningHand);
+    then(winningHandsCache.estimatedSize()).isEqualTo(2);
+    then(handStructuresCache.stats().hitCount()).isEqualTo(hits + 1);
+    then(handStructuresCache.estimatedSize()).isOne();
+  }
+
+  @Test
+  void simulateBypassesCaches() {
+    var report = simulator.simulate(200, 1);
+
+    then(report.wins()).isPositive();
+    then(winningHandsCache.estimatedSize()).isZero();
+    then(handStructuresCache.estimatedSize()).isZero();
+  }
+}
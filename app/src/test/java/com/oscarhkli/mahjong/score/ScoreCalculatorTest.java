@@ -2,7 +2,9 @@ package com.oscarhkli.mahjong.score;
 
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
 
 import java.util.List;
 import java.util.Map;
@@ -10,6 +12,7 @@ import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.assertj.core.api.BDDSoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -26,9 +29,23 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class ScoreCalculatorTest {
 
   @InjectMocks @Spy ScoreCalculator scoreCalculator;
-  @Spy MeldsFactory meldsFactory;
+  @Spy HandStructureCalculator handStructureCalculator =
+      new HandStructureCalculator(new MeldsFactory());
   @Mock BonusWinningConditionCalculator bonusWinningConditionCalculator;
   @Mock WinningConditionCalculator winningConditionCalculator;
+  @Spy ScoringMetrics scoringMetrics = ScoringMetrics.NOOP;
+
+  @BeforeEach
+  void setUp() {
+    lenient()
+        .when(
+            bonusWinningConditionCalculator.calculateBonusWinningHands(
+                any(), any(), any(), any(), any()))
+        .thenReturn(WinningHand.EMPTY);
+    lenient()
+        .when(winningConditionCalculator.calculateExtraWinningHands(any(), any(), any()))
+        .thenReturn(WinningHand.EMPTY);
+  }
 
   @ParameterizedTest
   @MethodSource
@@ -46,13 +63,27 @@ class ScoreCalculatorTest {
             List.of(),
             new WindType(null, null),
             new WinningConditions(false, false,  false,false, false));
-    then(winningHandTypes)
+    then(winningHandTypes.getWinningHandTypes())
         .as("tiles: %s".formatted(tileStrings))
         .containsExactlyInAnyOrderElementsOf(expected);
   }
 
   private static Stream<Arguments> deduceWinningHands() {
     return Stream.of(
+        Arguments.of(
+            List.of(
+                "B1", "B1", "B1", "B1", "B2", "B2", "B2", "B2", "B3", "B3", "B4", "D1", "D1", "D1"),
+            List.of(),
+            List.of(),
+            List.of(),
+            List.of(WinningHandType.CHICKEN_HAND)),
+        Arguments.of(
+            List.of(
+                "B1", "B1", "B1", "B1", "B2", "B2", "B2", "B2", "B3", "B3", "B3", "B4", "B4", "B5"),
+            List.of(),
+            List.of(),
+            List.of(),
+            List.of(WinningHandType.ALL_ONE_SUIT)),
         Arguments.of(
             List.of(
                 "D1", "D2", "D3", "B2", "B3", "B4", "C1", "C2", "C3", "C4", "C5", "C6", "D5", "D5"),
@@ -566,14 +597,14 @@ class ScoreCalculatorTest {
   @MethodSource
   void constructMahjongTiles(
       List<MahjongTileType> tiles, Map<Integer, Integer> expected, BDDSoftAssertions softly) {
-    var mahjongTiles = scoreCalculator.constructMahjongTiles(tiles);
+    var mahjongTiles = handStructureCalculator.constructMahjongTiles(tiles);
 
     assertAll(
         () -> {
           for (var i = 0; i < 42; i++) {
             var expectedCount = expected.getOrDefault(i, 0);
             softly
-                .then(mahjongTiles[i])
+                .then(mahjongTiles.count(MahjongTileType.valueOfIndex(i)))
                 .as("Expected mahjongTiles[%d] to be %d".formatted(i, expectedCount))
                 .isEqualTo(expectedCount);
           }
@@ -613,10 +644,10 @@ class ScoreCalculatorTest {
     // Test case where ExposedMelds is empty, SelfPick is true, and contains ALL_IN_TRIPLETS
     WinningConditions conditions = new WinningConditions(true, false, false, false, false);
     ExposedMelds exposedMelds = new ExposedMelds(List.of(), List.of(), List.of()); // Empty melds
-    List<WinningHandType> winningHands = List.of(WinningHandType.ALL_IN_TRIPLETS);
-    List<WinningHandType> bonusWinningHands = List.of();
+    WinningHand winningHands = WinningHand.of(WinningHandType.ALL_IN_TRIPLETS);
+    WinningHand bonusWinningHands = WinningHand.of();
 
-    List<WinningHandType> result = scoreCalculator.constructFinalWinningHands(conditions, exposedMelds, winningHands, bonusWinningHands);
+    List<WinningHandType> result = scoreCalculator.constructFinalWinningHands(conditions, exposedMelds, winningHands, bonusWinningHands).getWinningHandTypes();
 
     // Assert that ALL_IN_TRIPLETS is replaced by SELF_TRIPLETS
     then(result).containsExactly(WinningHandType.SELF_TRIPLETS)
@@ -628,10 +659,10 @@ class ScoreCalculatorTest {
     // Test case where ExposedMelds is empty, SelfPick is true, but does not contain ALL_IN_TRIPLETS
     WinningConditions conditions = new WinningConditions(false, false, false, false, false);
     ExposedMelds exposedMelds = new ExposedMelds(List.of(), List.of(), List.of()); // Empty melds
-    List<WinningHandType> winningHands = List.of(WinningHandType.ALL_IN_TRIPLETS);
-    List<WinningHandType> bonusWinningHands = List.of();
+    WinningHand winningHands = WinningHand.of(WinningHandType.ALL_IN_TRIPLETS);
+    WinningHand bonusWinningHands = WinningHand.of();
 
-    List<WinningHandType> result = scoreCalculator.constructFinalWinningHands(conditions, exposedMelds, winningHands, bonusWinningHands);
+    List<WinningHandType> result = scoreCalculator.constructFinalWinningHands(conditions, exposedMelds, winningHands, bonusWinningHands).getWinningHandTypes();
 
     // Assert that COMMON_HAND is included, and no modification happens
     then(result).containsExactlyInAnyOrder(WinningHandType.ALL_IN_TRIPLETS);
@@ -642,10 +673,10 @@ class ScoreCalculatorTest {
     // Test case where the result is empty and Chicken Hand is added
     WinningConditions conditions = new WinningConditions(false, false, false, false, false);
     ExposedMelds exposedMelds = new ExposedMelds(List.of(), List.of(), List.of()); // Empty melds
-    List<WinningHandType> winningHands = List.of();
-    List<WinningHandType> bonusWinningHands = List.of();
+    WinningHand winningHands = WinningHand.of();
+    WinningHand bonusWinningHands = WinningHand.of();
 
-    List<WinningHandType> result = scoreCalculator.constructFinalWinningHands(conditions, exposedMelds, winningHands, bonusWinningHands);
+    List<WinningHandType> result = scoreCalculator.constructFinalWinningHands(conditions, exposedMelds, winningHands, bonusWinningHands).getWinningHandTypes();
 
     // Assert that CHICKEN_HAND is added
     then(result).containsExactlyInAnyOrder(WinningHandType.CHICKEN_HAND);
@@ -656,10 +687,10 @@ class ScoreCalculatorTest {
     // Test case where WIN_FROM_WALL is removed if GREAT_FLOWERS or FLOWER_HANDS is in the result
     WinningConditions conditions = new WinningConditions(false, false, false, false, false);
     ExposedMelds exposedMelds = new ExposedMelds(List.of(), List.of(), List.of()); // Empty melds
-    List<WinningHandType> winningHands = List.of(WinningHandType.WIN_FROM_WALL);
-    List<WinningHandType> bonusWinningHands = List.of(WinningHandType.GREAT_FLOWERS);
+    WinningHand winningHands = WinningHand.of(WinningHandType.WIN_FROM_WALL);
+    WinningHand bonusWinningHands = WinningHand.of(WinningHandType.GREAT_FLOWERS);
 
-    List<WinningHandType> result = scoreCalculator.constructFinalWinningHands(conditions, exposedMelds, winningHands, bonusWinningHands);
+    List<WinningHandType> result = scoreCalculator.constructFinalWinningHands(conditions, exposedMelds, winningHands, bonusWinningHands).getWinningHandTypes();
 
     // Assert that WIN_FROM_WALL is removed when GREAT_FLOWERS is present
     then(result).containsExactly(WinningHandType.GREAT_FLOWERS)
@@ -671,10 +702,10 @@ class ScoreCalculatorTest {
     // Test case where bonusWinningHands are added to the results
     WinningConditions conditions = new WinningConditions(false, false, false, false, false);
     ExposedMelds exposedMelds = new ExposedMelds(List.of(), List.of(), List.of()); // Empty melds
-    List<WinningHandType> winningHands = List.of(WinningHandType.COMMON_HAND);
-    List<WinningHandType> bonusWinningHands = List.of(WinningHandType.ALL_FLOWERS);
+    WinningHand winningHands = WinningHand.of(WinningHandType.COMMON_HAND);
+    WinningHand bonusWinningHands = WinningHand.of(WinningHandType.ALL_FLOWERS);
 
-    List<WinningHandType> result = scoreCalculator.constructFinalWinningHands(conditions, exposedMelds, winningHands, bonusWinningHands);
+    List<WinningHandType> result = scoreCalculator.constructFinalWinningHands(conditions, exposedMelds, winningHands, bonusWinningHands).getWinningHandTypes();
 
     // Assert that ALL_FLOWERS is added to the result
     then(result).containsExactlyInAnyOrder(WinningHandType.COMMON_HAND, WinningHandType.ALL_FLOWERS);
@@ -685,16 +716,58 @@ class ScoreCalculatorTest {
     // Test case to ensure calculateExtraWinningHands is called
     WinningConditions conditions = new WinningConditions(false, false, false, false, true);
     ExposedMelds exposedMelds = new ExposedMelds(List.of(), List.of(), List.of(MahjongTileType.D1, MahjongTileType.D2)); // Empty melds
-    List<WinningHandType> winningHands = List.of(WinningHandType.ALL_IN_TRIPLETS);
-    List<WinningHandType> bonusWinningHands = List.of();
+    WinningHand winningHands = WinningHand.of(WinningHandType.ALL_IN_TRIPLETS);
+    WinningHand bonusWinningHands = WinningHand.of();
 
     given(winningConditionCalculator.calculateExtraWinningHands(conditions, winningHands, bonusWinningHands))
-        .willReturn(List.of(WinningHandType.WIN_BY_DOUBLE_KONG));
+        .willReturn(WinningHand.of(WinningHandType.WIN_BY_DOUBLE_KONG));
 
     // You can mock the calculator call if necessary to check if the extra hands are added
-    List<WinningHandType> result = scoreCalculator.constructFinalWinningHands(conditions, exposedMelds, winningHands, bonusWinningHands);
+    List<WinningHandType> result = scoreCalculator.constructFinalWinningHands(conditions, exposedMelds, winningHands, bonusWinningHands).getWinningHandTypes();
 
     // Check if the result contains extra hands as per calculateExtraWinningHands
     then(result).containsExactlyInAnyOrder(WinningHandType.ALL_IN_TRIPLETS, WinningHandType.WIN_BY_DOUBLE_KONG);
   }
+
+  @Test
+  void calculateWinningHandsPicksPartitionWithMostFaansUnderRuleSet() {
+    // C1 C1 C1 C2 C2 C2 C3 C3 C3 is either 3 pongs or 3 chows
+    var tiles =
+        List.of(
+            MahjongTileType.C1,
+            MahjongTileType.C1,
+            MahjongTileType.C1,
+            MahjongTileType.C2,
+            MahjongTileType.C2,
+            MahjongTileType.C2,
+            MahjongTileType.C3,
+            MahjongTileType.C3,
+            MahjongTileType.C3,
+            MahjongTileType.D9,
+            MahjongTileType.D9,
+            MahjongTileType.D9,
+            MahjongTileType.EAST,
+            MahjongTileType.EAST);
+    var wind = new WindType(MahjongTileType.SOUTH, MahjongTileType.SOUTH);
+    var chickenHandRuleSet =
+        RuleSet.compile(1, "chicken", Map.of(WinningHandType.CHICKEN_HAND, 5), 13, Map.of());
+
+    then(
+            scoreCalculator
+                .calculateWinningHands(
+                    tiles, new ExposedMelds(), List.of(), wind, new WinningConditions())
+                .getWinningHandTypes())
+        .containsExactly(WinningHandType.ALL_IN_TRIPLETS);
+    then(
+            scoreCalculator
+                .calculateWinningHands(
+                    tiles,
+                    new ExposedMelds(),
+                    List.of(),
+                    wind,
+                    new WinningConditions(),
+                    chickenHandRuleSet)
+                .getWinningHandTypes())
+        .containsExactly(WinningHandType.CHICKEN_HAND);
+  }
 }
@@ -0,0 +1,63 @@
+package com.oscarhkli.mahjong.score;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+class ScoringConfigTest {
+
+  private final ApplicationContextRunner contextRunner =
+      new ApplicationContextRunner().withUserConfiguration(ScoringConfig.class);
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void scoringExecutorStaysOnPlatformThreads(boolean virtual) {
+    contextRunner
+        .withPropertyValues("spring.threads.virtual.enabled=" + virtual, "scoring.parallelism=3")
+        .run(
+            context -> {
+              var scoringExecutor = context.getBean("scoringExecutor", ExecutorService.class);
+              then(scoringExecutor).isInstanceOf(ForkJoinPool.class);
+              then(((ForkJoinPool) scoringExecutor).getParallelism()).isEqualTo(3);
+              then(scoringExecutor.submit(() -> Thread.currentThread().isVirtual()).get())
+                  .isFalse();
+            });
+  }
+
+  @Test
+  void scoringMetricsRecordNothingWithoutMeterRegistry() {
+    contextRunner.run(
+        context -> then(context.getBean(ScoringMetrics.class)).isSameAs(ScoringMetrics.NOOP));
+  }
+
+  @Test
+  void scoringMetricsRegisterIntoMeterRegistry() {
+    contextRunner
+        .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+        .run(
+            context -> {
+              then(context.getBean(ScoringMetrics.class)).isNotSameAs(ScoringMetrics.NOOP);
+              then(context.getBean(MeterRegistry.class).find("mahjong.scoring.stage").timers())
+                  .hasSize(ScoringMetrics.Stage.values().length);
+            });
+  }
+
+  @Test
+  void scoringMetricsBucketFaansUpToTheLargestMaxFaans() {
+    contextRunner
+        .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+        .withPropertyValues("scoring.rule-sets.house.max-faans=20")
+        .run(
+            context -> {
+              var faans = context.getBean(MeterRegistry.class).get("mahjong.scoring.faans");
+              then(faans.summary().takeSnapshot().histogramCounts()).hasSize(20);
+            });
+  }
+}
@@ -0,0 +1,110 @@
+package com.oscarhkli.mahjong.score;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ScoringMetricsTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ScoringMetrics scoringMetrics = new ScoringMetrics(meterRegistry);
+  private final ScoreCalculator scoreCalculator =
+      new ScoreCalculator(
+          new HandStructureCalculator(new MeldsFactory(), scoringMetrics),
+          new BonusWinningConditionCalculator(),
+          new WinningConditionCalculator(),
+          scoringMetrics);
+
+  @Test
+  void timesEveryStageOfScoring() {
+    scoreCalculator.calculate(
+        List.of(
+            MahjongTileType.C1,
+            MahjongTileType.C1,
+            MahjongTileType.C1,
+            MahjongTileType.C2,
+            MahjongTileType.C2,
+            MahjongTileType.C2,
+            MahjongTileType.C3,
+            MahjongTileType.C3,
+            MahjongTileType.C3,
+            MahjongTileType.B4,
+            MahjongTileType.B5,
+            MahjongTileType.B6,
+            MahjongTileType.RED,
+            MahjongTileType.RED),
+        new ExposedMelds(),
+        List.of(MahjongTileType.F1),
+        new WindType(MahjongTileType.EAST, MahjongTileType.EAST),
+        new WinningConditions());
+
+    for (var stage : List.of("tile-counting", "pattern-deduction", "bonus", "final-assembly")) {
+      then(meterRegistry.get("mahjong.scoring.stage").tag("stage", stage).timer().count())
+          .as(stage)
+          .isOne();
+    }
+    for (var set : List.of("wind", "dragon", "character", "bamboo", "dot")) {
+      then(meterRegistry.get("mahjong.scoring.melds").tag("set", set).timer().count())
+          .as(set)
+          .isOne();
+    }
+    // C1 C1 C1 C2 C2 C2 C3 C3 C3 is either 3 pongs or 3 chows
+    var characterCandidates =
+        meterRegistry
+            .get("mahjong.scoring.melds.candidates")
+            .tag("set", "character")
+            .summary();
+    then(characterCandidates.totalAmount()).isEqualTo(2);
+  }
+
+  @Test
+  void countsWinningHandTypesWithRepeats() {
+    var winningHand =
+        WinningHand.of(
+            WinningHandType.COMMON_HAND,
+            WinningHandType.ONE_DRAGON,
+            WinningHandType.ONE_DRAGON,
+            WinningHandType.SELF_PICK);
+
+    scoringMetrics.recordWinningHand(winningHand, RuleSet.DEFAULT.faans(winningHand));
+    scoringMetrics.recordWinningHand(WinningHand.of(WinningHandType.CHICKEN_HAND), 0);
+
+    then(meterRegistry.get("mahjong.scoring.winning.hands").tag("type", "ONE_DRAGON").counter())
+        .returns(2.0, c -> c.count());
+    then(meterRegistry.get("mahjong.scoring.winning.hands").tag("type", "COMMON_HAND").counter())
+        .returns(1.0, c -> c.count());
+    then(meterRegistry.get("mahjong.scoring.winning.hands").tag("type", "ALL_KONGS").counter())
+        .returns(0.0, c -> c.count());
+    var faans = meterRegistry.get("mahjong.scoring.faans").summary();
+    then(faans.count()).isEqualTo(2);
+    then(faans.totalAmount()).isEqualTo(RuleSet.DEFAULT.faans(winningHand));
+  }
+
+  @Test
+  void bucketsFaansUpToMaxFaans() {
+    var registry = new SimpleMeterRegistry();
+    new ScoringMetrics(registry, 20)
+        .recordWinningHand(WinningHand.of(WinningHandType.SELF_PICK), 20);
+
+    var buckets = registry.get("mahjong.scoring.faans").summary().takeSnapshot().histogramCounts();
+    then(buckets).hasSize(20);
+    then(buckets[0].bucket()).isEqualTo(1);
+    then(buckets[19]).returns(20.0, CountAtBucket::bucket).returns(1.0, CountAtBucket::count);
+    then(meterRegistry.get("mahjong.scoring.faans").summary().takeSnapshot().histogramCounts())
+        .hasSize(RuleSet.DEFAULT_MAX_FAANS);
+  }
+
+  @Test
+  void noopRecordsNothingWithoutReadingTheClock() {
+    var start = ScoringMetrics.NOOP.start();
+    ScoringMetrics.NOOP.stop(ScoringMetrics.Stage.BONUS, start);
+    ScoringMetrics.NOOP.stopMelds(MahjongSetType.DOT, start, 1);
+    ScoringMetrics.NOOP.stopSerialization(ScoringMetrics.Format.JSON, start);
+    ScoringMetrics.NOOP.recordWinningHand(WinningHand.of(WinningHandType.SELF_PICK), 1);
+
+    then(start).isZero();
+  }
+}
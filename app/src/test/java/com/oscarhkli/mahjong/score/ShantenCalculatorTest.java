@@ -0,0 +1,234 @@
+package com.oscarhkli.mahjong.score;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ShantenCalculatorTest {
+
+  private static final List<MahjongTileType> PLAYABLE_TILES =
+      Arrays.stream(MahjongTileType.values())
+          .filter(tile -> tile.getIndex() < MahjongTileType.F1.getIndex())
+          .toList();
+
+  ShantenCalculator shantenCalculator = new ShantenCalculator();
+  HandStructureCalculator handStructureCalculator =
+      new HandStructureCalculator(new MeldsFactory());
+
+  @ParameterizedTest
+  @MethodSource
+  void calculate(List<String> tileStrings, ExposedMelds exposedMelds, int expected) {
+    var tiles = tileStrings.stream().map(MahjongTileType::valueOf).toList();
+
+    then(shantenCalculator.calculate(tiles, exposedMelds))
+        .as("tiles: %s".formatted(tileStrings))
+        .isEqualTo(expected);
+    var tileCounts = new int[MahjongTileType.F1.getIndex()];
+    tiles.forEach(tile -> tileCounts[tile.getIndex()]++);
+    then(shantenCalculator.calculate(tileCounts, exposedMelds.size()))
+        .as("tile counts: %s".formatted(tileStrings))
+        .isEqualTo(expected);
+  }
+
+  private static Stream<Arguments> calculate() {
+    return Stream.of(
+        Arguments.of(
+            List.of(
+                "D1", "D1", "D1", "D2", "D2", "D2", "D3", "D3", "D3", "D4", "D5", "D6", "D9", "D9"),
+            new ExposedMelds(),
+            -1),
+        Arguments.of(
+            List.of("D1", "D1", "D1", "D2", "D3", "D4", "D5", "D6", "D7", "D8", "D9", "D9", "D9"),
+            new ExposedMelds(),
+            0),
+        Arguments.of(
+            List.of("C1", "C2", "C3", "C5", "C7", "B2", "B3", "D4", "D4", "D9", "EAST", "RED", "RED"),
+            new ExposedMelds(),
+            2),
+        Arguments.of(
+            List.of("C1", "C2", "C3", "C5", "C7", "B2", "B3", "D4", "D4", "D9", "RED", "RED", "RED"),
+            new ExposedMelds(),
+            1),
+        Arguments.of(
+            List.of(
+                "C1", "C4", "C7", "B2", "B5", "B8", "D3", "D6", "D9", "RED", "GREEN", "WHITE",
+                "EAST"),
+            new ExposedMelds(),
+            7),
+        Arguments.of(
+            List.of(
+                "EAST", "SOUTH", "WEST", "NORTH", "RED", "GREEN", "WHITE", "C1", "C9", "B1", "B9",
+                "D1", "D9"),
+            new ExposedMelds(),
+            0),
+        Arguments.of(
+            List.of(
+                "EAST", "SOUTH", "WEST", "NORTH", "RED", "GREEN", "WHITE", "C1", "C9", "B1", "B9",
+                "D1", "D9", "D9"),
+            new ExposedMelds(),
+            -1),
+        Arguments.of(
+            List.of("EAST", "SOUTH", "WEST", "NORTH", "RED", "GREEN", "WHITE", "C1", "C9", "B1"),
+            new ExposedMelds(List.of(), List.of(MahjongTileType.D5), List.of()),
+            6),
+        Arguments.of(
+            List.of("WHITE"),
+            new ExposedMelds(
+                List.of(),
+                List.of(),
+                List.of(
+                    MahjongTileType.RED,
+                    MahjongTileType.GREEN,
+                    MahjongTileType.C1,
+                    MahjongTileType.B9)),
+            0),
+        Arguments.of(
+            List.of("B1", "B1", "B1", "B2"),
+            new ExposedMelds(
+                List.of(MahjongTileType.B1),
+                List.of(MahjongTileType.RED, MahjongTileType.GREEN),
+                List.of()),
+            0),
+        Arguments.of(
+            List.of("B1", "B4", "B7", "D2"),
+            new ExposedMelds(
+                List.of(MahjongTileType.B1),
+                List.of(MahjongTileType.RED, MahjongTileType.GREEN),
+                List.of()),
+            2));
+  }
+
+  /** Complete and waiting hands must agree with the meld deduction */
+  @Test
+  void calculateMatchesHandStructures() {
+    var random = new Random(11);
+    for (var i = 0; i < 2000; i++) {
+      var tiles = randomNearlyCompleteHand(random);
+
+      var shanten = shantenCalculator.calculate(tiles, new ExposedMelds());
+
+      var isComplete = handStructureCalculator.calculate(tiles, new ExposedMelds()).isComplete();
+      then(shanten == -1).as("tiles: %s, shanten: %d", tiles, shanten).isEqualTo(isComplete);
+
+      var waitingTiles = new ArrayList<>(tiles);
+      waitingTiles.remove(random.nextInt(waitingTiles.size()));
+      if (waitingTiles.stream().anyMatch(tile -> Collections.frequency(waitingTiles, tile) == 4)) {
+        // Such a hand may only be waiting for a fifth copy, which is not a winning tile
+        continue;
+      }
+      var isWaiting =
+          !handStructureCalculator
+              .deduceWinningTiles(waitingTiles, new ExposedMelds())
+              .isEmpty();
+      then(shantenCalculator.calculate(waitingTiles, new ExposedMelds()) == 0)
+          .as("tiles: %s", waitingTiles)
+          .isEqualTo(isWaiting);
+    }
+  }
+
+  /** Drawing the right tile takes a 13-tile hand one step closer */
+  @Test
+  void calculateDecreasesByOneWithBestDraw() {
+    var random = new Random(12);
+    for (var i = 0; i < 500; i++) {
+      var tiles = randomHand(random, 13);
+
+      var bestDrawShanten = Integer.MAX_VALUE;
+      for (var tile : PLAYABLE_TILES) {
+        if (Collections.frequency(tiles, tile) < 4) {
+          var drawnTiles = new ArrayList<>(tiles);
+          drawnTiles.add(tile);
+          bestDrawShanten =
+              Math.min(bestDrawShanten, shantenCalculator.calculate(drawnTiles, new ExposedMelds()));
+        }
+      }
+
+      then(shantenCalculator.calculate(tiles, new ExposedMelds()))
+          .as("tiles: %s", tiles)
+          .isEqualTo(bestDrawShanten + 1);
+    }
+  }
+
+  @Test
+  void bestDiscardLeavesLowestShanten() {
+    var random = new Random(13);
+    for (var i = 0; i < 500; i++) {
+      var tiles = i % 2 == 0 ? randomHand(random, 14) : randomNearlyCompleteHand(random);
+      var tileCounts = new int[MahjongTileType.F1.getIndex()];
+      tiles.forEach(tile -> tileCounts[tile.getIndex()]++);
+      var preferredTile = tiles.get(random.nextInt(tiles.size())).getIndex();
+
+      var expectedShanten = Integer.MAX_VALUE;
+      var expectedDiscard = -1;
+      for (var index = 0; index < tileCounts.length; index++) {
+        if (tileCounts[index] == 0) {
+          continue;
+        }
+        tileCounts[index]--;
+        var shanten = shantenCalculator.calculate(tileCounts, 0);
+        tileCounts[index]++;
+        if (shanten < expectedShanten
+            || (shanten == expectedShanten && index == preferredTile)) {
+          expectedShanten = shanten;
+          expectedDiscard = index;
+        }
+      }
+
+      then(shantenCalculator.bestDiscard(tileCounts, 0, preferredTile))
+          .as("tiles: %s", tiles)
+          .isEqualTo(expectedDiscard);
+    }
+  }
+
+  /** 4 random melds and an eye of two suits and the honors, with one or two tiles replaced */
+  private static List<MahjongTileType> randomNearlyCompleteHand(Random random) {
+    var suits =
+        List.of(
+            MahjongTileType.C1.getIndex(),
+            random.nextBoolean() ? MahjongTileType.B1.getIndex() : MahjongTileType.D1.getIndex());
+    while (true) {
+      var tiles = new ArrayList<MahjongTileType>();
+      for (var meld = 0; meld < 4; meld++) {
+        var startingIndex = suits.get(random.nextInt(suits.size()));
+        var pick = random.nextInt(5);
+        if (pick < 2) {
+          var index = startingIndex + random.nextInt(7);
+          tiles.addAll(
+              List.of(
+                  PLAYABLE_TILES.get(index),
+                  PLAYABLE_TILES.get(index + 1),
+                  PLAYABLE_TILES.get(index + 2)));
+        } else if (pick < 4) {
+          tiles.addAll(Collections.nCopies(3, PLAYABLE_TILES.get(startingIndex + random.nextInt(9))));
+        } else {
+          tiles.addAll(Collections.nCopies(3, PLAYABLE_TILES.get(random.nextInt(7))));
+        }
+      }
+      tiles.addAll(Collections.nCopies(2, PLAYABLE_TILES.get(random.nextInt(PLAYABLE_TILES.size()))));
+      for (var replaced = random.nextInt(3); replaced > 0; replaced--) {
+        tiles.set(
+            random.nextInt(tiles.size()),
+            PLAYABLE_TILES.get(random.nextInt(PLAYABLE_TILES.size())));
+      }
+      if (tiles.stream().allMatch(tile -> Collections.frequency(tiles, tile) <= 4)) {
+        return tiles;
+      }
+    }
+  }
+
+  private static List<MahjongTileType> randomHand(Random random, int size) {
+    var wall = new ArrayList<MahjongTileType>();
+    PLAYABLE_TILES.forEach(tile -> wall.addAll(Collections.nCopies(4, tile)));
+    Collections.shuffle(wall, random);
+    return List.copyOf(wall.subList(0, size));
+  }
+}
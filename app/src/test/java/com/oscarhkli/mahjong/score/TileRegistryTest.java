@@ -0,0 +1,77 @@
+package com.oscarhkli.mahjong.score;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TileRegistryTest {
+
+  @ParameterizedTest
+  @EnumSource(MahjongTileType.class)
+  void tile(MahjongTileType tile) {
+    then(TileRegistry.tile(tile.getIndex())).isSameAs(tile);
+    then(MahjongTileType.valueOfIndex(tile.getIndex())).isSameAs(tile);
+    then(TileRegistry.tile(TileRegistry.setType(tile), TileRegistry.rank(tile))).isSameAs(tile);
+    then(TileRegistry.isOrphan(tile))
+        .isEqualTo(TileRegistry.isTerminal(tile) || TileRegistry.isHonor(tile));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {-1, MahjongConstant.MAHJONG_TYPES})
+  void tileOutOfRange(int index) {
+    then(TileRegistry.tile(index)).isNull();
+  }
+
+  @Test
+  void ranks() {
+    then(TileRegistry.setType(MahjongTileType.B5)).isEqualTo(MahjongSetType.BAMBOO);
+    then(TileRegistry.rank(MahjongTileType.B5)).isEqualTo(5);
+    then(TileRegistry.setType(MahjongTileType.WHITE)).isEqualTo(MahjongSetType.DRAGON);
+    then(TileRegistry.rank(MahjongTileType.WHITE)).isEqualTo(3);
+    then(TileRegistry.tile(MahjongSetType.DOT, 9)).isEqualTo(MahjongTileType.D9);
+  }
+
+  @Test
+  void orphans() {
+    then(TileRegistry.orphans())
+        .containsExactly(
+            MahjongTileType.EAST,
+            MahjongTileType.SOUTH,
+            MahjongTileType.WEST,
+            MahjongTileType.NORTH,
+            MahjongTileType.RED,
+            MahjongTileType.GREEN,
+            MahjongTileType.WHITE,
+            MahjongTileType.C1,
+            MahjongTileType.C9,
+            MahjongTileType.B1,
+            MahjongTileType.B9,
+            MahjongTileType.D1,
+            MahjongTileType.D9);
+    then(TileRegistry.terminals(MahjongSetType.CHARACTER))
+        .containsExactly(MahjongTileType.C1, MahjongTileType.C9);
+    then(TileRegistry.terminals(MahjongSetType.WIND)).isEmpty();
+    then(TileRegistry.isOrphan(MahjongTileType.F1)).isFalse();
+  }
+
+  @Test
+  void chowStarts() {
+    then(TileRegistry.chowStarts(MahjongSetType.DOT))
+        .containsExactly(
+            MahjongTileType.D1,
+            MahjongTileType.D2,
+            MahjongTileType.D3,
+            MahjongTileType.D4,
+            MahjongTileType.D5,
+            MahjongTileType.D6,
+            MahjongTileType.D7);
+    then(TileRegistry.chowStarts(MahjongSetType.DRAGON)).isEmpty();
+    then(TileRegistry.isChowStart(MahjongTileType.B7)).isTrue();
+    then(TileRegistry.isChowStart(MahjongTileType.B8)).isFalse();
+    then(TileRegistry.isSuited(MahjongSetType.CHARACTER)).isTrue();
+    then(TileRegistry.isSuited(MahjongSetType.FLOWER)).isFalse();
+  }
+}
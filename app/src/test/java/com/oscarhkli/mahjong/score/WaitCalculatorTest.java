@@ -0,0 +1,189 @@
+package com.oscarhkli.mahjong.score;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class WaitCalculatorTest {
+
+  private static final List<MahjongTileType> PLAYABLE_TILES =
+      Arrays.stream(MahjongTileType.values())
+          .filter(tile -> tile.getIndex() < MahjongTileType.F1.getIndex())
+          .toList();
+
+  HandStructureCalculator handStructureCalculator =
+      new HandStructureCalculator(new MeldsFactory());
+  WaitCalculator waitCalculator =
+      new WaitCalculator(
+          handStructureCalculator,
+          new ScoreCalculator(
+              handStructureCalculator,
+              new BonusWinningConditionCalculator(),
+              new WinningConditionCalculator()));
+
+  @ParameterizedTest
+  @MethodSource
+  void calculate(
+      List<String> tileStrings, ExposedMelds exposedMelds, List<MahjongTileType> expected) {
+    var tiles = tileStrings.stream().map(MahjongTileType::valueOf).toList();
+
+    var waits = calculateWaits(tiles, exposedMelds);
+
+    then(waits)
+        .as("tiles: %s".formatted(tileStrings))
+        .extracting(WaitCalculator.Wait::tile)
+        .containsExactlyElementsOf(expected);
+  }
+
+  private static Stream<Arguments> calculate() {
+    return Stream.of(
+        Arguments.of(
+            List.of("B2", "B3", "B4", "B5", "D1", "D1", "D1", "D2", "D2", "D2", "D3", "D3", "D3"),
+            new ExposedMelds(),
+            List.of(MahjongTileType.B2, MahjongTileType.B5)),
+        Arguments.of(
+            List.of("D1", "D1", "D1", "D2", "D3", "D4", "D5", "D6", "D7", "D8", "D9", "D9", "D9"),
+            new ExposedMelds(),
+            PLAYABLE_TILES.subList(
+                MahjongTileType.D1.getIndex(), MahjongTileType.D9.getIndex() + 1)),
+        Arguments.of(
+            List.of(
+                "EAST", "SOUTH", "WEST", "NORTH", "RED", "GREEN", "WHITE", "C1", "C9", "B1", "B9",
+                "D1", "D9"),
+            new ExposedMelds(),
+            List.of(
+                MahjongTileType.EAST,
+                MahjongTileType.SOUTH,
+                MahjongTileType.WEST,
+                MahjongTileType.NORTH,
+                MahjongTileType.RED,
+                MahjongTileType.GREEN,
+                MahjongTileType.WHITE,
+                MahjongTileType.C1,
+                MahjongTileType.C9,
+                MahjongTileType.B1,
+                MahjongTileType.B9,
+                MahjongTileType.D1,
+                MahjongTileType.D9)),
+        Arguments.of(
+            List.of(
+                "EAST", "SOUTH", "WEST", "NORTH", "RED", "GREEN", "WHITE", "C9", "B1", "B9", "D1",
+                "D9", "D9"),
+            new ExposedMelds(),
+            List.of(MahjongTileType.C1)),
+        Arguments.of(
+            List.of("B1", "B1", "B1", "B2"),
+            new ExposedMelds(
+                List.of(MahjongTileType.B1),
+                List.of(MahjongTileType.RED, MahjongTileType.GREEN),
+                List.of()),
+            List.of(MahjongTileType.B2, MahjongTileType.B3)),
+        Arguments.of(
+            List.of("WHITE"),
+            new ExposedMelds(
+                List.of(),
+                List.of(),
+                List.of(
+                    MahjongTileType.RED,
+                    MahjongTileType.GREEN,
+                    MahjongTileType.C1,
+                    MahjongTileType.B9)),
+            List.of(MahjongTileType.WHITE)),
+        Arguments.of(
+            List.of("C1", "C1", "C1", "C1", "C4", "C7", "B2", "B5", "B8", "D3", "D6", "D9", "EAST"),
+            new ExposedMelds(),
+            List.of()));
+  }
+
+  @Test
+  void calculateWinningHands() {
+    var tiles =
+        Stream.of("D1", "D1", "D1", "D2", "D3", "D4", "D5", "D6", "D7", "D8", "D9", "D9", "D9")
+            .map(MahjongTileType::valueOf)
+            .toList();
+
+    var waits = calculateWaits(tiles, new ExposedMelds());
+
+    then(waits)
+        .hasSize(9)
+        .allSatisfy(
+            wait -> {
+              then(wait.winningHand().getWinningHandTypes())
+                  .contains(WinningHandType.NINE_GATES);
+              then(wait.winningHand().getFaans()).isEqualTo(11);
+            });
+  }
+
+  /** Winning tiles must be exactly those making a complete hand when scored one by one */
+  @Test
+  void deduceWinningTilesMatchesScoringEveryTile() {
+    var random = new Random(10);
+    for (var i = 0; i < 2000; i++) {
+      var tiles = randomWaitingHand(random);
+
+      var winningTiles = handStructureCalculator.deduceWinningTiles(tiles, new ExposedMelds());
+
+      var expected = new ArrayList<MahjongTileType>();
+      for (var tile : PLAYABLE_TILES) {
+        if (Collections.frequency(tiles, tile) == 4) {
+          continue;
+        }
+        var candidateTiles = new ArrayList<>(tiles);
+        candidateTiles.add(tile);
+        if (handStructureCalculator.calculate(candidateTiles, new ExposedMelds()).isComplete()) {
+          expected.add(tile);
+        }
+      }
+      then(winningTiles).as("tiles: %s", tiles).containsExactlyElementsOf(expected);
+    }
+  }
+
+  private List<WaitCalculator.Wait> calculateWaits(
+      List<MahjongTileType> tiles, ExposedMelds exposedMelds) {
+    return waitCalculator.calculate(
+        tiles,
+        exposedMelds,
+        List.of(),
+        new WindType(MahjongTileType.EAST, MahjongTileType.EAST),
+        new WinningConditions());
+  }
+
+  /** 4 random melds and an eye of one or two suits, less one random tile */
+  private static List<MahjongTileType> randomWaitingHand(Random random) {
+    var suits =
+        List.of(
+            PLAYABLE_TILES.get(MahjongTileType.B1.getIndex() + random.nextInt(2) * 9).getIndex(),
+            MahjongTileType.C1.getIndex());
+    while (true) {
+      var tiles = new ArrayList<MahjongTileType>();
+      for (var meld = 0; meld < 4; meld++) {
+        var startingIndex = suits.get(random.nextInt(suits.size()));
+        if (random.nextBoolean()) {
+          var index = startingIndex + random.nextInt(7);
+          tiles.addAll(
+              List.of(
+                  PLAYABLE_TILES.get(index),
+                  PLAYABLE_TILES.get(index + 1),
+                  PLAYABLE_TILES.get(index + 2)));
+        } else {
+          tiles.addAll(Collections.nCopies(3, PLAYABLE_TILES.get(startingIndex + random.nextInt(9))));
+        }
+      }
+      var eyeIndex = suits.get(random.nextInt(suits.size())) + random.nextInt(9);
+      tiles.addAll(Collections.nCopies(2, PLAYABLE_TILES.get(eyeIndex)));
+      if (tiles.stream().allMatch(tile -> Collections.frequency(tiles, tile) <= 4)) {
+        tiles.remove(random.nextInt(tiles.size()));
+        return tiles;
+      }
+    }
+  }
+}
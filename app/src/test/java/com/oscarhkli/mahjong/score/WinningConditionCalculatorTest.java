@@ -19,9 +19,12 @@ class WinningConditionCalculatorTest {
       List<WinningHandType> winningHands,
       List<WinningHandType> bonusWinningHands,
       List<WinningHandType> expectedExtraWinningHands) {
-    var actualExtraWinningHands = calculator.calculateExtraWinningHands(conditions, winningHands, bonusWinningHands);
+    var actualExtraWinningHands =
+        calculator.calculateExtraWinningHands(
+            conditions, new WinningHand(winningHands), new WinningHand(bonusWinningHands));
 
-    then(actualExtraWinningHands).containsExactlyInAnyOrderElementsOf(expectedExtraWinningHands);
+    then(actualExtraWinningHands.getWinningHandTypes())
+        .containsExactlyInAnyOrderElementsOf(expectedExtraWinningHands);
   }
 
   private static Stream<Arguments> calculateExtraWinningHands() {
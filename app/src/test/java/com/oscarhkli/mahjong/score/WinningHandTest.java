@@ -0,0 +1,107 @@
+package com.oscarhkli.mahjong.score;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class WinningHandTest {
+
+  @ParameterizedTest
+  @MethodSource
+  void getFaans(List<WinningHandType> winningHandTypes, int expected) {
+    var score = new WinningHand(winningHandTypes).getFaans();
+    then(score).isEqualTo(expected);
+  }
+
+  private static Stream<Arguments> getFaans() {
+    return Stream.of(
+        Arguments.of(List.of(WinningHandType.TRICK_HAND), -1),
+        Arguments.of(List.of(WinningHandType.TRICK_HAND, WinningHandType.ALL_ONE_SUIT), -1),
+        Arguments.of(List.of(WinningHandType.CHICKEN_HAND, WinningHandType.ALL_ONE_SUIT), 7),
+        Arguments.of(List.of(WinningHandType.COMMON_HAND, WinningHandType.ALL_ONE_SUIT), 8),
+        Arguments.of(List.of(WinningHandType.ALL_IN_TRIPLETS, WinningHandType.ALL_ONE_SUIT), 10),
+        Arguments.of(List.of(WinningHandType.ALL_HONOR_TILES), 10),
+        Arguments.of(
+            List.of(
+                WinningHandType.SMALL_WINDS,
+                WinningHandType.MIXED_ONE_SUIT,
+                WinningHandType.ALL_IN_TRIPLETS),
+            9));
+  }
+
+  @Test
+  void reportOrderCoversEveryWinningHandType() {
+    then(WinningHand.REPORT_ORDER).containsExactlyInAnyOrder(WinningHandType.values());
+  }
+
+  @Test
+  void getWinningHandTypes() {
+    var winningHand =
+        new WinningHand(
+            List.of(
+                WinningHandType.SELF_PICK,
+                WinningHandType.ONE_DRAGON,
+                WinningHandType.FLOWER_OF_OWN_WIND,
+                WinningHandType.ONE_DRAGON,
+                WinningHandType.COMMON_HAND,
+                WinningHandType.FLOWER_OF_OWN_WIND));
+
+    then(winningHand.getWinningHandTypes())
+        .containsExactly(
+            WinningHandType.COMMON_HAND,
+            WinningHandType.ONE_DRAGON,
+            WinningHandType.ONE_DRAGON,
+            WinningHandType.FLOWER_OF_OWN_WIND,
+            WinningHandType.FLOWER_OF_OWN_WIND,
+            WinningHandType.SELF_PICK);
+    then(winningHand.count(WinningHandType.ONE_DRAGON)).isEqualTo(2);
+    then(winningHand.count(WinningHandType.SELF_PICK)).isEqualTo(1);
+    then(winningHand.count(WinningHandType.NO_FLOWERS)).isZero();
+    then(winningHand.getScore()).isEqualTo(6);
+    then(winningHand.getFaans()).isEqualTo(6);
+    then(winningHand)
+        .isEqualTo(
+            WinningHand.of(
+                WinningHandType.FLOWER_OF_OWN_WIND,
+                WinningHandType.FLOWER_OF_OWN_WIND,
+                WinningHandType.ONE_DRAGON,
+                WinningHandType.ONE_DRAGON,
+                WinningHandType.COMMON_HAND,
+                WinningHandType.SELF_PICK))
+        .isNotEqualTo(
+            WinningHand.of(
+                WinningHandType.FLOWER_OF_OWN_WIND,
+                WinningHandType.ONE_DRAGON,
+                WinningHandType.COMMON_HAND,
+                WinningHandType.SELF_PICK));
+  }
+
+  @Test
+  void builder() {
+    var builder =
+        WinningHand.builder()
+            .addAll(WinningHand.of(WinningHandType.ALL_IN_TRIPLETS, WinningHandType.ONE_DRAGON))
+            .add(WinningHandType.ONE_DRAGON)
+            .add(WinningHandType.WIN_FROM_WALL);
+
+    then(builder.size()).isEqualTo(4);
+    then(builder.contains(WinningHandType.ALL_IN_TRIPLETS)).isTrue();
+
+    builder.remove(WinningHandType.ALL_IN_TRIPLETS).add(WinningHandType.SELF_TRIPLETS);
+
+    then(builder.build().getWinningHandTypes())
+        .containsExactly(
+            WinningHandType.SELF_TRIPLETS,
+            WinningHandType.WIN_FROM_WALL,
+            WinningHandType.ONE_DRAGON,
+            WinningHandType.ONE_DRAGON);
+    then(WinningHand.builder().build()).isSameAs(WinningHand.EMPTY);
+    then(WinningHand.of(WinningHandType.ALL_KONGS).hasLimitHand()).isTrue();
+    then(WinningHand.of(WinningHandType.ALL_ONE_SUIT).hasLimitHand()).isFalse();
+  }
+}
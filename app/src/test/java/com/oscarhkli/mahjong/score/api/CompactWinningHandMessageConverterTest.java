@@ -0,0 +1,119 @@
+package com.oscarhkli.mahjong.score.api;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowableOfType;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.oscarhkli.mahjong.score.ExposedMelds;
+import com.oscarhkli.mahjong.score.MahjongTileType;
+import com.oscarhkli.mahjong.score.WindType;
+import com.oscarhkli.mahjong.score.WinningConditions;
+import com.oscarhkli.mahjong.score.WinningHand;
+import com.oscarhkli.mahjong.score.WinningHandType;
+import java.nio.ByteBuffer;
+import java.util.HexFormat;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+class CompactWinningHandMessageConverterTest {
+
+  private final CompactWinningHandMessageConverter converter =
+      new CompactWinningHandMessageConverter();
+
+  @Test
+  @SneakyThrows
+  void read() {
+    // 8 hand tiles, a chow of C1 and a kong of WHITE, no bonus tiles, robbing kong
+    var body = new byte[] {8, 8, 9, 10, 11, 12, 13, 14, 14, 1, 7, 0, 1, 6, 0, 2, 3, 0b100, 0};
+
+    var request =
+        (WinningHandRequest)
+            converter.read(WinningHandRequest.class, new MockHttpInputMessage(body));
+
+    then(request.handTiles())
+        .containsExactly(
+            MahjongTileType.C2,
+            MahjongTileType.C3,
+            MahjongTileType.C4,
+            MahjongTileType.C5,
+            MahjongTileType.C6,
+            MahjongTileType.C7,
+            MahjongTileType.C8,
+            MahjongTileType.C8);
+    then(request.exposedMelds())
+        .isEqualTo(
+            new ExposedMelds(
+                List.of(MahjongTileType.C1), List.of(), List.of(MahjongTileType.WHITE)));
+    then(request.bonusTiles()).isEmpty();
+    then(request.wind()).isEqualTo(new WindType(MahjongTileType.WEST, MahjongTileType.NORTH));
+    then(request.winningConditions())
+        .isEqualTo(new WinningConditions(false, false, true, false, false));
+    then(request.ruleSet()).isNull();
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "",
+        "01",
+        // Tile index beyond the Seasons
+        "012a",
+        // Rule set name shorter than its length
+        "00000000000001000268",
+        // Trailing byte
+        "0000000000000100000000"
+      })
+  void readMalformed(String hex) {
+    var body = HexFormat.of().parseHex(hex);
+
+    var thrown =
+        catchThrowableOfType(
+            HttpMessageNotReadableException.class,
+            () -> converter.read(WinningHandRequest.class, new MockHttpInputMessage(body)));
+
+    then(thrown).isNotNull();
+  }
+
+  @Test
+  @SneakyThrows
+  void write() {
+    var response =
+        WinningHandResponse.of(
+            WinningHand.of(
+                WinningHandType.ALL_IN_TRIPLETS,
+                WinningHandType.FLOWER_OF_OWN_WIND,
+                WinningHandType.FLOWER_OF_OWN_WIND,
+                WinningHandType.SELF_PICK));
+    var outputMessage = new MockHttpOutputMessage();
+
+    converter.write(response, CompactWinningHandMessageConverter.MEDIA_TYPE, outputMessage);
+
+    then(outputMessage.getHeaders().getContentLength())
+        .isEqualTo(CompactWinningHandMessageConverter.RESPONSE_SIZE);
+    var buffer = ByteBuffer.wrap(outputMessage.getBodyAsBytes());
+    then(buffer.getLong())
+        .isEqualTo(
+            1L << WinningHandType.ALL_IN_TRIPLETS.ordinal()
+                | 1L << WinningHandType.FLOWER_OF_OWN_WIND.ordinal()
+                | 1L << WinningHandType.SELF_PICK.ordinal());
+    then(buffer.get()).isZero();
+    then(buffer.get()).isEqualTo((byte) 2);
+    then(buffer.getShort()).isEqualTo((short) response.getData().getTotalFaans());
+    then(buffer.hasRemaining()).isFalse();
+  }
+
+  @Test
+  void canReadAndWriteOnlyTheWinningHandMessages() {
+    var mediaType = CompactWinningHandMessageConverter.MEDIA_TYPE;
+
+    then(converter.canRead(WinningHandRequest.class, mediaType)).isTrue();
+    then(converter.canRead(WinningHandResponse.class, mediaType)).isFalse();
+    then(converter.canWrite(WinningHandResponse.class, mediaType)).isTrue();
+    then(converter.canWrite(WinningHandBatchResponse.class, mediaType)).isFalse();
+  }
+}
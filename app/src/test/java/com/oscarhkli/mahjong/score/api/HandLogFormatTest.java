@@ -0,0 +1,52 @@
+package com.oscarhkli.mahjong.score.api;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.oscarhkli.mahjong.score.ExposedMelds;
+import com.oscarhkli.mahjong.score.MahjongTileType;
+import com.oscarhkli.mahjong.score.WindType;
+import com.oscarhkli.mahjong.score.WinningConditions;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class HandLogFormatTest {
+
+  @Test
+  void encodesWinningHandRequestAsTileIndices() {
+    var request =
+        WinningHandRequest.builder()
+            .handTiles(
+                List.of(
+                    MahjongTileType.C1,
+                    MahjongTileType.C2,
+                    MahjongTileType.C3,
+                    MahjongTileType.RED,
+                    MahjongTileType.RED))
+            .exposedMelds(
+                new ExposedMelds(
+                    List.of(MahjongTileType.D1),
+                    List.of(MahjongTileType.EAST, MahjongTileType.SOUTH),
+                    List.of()))
+            .bonusTiles(List.of(MahjongTileType.F1))
+            .wind(new WindType(MahjongTileType.EAST, MahjongTileType.SOUTH))
+            .winningConditions(new WinningConditions(true, false, false, true, false))
+            .ruleSet("house")
+            .build();
+
+    then(HandLogFormat.of(request))
+        .isEqualTo("hand=7,8,9,4,4 exposed=c25;p0,1;k bonus=34 wind=0,1 flags=9 ruleSet=house");
+  }
+
+  @Test
+  void leavesMissingValuesEmpty() {
+    then(HandLogFormat.of(WaitingHandRequest.builder().build()))
+        .isEqualTo("hand= exposed= bonus= wind= flags= ruleSet=");
+    then(
+            HandLogFormat.of(
+                DiscardingHandRequest.builder()
+                    .handTiles(List.of(MahjongTileType.WHITE))
+                    .exposedMelds(new ExposedMelds())
+                    .build()))
+        .isEqualTo("hand=6 exposed=c;p;k visible=");
+  }
+}
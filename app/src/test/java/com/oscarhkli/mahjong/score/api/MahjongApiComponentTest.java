@@ -1,5 +1,6 @@
 package com.oscarhkli.mahjong.score.api;
 
+import static org.assertj.core.api.BDDAssertions.then;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -97,6 +98,76 @@ class MahjongApiComponentTest {
     JSONAssert.assertEquals(expectedResponseJson, response, true);
   }
 
+  @Test
+  @SneakyThrows
+  void testDeduceWinningHandWithRuleSet() {
+    var request =
+        """
+        {
+          "handTiles":["D1", "D1", "D1", "D2", "D2", "D2", "D3", "D3", "D3", "D4", "D5", "D6", "D9", "D9"],
+          "bonusTiles": [],
+          "wind": {
+            "prevailing": "EAST",
+            "seat": "WEST"
+          },
+          "winningConditions": {
+            "isSelfPick": true
+          },
+          "ruleSet": "house"
+        }""";
+
+    var response =
+        mockMvc
+            .perform(
+                post("/api/v1/mahjong/faans")
+                    .with(csrf())
+                    .header("Authorization", "Bearer %s".formatted(generateToken()))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .content(request))
+            .andExpect(status().isOk())
+            .andDo(print())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    var expectedResponseJson =
+        """
+        {
+           "data": {
+             "totalFaans": 8,
+             "winningHands": [
+               {
+                 "type": "COMMON_HAND",
+                 "name": "Common Hand",
+                 "faans": 1,
+                 "limitHand": false
+               },
+               {
+                 "type": "ALL_ONE_SUIT",
+                 "name": "All One Suit",
+                 "faans": 6,
+                 "limitHand": false
+               },
+               {
+                 "type": "NO_FLOWERS",
+                 "name": "No Flowers/Seasons",
+                 "faans": 0,
+                 "limitHand": false
+               },
+               {
+                 "type": "SELF_PICK",
+                 "name": "Self Pick",
+                 "faans": 1,
+                 "limitHand": false
+               }
+             ]
+           }
+         }""";
+
+    JSONAssert.assertEquals(expectedResponseJson, response, true);
+  }
+
   @Test
   @SneakyThrows
   void testDeduceWinningHandWithExposedTiles() {
@@ -329,6 +400,259 @@ class MahjongApiComponentTest {
     JSONAssert.assertEquals(expectedResponseJson, response, true);
   }
 
+  @Test
+  @SneakyThrows
+  void testDeduceWinningHands() {
+    var request =
+        """
+        {
+          "items": [
+            {
+              "id": "table-1",
+              "request": {
+                "handTiles":["D9","D9"],
+                "exposedMelds":{
+                  "chows": ["D1","D3"],
+                  "pongs": ["D5","D6"]
+                },
+                "bonusTiles":[],
+                "wind": {
+                  "prevailing": "EAST",
+                  "seat": "WEST"
+                }
+              }
+            },
+            {
+              "id": "table-2",
+              "request": {
+                "handTiles":["D9","D9"],
+                "bonusTiles":[]
+              }
+            }
+          ]
+        }""";
 
+    var response =
+        mockMvc
+            .perform(
+                post("/api/v1/mahjong/faans:batch")
+                    .with(csrf())
+                    .header("Authorization", "Bearer %s".formatted(generateToken()))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .content(request))
+            .andExpect(status().isOk())
+            .andDo(print())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
 
+    var expectedResponseJson =
+        """
+        {
+          "data": [
+            {
+              "id": "table-1",
+              "data": {
+                "totalFaans": 8,
+                "winningHands": [
+                  {
+                    "type": "ALL_ONE_SUIT",
+                    "name": "All One Suit",
+                    "faans": 7,
+                    "limitHand": false
+                  },
+                  {
+                    "type": "NO_FLOWERS",
+                    "name": "No Flowers/Seasons",
+                    "faans": 1,
+                    "limitHand": false
+                  }
+                ]
+              }
+            },
+            {
+              "id": "table-2",
+              "error": {
+                "code": "500",
+                "message": "Unable to score hand",
+                "errors": []
+              }
+            }
+          ]
+        }""";
+
+    JSONAssert.assertEquals(expectedResponseJson, response, false);
+  }
+
+  @Test
+  @SneakyThrows
+  void testDeduceWinningHandStream() {
+    var request =
+        """
+        {"handTiles":["D9","D9"],"exposedMelds":{"chows":["D1","D3"],"pongs":["D5","D6"]},\
+        "bonusTiles":[],"wind":{"prevailing":"EAST","seat":"WEST"}}
+        {"handTiles":["D9","D9"],"bonusTiles":[]}
+        """;
+
+    var response =
+        mockMvc
+            .perform(
+                post("/api/v1/mahjong/faans:stream")
+                    .with(csrf())
+                    .header("Authorization", "Bearer %s".formatted(generateToken()))
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .accept(MediaType.APPLICATION_NDJSON)
+                    .content(request))
+            .andExpect(status().isOk())
+            .andDo(print())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    var lines = response.split("\n");
+    then(lines).hasSize(2);
+    JSONAssert.assertEquals(
+        """
+        {
+          "data": {
+            "totalFaans": 8,
+            "winningHands": [
+              {
+                "type": "ALL_ONE_SUIT",
+                "name": "All One Suit",
+                "faans": 7,
+                "limitHand": false
+              },
+              {
+                "type": "NO_FLOWERS",
+                "name": "No Flowers/Seasons",
+                "faans": 1,
+                "limitHand": false
+              }
+            ]
+          }
+        }""",
+        lines[0],
+        true);
+    JSONAssert.assertEquals(
+        """
+        {
+          "error": {
+            "code": "500",
+            "message": "Unable to score hand",
+            "errors": []
+          }
+        }""",
+        lines[1],
+        false);
+  }
+
+  @Test
+  @SneakyThrows
+  void testDeduceWaits() {
+    var request =
+        """
+        {
+          "handTiles": ["D9"],
+          "exposedMelds": {"chows": ["D1", "D3"], "pongs": ["D5", "D6"]},
+          "bonusTiles": [],
+          "wind": {
+            "prevailing": "EAST",
+            "seat": "WEST"
+          }
+        }""";
+
+    var response =
+        mockMvc
+            .perform(
+                post("/api/v1/mahjong/waits")
+                    .with(csrf())
+                    .header("Authorization", "Bearer %s".formatted(generateToken()))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .content(request))
+            .andExpect(status().isOk())
+            .andDo(print())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    JSONAssert.assertEquals(
+        """
+        {
+          "data": [
+            {
+              "tile": "D9",
+              "data": {
+                "totalFaans": 8,
+                "winningHands": [
+                  {
+                    "type": "ALL_ONE_SUIT",
+                    "name": "All One Suit",
+                    "faans": 7,
+                    "limitHand": false
+                  },
+                  {
+                    "type": "NO_FLOWERS",
+                    "name": "No Flowers/Seasons",
+                    "faans": 1,
+                    "limitHand": false
+                  }
+                ]
+              }
+            }
+          ]
+        }""",
+        response,
+        true);
+  }
+
+  @Test
+  @SneakyThrows
+  void testDeduceDiscards() {
+    var request =
+        """
+        {
+          "handTiles": ["D9", "EAST"],
+          "exposedMelds": {"chows": ["D1", "D3"], "pongs": ["D5", "D6"]},
+          "visibleTiles": ["D9", "F1"]
+        }""";
+
+    var response =
+        mockMvc
+            .perform(
+                post("/api/v1/mahjong/discards")
+                    .with(csrf())
+                    .header("Authorization", "Bearer %s".formatted(generateToken()))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .content(request))
+            .andExpect(status().isOk())
+            .andDo(print())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    JSONAssert.assertEquals(
+        """
+        {
+          "data": [
+            {
+              "tile": "D9",
+              "shanten": 0,
+              "liveTiles": 3,
+              "improvingTiles": [{"tile": "EAST", "liveTiles": 3}]
+            },
+            {
+              "tile": "EAST",
+              "shanten": 0,
+              "liveTiles": 2,
+              "improvingTiles": [{"tile": "D9", "liveTiles": 2}]
+            }
+          ]
+        }""",
+        response,
+        true);
+  }
 }
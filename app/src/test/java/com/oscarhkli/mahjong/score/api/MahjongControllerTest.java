@@ -0,0 +1,889 @@
+package com.oscarhkli.mahjong.score.api;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.oscarhkli.mahjong.score.DiscardCalculator;
+import com.oscarhkli.mahjong.score.DiscardCalculator.Discard;
+import com.oscarhkli.mahjong.score.DiscardCalculator.ImprovingTile;
+import com.oscarhkli.mahjong.score.ExposedMelds;
+import com.oscarhkli.mahjong.score.MahjongTileType;
+import com.oscarhkli.mahjong.score.RuleSet;
+import com.oscarhkli.mahjong.score.ScoreCalculator;
+import com.oscarhkli.mahjong.score.ScoringConfig;
+import com.oscarhkli.mahjong.score.WaitCalculator;
+import com.oscarhkli.mahjong.score.WaitCalculator.Wait;
+import com.oscarhkli.mahjong.score.WindType;
+import com.oscarhkli.mahjong.score.WinningConditions;
+import com.oscarhkli.mahjong.score.WinningHand;
+import com.oscarhkli.mahjong.score.WinningHandType;
+import com.oscarhkli.mahjong.score.api.WinningHandResponse.BreakDown;
+import com.oscarhkli.mahjong.score.api.WinningHandResponse.WinningHandDescription;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = MahjongController.class)
+@Import(ScoringConfig.class)
+@AutoConfigureMockMvc
+@ExtendWith(MockitoExtension.class)
+@WithMockUser
+class MahjongControllerTest {
+
+  @Autowired MockMvc mockMvc;
+  @Autowired ObjectMapper objectMapper;
+  @Autowired HttpMessageConverters httpMessageConverters;
+  @MockitoBean ScoreCalculator scoreCalculator;
+  @MockitoBean WaitCalculator waitCalculator;
+  @MockitoBean DiscardCalculator discardCalculator;
+
+  @Captor ArgumentCaptor<List<MahjongTileType>> tilesCaptor;
+  @Captor ArgumentCaptor<ExposedMelds> exposedMeldsCaptor;
+  @Captor ArgumentCaptor<List<MahjongTileType>> winningHandCaptor;
+  @Captor ArgumentCaptor<WindType> windSettingsCaptor;
+  @Captor ArgumentCaptor<WinningConditions> winningConditionsArgumentCaptor;
+
+  @Test
+  @SneakyThrows
+  void testDeduceWinningHand() {
+    var fakeWinningHand =
+        new WinningHand(List.of(WinningHandType.COMMON_HAND, WinningHandType.ALL_ONE_SUIT));
+    given(
+            scoreCalculator.calculate(
+                tilesCaptor.capture(),
+                exposedMeldsCaptor.capture(),
+                winningHandCaptor.capture(),
+                windSettingsCaptor.capture(),
+                winningConditionsArgumentCaptor.capture(),
+                any(RuleSet.class)))
+        .willReturn(fakeWinningHand);
+
+    var request =
+        WinningHandRequest.builder()
+            .handTiles(
+                List.of(
+                    MahjongTileType.D1,
+                    MahjongTileType.D1,
+                    MahjongTileType.D1,
+                    MahjongTileType.D2,
+                    MahjongTileType.D2,
+                    MahjongTileType.D2,
+                    MahjongTileType.D3,
+                    MahjongTileType.D3,
+                    MahjongTileType.D3,
+                    MahjongTileType.D4,
+                    MahjongTileType.D5,
+                    MahjongTileType.D6,
+                    MahjongTileType.D9,
+                    MahjongTileType.D9))
+            .build();
+    final var response =
+        mockMvc
+            .perform(
+                post("/api/v1/mahjong/faans")
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andDo(print())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    final var winningHandResponse = objectMapper.readValue(response, WinningHandResponse.class);
+
+    var expectedWinningResponse =
+        WinningHandResponse.builder()
+            .data(
+                BreakDown.builder()
+                    .totalFaans(8)
+                    .winningHands(
+                        List.of(
+                            WinningHandDescription.builder()
+                                .type(WinningHandType.COMMON_HAND)
+                                .name("Common Hand")
+                                .faans(1)
+                                .build(),
+                            WinningHandDescription.builder()
+                                .type(WinningHandType.ALL_ONE_SUIT)
+                                .name("All One Suit")
+                                .faans(7)
+                                .build()))
+                    .build())
+            .build();
+
+    then(winningHandResponse).usingRecursiveComparison().isEqualTo(expectedWinningResponse);
+    then(tilesCaptor.getValue())
+        .containsExactly(
+            MahjongTileType.D1,
+            MahjongTileType.D1,
+            MahjongTileType.D1,
+            MahjongTileType.D2,
+            MahjongTileType.D2,
+            MahjongTileType.D2,
+            MahjongTileType.D3,
+            MahjongTileType.D3,
+            MahjongTileType.D3,
+            MahjongTileType.D4,
+            MahjongTileType.D5,
+            MahjongTileType.D6,
+            MahjongTileType.D9,
+            MahjongTileType.D9);
+    then(exposedMeldsCaptor.getValue())
+        .extracting(ExposedMelds::getChows, ExposedMelds::getPongs, ExposedMelds::getKongs)
+        .containsExactly(List.of(), List.of(), List.of());
+  }
+
+  @Test
+  @SneakyThrows
+  void testDeduceWinningHandWithExposedTiles() {
+    var fakeWinningHand = new WinningHand(List.of(WinningHandType.ALL_ONE_SUIT));
+    given(
+            scoreCalculator.calculate(
+                tilesCaptor.capture(),
+                exposedMeldsCaptor.capture(),
+                winningHandCaptor.capture(),
+                windSettingsCaptor.capture(),
+                winningConditionsArgumentCaptor.capture(),
+                any(RuleSet.class)))
+        .willReturn(fakeWinningHand);
+
+    var request =
+        WinningHandRequest.builder()
+            .handTiles(List.of(MahjongTileType.D9, MahjongTileType.D9))
+            .exposedMelds(
+                new ExposedMelds(
+                    List.of(MahjongTileType.D1, MahjongTileType.D3),
+                    List.of(MahjongTileType.D5, MahjongTileType.D6),
+                    List.of()))
+            .build();
+    final var response =
+        mockMvc
+            .perform(
+                post("/api/v1/mahjong/faans")
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andDo(print())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    final var winningHandResponse = objectMapper.readValue(response, WinningHandResponse.class);
+
+    var expectedWinningResponse =
+        WinningHandResponse.builder()
+            .data(
+                BreakDown.builder()
+                    .totalFaans(7)
+                    .winningHands(
+                        List.of(
+                            WinningHandDescription.builder()
+                                .type(WinningHandType.ALL_ONE_SUIT)
+                                .name("All One Suit")
+                                .faans(7)
+                                .build()))
+                    .build())
+            .build();
+
+    then(winningHandResponse).usingRecursiveComparison().isEqualTo(expectedWinningResponse);
+    then(tilesCaptor.getValue()).containsExactly(MahjongTileType.D9, MahjongTileType.D9);
+    then(exposedMeldsCaptor.getValue())
+        .extracting(ExposedMelds::getChows, ExposedMelds::getPongs, ExposedMelds::getKongs)
+        .containsExactly(
+            List.of(MahjongTileType.D1, MahjongTileType.D3),
+            List.of(MahjongTileType.D5, MahjongTileType.D6),
+            List.of());
+  }
+
+  @Test
+  @SneakyThrows
+  void testDeduceWinningHands() {
+    var commonHandTiles = List.of(MahjongTileType.D1, MahjongTileType.D2, MahjongTileType.D3);
+    var failingHandTiles = List.of(MahjongTileType.B1);
+    given(
+            scoreCalculator.calculate(
+                eq(commonHandTiles),
+                any(ExposedMelds.class),
+                any(),
+                any(),
+                any(WinningConditions.class),
+                any(RuleSet.class)))
+        .willReturn(new WinningHand(List.of(WinningHandType.COMMON_HAND)));
+    given(
+            scoreCalculator.calculate(
+                eq(failingHandTiles),
+                any(ExposedMelds.class),
+                any(),
+                any(),
+                any(WinningConditions.class),
+                any(RuleSet.class)))
+        .willThrow(new IllegalStateException("Unexpected scoring failure"));
+
+    var request =
+        WinningHandBatchRequest.builder()
+            .items(
+                List.of(
+                    new WinningHandBatchRequest.Item(
+                        "table-1", WinningHandRequest.builder().handTiles(commonHandTiles).build()),
+                    new WinningHandBatchRequest.Item(
+                        "table-2",
+                        WinningHandRequest.builder().handTiles(failingHandTiles).build()),
+                    new WinningHandBatchRequest.Item("table-3", null)))
+            .build();
+    final var response =
+        mockMvc
+            .perform(
+                post("/api/v1/mahjong/faans:batch")
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andDo(print())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    JSONAssert.assertEquals(
+        """
+        {
+          "data": [
+            {
+              "id": "table-1",
+              "data": {
+                "totalFaans": 1,
+                "winningHands": [
+                  {
+                    "type": "COMMON_HAND",
+                    "name": "Common Hand",
+                    "faans": 1,
+                    "limitHand": false
+                  }
+                ]
+              }
+            },
+            {
+              "id": "table-2",
+              "error": {
+                "code": "500",
+                "message": "Unable to score hand",
+                "errors": []
+              }
+            },
+            {
+              "id": "table-3",
+              "error": {
+                "code": "400",
+                "message": "Unable to score hand",
+                "errors": [
+                  {
+                    "reason": "InvalidRequestException",
+                    "message": "Missing request"
+                  }
+                ]
+              }
+            }
+          ]
+        }""",
+        response,
+        true);
+  }
+
+  @Test
+  @SneakyThrows
+  void testDeduceWinningHandsExceedingBatchSize() {
+    var item =
+        new WinningHandBatchRequest.Item(
+            "table", WinningHandRequest.builder().handTiles(List.of()).build());
+    var request =
+        WinningHandBatchRequest.builder().items(Collections.nCopies(1001, item)).build();
+
+    mockMvc
+        .perform(
+            post("/api/v1/mahjong/faans:batch")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(
+            content()
+                .json(
+                    """
+                    {
+                      "error": {
+                        "code": "400",
+                        "message": "Batch size 1001 exceeds the limit of 1000",
+                        "errors": []
+                      }
+                    }"""));
+  }
+
+  @Test
+  @SneakyThrows
+  void testDeduceWinningHandWithRuleSet() {
+    given(
+            scoreCalculator.calculate(
+                any(),
+                any(),
+                any(),
+                any(),
+                any(),
+                argThat((RuleSet ruleSet) -> ruleSet.getName().equals("house"))))
+        .willReturn(
+            new WinningHand(
+                List.of(
+                    WinningHandType.COMMON_HAND,
+                    WinningHandType.ALL_ONE_SUIT,
+                    WinningHandType.WIN_FROM_WALL,
+                    WinningHandType.NO_FLOWERS,
+                    WinningHandType.SELF_PICK)));
+    var request =
+        WinningHandRequest.builder()
+            .handTiles(List.of(MahjongTileType.D1))
+            .ruleSet("house")
+            .build();
+
+    mockMvc
+        .perform(
+            post("/api/v1/mahjong/faans")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(
+            content()
+                .json(
+                    """
+                    {
+                      "data": {
+                        "totalFaans": 8,
+                        "winningHands": [
+                          {"type": "COMMON_HAND", "faans": 1},
+                          {"type": "ALL_ONE_SUIT", "faans": 6},
+                          {"type": "NO_FLOWERS", "faans": 0},
+                          {"type": "SELF_PICK", "faans": 1}
+                        ]
+                      }
+                    }"""));
+  }
+
+  @Test
+  void testWinningHandResponseWrittenFromFragments() {
+    then(httpMessageConverters.getConverters())
+        .filteredOn(
+            converter ->
+                converter.canWrite(WinningHandResponse.class, MediaType.APPLICATION_JSON))
+        .first()
+        .isInstanceOf(WinningHandResponseMessageConverter.class);
+  }
+
+  @Test
+  @SneakyThrows
+  void testDeduceWinningHandInCbor() {
+    given(scoreCalculator.calculate(any(), any(), any(), any(), any(), any()))
+        .willReturn(new WinningHand(List.of(WinningHandType.COMMON_HAND)));
+    var cborMapper = new CBORMapper();
+    var request = WinningHandRequest.builder().handTiles(List.of(MahjongTileType.D1)).build();
+
+    var response =
+        mockMvc
+            .perform(
+                post("/api/v1/mahjong/faans")
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_CBOR)
+                    .accept(MediaType.APPLICATION_CBOR)
+                    .content(cborMapper.writeValueAsBytes(request)))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    then(cborMapper.readValue(response, WinningHandResponse.class))
+        .usingRecursiveComparison()
+        .ignoringFields("data.ruleSet")
+        .isEqualTo(WinningHandResponse.of(WinningHand.of(WinningHandType.COMMON_HAND)));
+  }
+
+  @Test
+  @SneakyThrows
+  void testDeduceWinningHandInCompactFormat() {
+    given(
+            scoreCalculator.calculate(
+                tilesCaptor.capture(),
+                exposedMeldsCaptor.capture(),
+                winningHandCaptor.capture(),
+                windSettingsCaptor.capture(),
+                winningConditionsArgumentCaptor.capture(),
+                any(RuleSet.class)))
+        .willReturn(
+            new WinningHand(
+                List.of(
+                    WinningHandType.COMMON_HAND,
+                    WinningHandType.ONE_DRAGON,
+                    WinningHandType.ONE_DRAGON)));
+    // Hand of D1, D2, D3, RED, RED with a pong of EAST, F1, winds EAST/SOUTH, self pick
+    var request =
+        new byte[] {
+          5, 25, 26, 27, 4, 4, 0, 1, 0, 0, 1, 34, 0, 1, 0b1, 5, 'h', 'o', 'u', 's', 'e'
+        };
+
+    var response =
+        mockMvc
+            .perform(
+                post("/api/v1/mahjong/faans")
+                    .with(csrf())
+                    .contentType(CompactWinningHandMessageConverter.MEDIA_TYPE)
+                    .accept(CompactWinningHandMessageConverter.MEDIA_TYPE)
+                    .content(request))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(CompactWinningHandMessageConverter.MEDIA_TYPE))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    var buffer = ByteBuffer.wrap(response);
+    then(buffer.getLong())
+        .isEqualTo(
+            1L << WinningHandType.COMMON_HAND.ordinal()
+                | 1L << WinningHandType.ONE_DRAGON.ordinal());
+    then(buffer.get()).as("One Dragon count").isEqualTo((byte) 2);
+    then(buffer.get()).as("Flower of Own Wind count").isZero();
+    then(buffer.getShort()).as("Total faans").isEqualTo((short) 3);
+    then(buffer.hasRemaining()).isFalse();
+    then(tilesCaptor.getValue())
+        .containsExactly(
+            MahjongTileType.D1,
+            MahjongTileType.D2,
+            MahjongTileType.D3,
+            MahjongTileType.RED,
+            MahjongTileType.RED);
+    then(exposedMeldsCaptor.getValue())
+        .isEqualTo(new ExposedMelds(List.of(), List.of(MahjongTileType.EAST), List.of()));
+    then(winningHandCaptor.getValue()).containsExactly(MahjongTileType.F1);
+    then(windSettingsCaptor.getValue())
+        .isEqualTo(new WindType(MahjongTileType.EAST, MahjongTileType.SOUTH));
+    then(winningConditionsArgumentCaptor.getValue())
+        .isEqualTo(new WinningConditions(true, false, false, false, false));
+  }
+
+  @Test
+  @SneakyThrows
+  void testDeduceWinningHandInCompactFormatWithUnknownRuleSet() {
+    mockMvc
+        .perform(
+            post("/api/v1/mahjong/faans")
+                .with(csrf())
+                .contentType(CompactWinningHandMessageConverter.MEDIA_TYPE)
+                .accept(CompactWinningHandMessageConverter.MEDIA_TYPE)
+                .content(new byte[] {0, 0, 0, 0, 0, 0, 1, 0, 4, 'n', 'o', 'p', 'e'}))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json("{\"error\": {\"message\": \"Unknown rule set nope\"}}"));
+  }
+
+  @Test
+  @SneakyThrows
+  void testDeduceWinningHandWithUnknownRuleSet() {
+    var request =
+        WinningHandRequest.builder().handTiles(List.of(MahjongTileType.D1)).ruleSet("nope").build();
+
+    mockMvc
+        .perform(
+            post("/api/v1/mahjong/faans")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(
+            content()
+                .json(
+                    """
+                    {
+                      "error": {
+                        "code": "400",
+                        "message": "Unknown rule set nope",
+                        "errors": []
+                      }
+                    }"""));
+  }
+
+  @Test
+  @SneakyThrows
+  void testDeduceWinningHandWithTooManyCopiesOfATile() {
+    var request =
+        WinningHandRequest.builder().handTiles(Collections.nCopies(8, MahjongTileType.D1)).build();
+
+    mockMvc
+        .perform(
+            post("/api/v1/mahjong/faans")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(
+            content()
+                .json(
+                    """
+                    {
+                      "error": {
+                        "code": "400",
+                        "message": "Too many D1 tiles in hand",
+                        "errors": []
+                      }
+                    }"""));
+  }
+
+  @Test
+  @SneakyThrows
+  void testDeduceWinningHandStream() {
+    var commonHandTiles = List.of(MahjongTileType.D1, MahjongTileType.D2, MahjongTileType.D3);
+    var failingHandTiles = List.of(MahjongTileType.B1);
+    given(
+            scoreCalculator.calculate(
+                eq(commonHandTiles),
+                any(ExposedMelds.class),
+                any(),
+                any(),
+                any(WinningConditions.class),
+                any(RuleSet.class)))
+        .willReturn(new WinningHand(List.of(WinningHandType.COMMON_HAND)));
+    given(
+            scoreCalculator.calculate(
+                eq(failingHandTiles),
+                any(ExposedMelds.class),
+                any(),
+                any(),
+                any(WinningConditions.class),
+                any(RuleSet.class)))
+        .willThrow(new IllegalStateException("Unexpected scoring failure"));
+
+    var request =
+        """
+        {"handTiles":["D1","D2","D3"]}
+
+        {"handTiles":["B1"]}
+        {"handTiles":
+        {"handTiles":["D1","D2","D3"]}
+        """;
+    final var response =
+        mockMvc
+            .perform(
+                post("/api/v1/mahjong/faans:stream")
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .accept(MediaType.APPLICATION_NDJSON)
+                    .content(request))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andDo(print())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    var lines = response.split("\n");
+    then(lines).hasSize(4);
+    var commonHandResponse =
+        """
+        {
+          "data": {
+            "totalFaans": 1,
+            "winningHands": [
+              {
+                "type": "COMMON_HAND",
+                "name": "Common Hand",
+                "faans": 1,
+                "limitHand": false
+              }
+            ]
+          }
+        }""";
+    JSONAssert.assertEquals(commonHandResponse, lines[0], true);
+    JSONAssert.assertEquals(
+        """
+        {
+          "error": {
+            "code": "500",
+            "message": "Unable to score hand",
+            "errors": []
+          }
+        }""",
+        lines[1],
+        true);
+    JSONAssert.assertEquals(
+        """
+        {
+          "error": {
+            "code": "400",
+            "message": "Unable to score hand",
+            "errors": [
+              {
+                "reason": "JsonEOFException"
+              }
+            ]
+          }
+        }""",
+        lines[2],
+        false);
+    JSONAssert.assertEquals(commonHandResponse, lines[3], true);
+  }
+
+  @Test
+  @SneakyThrows
+  void testDeduceWaits() {
+    var handTiles =
+        List.of(MahjongTileType.D1, MahjongTileType.D1, MahjongTileType.D3, MahjongTileType.D4);
+    var exposedMelds =
+        new ExposedMelds(
+            List.of(MahjongTileType.C1),
+            List.of(MahjongTileType.RED),
+            List.of(MahjongTileType.B9));
+    given(
+            waitCalculator.calculate(
+                eq(handTiles),
+                eq(exposedMelds),
+                any(),
+                any(),
+                any(WinningConditions.class),
+                any(RuleSet.class)))
+        .willReturn(
+            List.of(
+                new Wait(MahjongTileType.D2, new WinningHand(List.of(WinningHandType.ONE_DRAGON))),
+                new Wait(
+                    MahjongTileType.D5, new WinningHand(List.of(WinningHandType.ONE_DRAGON)))));
+
+    var request =
+        WaitingHandRequest.builder().handTiles(handTiles).exposedMelds(exposedMelds).build();
+    final var response =
+        mockMvc
+            .perform(
+                post("/api/v1/mahjong/waits")
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andDo(print())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    var breakDown =
+        """
+        {
+          "totalFaans": 1,
+          "winningHands": [
+            {
+              "type": "ONE_DRAGON",
+              "name": "A Meld of Dragon",
+              "faans": 1,
+              "limitHand": false
+            }
+          ]
+        }""";
+    JSONAssert.assertEquals(
+        """
+        {
+          "data": [
+            {"tile": "D2", "data": %s},
+            {"tile": "D5", "data": %s}
+          ]
+        }"""
+            .formatted(breakDown, breakDown),
+        response,
+        true);
+  }
+
+  @Test
+  @SneakyThrows
+  void testDeduceWaitsWithWrongTileCount() {
+    var request =
+        WaitingHandRequest.builder()
+            .handTiles(Collections.nCopies(3, MahjongTileType.D1))
+            .exposedMelds(
+                new ExposedMelds(
+                    List.of(), List.of(MahjongTileType.RED), List.of(MahjongTileType.B9)))
+            .build();
+    mockMvc
+        .perform(
+            post("/api/v1/mahjong/waits")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(
+            content()
+                .json(
+                    """
+                    {
+                      "error": {
+                        "code": "400",
+                        "message": "Waiting hand must have 13 tiles but has 9",
+                        "errors": []
+                      }
+                    }"""));
+  }
+
+  @Test
+  @SneakyThrows
+  void testDeduceDiscards() {
+    var handTiles =
+        List.of(
+            MahjongTileType.B1,
+            MahjongTileType.B1,
+            MahjongTileType.B1,
+            MahjongTileType.B2,
+            MahjongTileType.B9);
+    var exposedMelds =
+        new ExposedMelds(
+            List.of(MahjongTileType.B1),
+            List.of(MahjongTileType.RED, MahjongTileType.GREEN),
+            List.of());
+    var visibleTiles = List.of(MahjongTileType.B3);
+    given(discardCalculator.calculate(handTiles, exposedMelds, visibleTiles))
+        .willReturn(
+            List.of(
+                new Discard(
+                    MahjongTileType.B9,
+                    0,
+                    List.of(
+                        new ImprovingTile(MahjongTileType.B2, 2),
+                        new ImprovingTile(MahjongTileType.B3, 2))),
+                new Discard(MahjongTileType.B2, 1, List.of())));
+
+    var request =
+        DiscardingHandRequest.builder()
+            .handTiles(handTiles)
+            .exposedMelds(exposedMelds)
+            .visibleTiles(visibleTiles)
+            .build();
+    final var response =
+        mockMvc
+            .perform(
+                post("/api/v1/mahjong/discards")
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andDo(print())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    JSONAssert.assertEquals(
+        """
+        {
+          "data": [
+            {
+              "tile": "B9",
+              "shanten": 0,
+              "liveTiles": 4,
+              "improvingTiles": [
+                {"tile": "B2", "liveTiles": 2},
+                {"tile": "B3", "liveTiles": 2}
+              ]
+            },
+            {
+              "tile": "B2",
+              "shanten": 1,
+              "liveTiles": 0,
+              "improvingTiles": []
+            }
+          ]
+        }""",
+        response,
+        true);
+  }
+
+  @Test
+  @SneakyThrows
+  void testDeduceDiscardsWithWrongTileCount() {
+    var request =
+        DiscardingHandRequest.builder()
+            .handTiles(Collections.nCopies(13, MahjongTileType.D1))
+            .build();
+    mockMvc
+        .perform(
+            post("/api/v1/mahjong/discards")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(
+            content()
+                .json(
+                    """
+                    {
+                      "error": {
+                        "code": "400",
+                        "message": "Discarding hand must have 14 tiles but has 13",
+                        "errors": []
+                      }
+                    }"""));
+  }
+
+  @Test
+  @SneakyThrows
+  void testDeduceDiscardsWithTooManyCopiesOfATile() {
+    var handTiles = new ArrayList<>(Collections.nCopies(5, MahjongTileType.D1));
+    handTiles.addAll(Collections.nCopies(3, MahjongTileType.D2));
+    handTiles.addAll(Collections.nCopies(3, MahjongTileType.D3));
+    handTiles.addAll(Collections.nCopies(3, MahjongTileType.D4));
+    var request = DiscardingHandRequest.builder().handTiles(handTiles).build();
+    mockMvc
+        .perform(
+            post("/api/v1/mahjong/discards")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(
+            content()
+                .json(
+                    """
+                    {
+                      "error": {
+                        "code": "400",
+                        "message": "Too many D1 tiles in hand",
+                        "errors": []
+                      }
+                    }"""));
+  }
+}
@@ -0,0 +1,98 @@
+package com.oscarhkli.mahjong.score.api;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oscarhkli.mahjong.score.RuleSet;
+import com.oscarhkli.mahjong.score.RuleSetProperties;
+import com.oscarhkli.mahjong.score.RuleSetProperties.Definition;
+import com.oscarhkli.mahjong.score.RuleSets;
+import com.oscarhkli.mahjong.score.ScoringMetrics;
+import com.oscarhkli.mahjong.score.WinningHand;
+import com.oscarhkli.mahjong.score.WinningHandType;
+import java.util.Map;
+import java.util.stream.Stream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+class WinningHandResponseMessageConverterTest {
+
+  private static final RuleSets RULE_SETS =
+      new RuleSets(
+          new RuleSetProperties(
+              Map.of(
+                  "house",
+                  new Definition(10, Map.of(WinningHandType.ONE_DRAGON, 2), Map.of()))));
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final WinningHandResponseMessageConverter converter =
+      new WinningHandResponseMessageConverter(
+          objectMapper,
+          new StaticListableBeanFactory(Map.of("ruleSets", RULE_SETS))
+              .getBeanProvider(RuleSets.class),
+          new StaticListableBeanFactory().getBeanProvider(ScoringMetrics.class));
+
+  @ParameterizedTest
+  @MethodSource
+  @SneakyThrows
+  void writeAsJackson(WinningHandResponse response) {
+    var outputMessage = new MockHttpOutputMessage();
+
+    converter.write(response, MediaType.APPLICATION_JSON, outputMessage);
+
+    then(outputMessage.getBodyAsString()).isEqualTo(objectMapper.writeValueAsString(response));
+    then(outputMessage.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+  }
+
+  private static Stream<WinningHandResponse> writeAsJackson() {
+    var house = RULE_SETS.find("house").orElseThrow();
+    var unknown =
+        RuleSet.compile(1, "unknown", Map.of(WinningHandType.SELF_PICK, 3), 5, Map.of());
+    var winningHand =
+        WinningHand.of(
+            WinningHandType.ALL_IN_TRIPLETS,
+            WinningHandType.ONE_DRAGON,
+            WinningHandType.ONE_DRAGON,
+            WinningHandType.SELF_PICK);
+    return Stream.of(
+        WinningHandResponse.of(WinningHand.EMPTY),
+        WinningHandResponse.of(winningHand),
+        WinningHandResponse.of(winningHand, house),
+        WinningHandResponse.of(winningHand, unknown),
+        WinningHandResponse.builder().build(),
+        WinningHandResponse.builder()
+            .data(WinningHandResponse.BreakDown.builder().totalFaans(1).build())
+            .build());
+  }
+
+  @Test
+  @SneakyThrows
+  void precomputesFragmentsOfConfiguredRuleSets() {
+    var house = RULE_SETS.find("house").orElseThrow();
+    var description =
+        WinningHandResponse.WinningHandDescription.of(WinningHandType.ONE_DRAGON, house);
+
+    var fragments =
+        WinningHandResponse.WinningHandDescription.fragments(
+            house,
+            unused -> {
+              throw new AssertionError("Fragments of house are serialized on start-up");
+            });
+    then(fragments[WinningHandType.ONE_DRAGON.ordinal()])
+        .isEqualTo(objectMapper.writeValueAsBytes(description));
+    then(WinningHandResponse.WinningHandDescription.of(WinningHandType.ONE_DRAGON, house))
+        .isSameAs(description);
+  }
+
+  @Test
+  void canOnlyWriteWinningHandResponse() {
+    then(converter.canWrite(WinningHandResponse.class, MediaType.APPLICATION_JSON)).isTrue();
+    then(converter.canWrite(WinningHandBatchResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+    then(converter.canRead(WinningHandResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+  }
+}
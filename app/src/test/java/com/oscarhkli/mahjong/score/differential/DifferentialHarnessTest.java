@@ -0,0 +1,99 @@
+package com.oscarhkli.mahjong.score.differential;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.oscarhkli.mahjong.score.BonusWinningConditionCalculator;
+import com.oscarhkli.mahjong.score.HandStructureCalculator;
+import com.oscarhkli.mahjong.score.MahjongTileType;
+import com.oscarhkli.mahjong.score.MeldsFactory;
+import com.oscarhkli.mahjong.score.ScoreCalculator;
+import com.oscarhkli.mahjong.score.ScoringEngine;
+import com.oscarhkli.mahjong.score.WindType;
+import com.oscarhkli.mahjong.score.WinningConditionCalculator;
+import com.oscarhkli.mahjong.score.WinningConditions;
+import com.oscarhkli.mahjong.score.WinningHand;
+import com.oscarhkli.mahjong.score.WinningHandType;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class DifferentialHarnessTest {
+
+  ScoreCalculator reference =
+      new ScoreCalculator(
+          new HandStructureCalculator(new MeldsFactory()),
+          new BonusWinningConditionCalculator(),
+          new WinningConditionCalculator());
+
+  /** Forgets the faan of Self Pick */
+  ScoringEngine faultyCandidate =
+      (tiles, exposedMelds, bonusTiles, windSettings, winningConditions) -> {
+        var winningHand =
+            reference.calculate(tiles, exposedMelds, bonusTiles, windSettings, winningConditions);
+        return new WinningHand(
+            winningHand.getWinningHandTypes().stream()
+                .filter(winningHandType -> winningHandType != WinningHandType.SELF_PICK)
+                .toList());
+      };
+
+  @Test
+  void generatedCasesRespectTileLimits() {
+    var generator = new ScoringCaseGenerator(new SplittableRandom(1));
+    for (var i = 0; i < 10000; i++) {
+      var scoringCase = generator.next();
+      var counts = new int[MahjongTileType.values().length];
+      scoringCase.tiles().forEach(tile -> counts[tile.getIndex()]++);
+      scoringCase.bonusTiles().forEach(tile -> counts[tile.getIndex()]++);
+      var exposedMelds = scoringCase.exposedMelds();
+      for (var tile : MahjongTileType.values()) {
+        counts[tile.getIndex()] += exposedMelds.count(tile);
+      }
+
+      then(Arrays.stream(counts).max().orElseThrow()).isLessThanOrEqualTo(4);
+      then(scoringCase.tiles().size() + 3 * exposedMelds.size()).isEqualTo(14);
+    }
+  }
+
+  @Test
+  void runWithAgreeingEngines() {
+    var candidate =
+        new ScoreCalculator(
+            new HandStructureCalculator(new MeldsFactory()),
+            new BonusWinningConditionCalculator(),
+            new WinningConditionCalculator());
+
+    var report = new DifferentialHarness(reference, candidate, 2).run(20000, 42);
+
+    then(report.cases()).isEqualTo(20000);
+    then(report.hasMismatches()).isFalse();
+    then(report.examples()).isEmpty();
+    then(report.casesPerSecond()).isPositive();
+  }
+
+  @Test
+  void runReportsMinimizedMismatches() {
+    var report = new DifferentialHarness(reference, faultyCandidate, 2).run(5000, 7);
+
+    then(report.mismatches()).isPositive();
+    then(report.examples()).hasSize(DifferentialTally.MAX_EXAMPLES);
+    then(report.examples())
+        .allSatisfy(
+            mismatch -> {
+              var minimizedCase = mismatch.minimizedCase();
+              then(mismatch.scoringCase().winningConditions().isSelfPick()).isTrue();
+              then(minimizedCase.bonusTiles()).isEmpty();
+              then(minimizedCase.windSettings())
+                  .isEqualTo(new WindType(MahjongTileType.EAST, MahjongTileType.EAST));
+              then(minimizedCase.winningConditions())
+                  .isEqualTo(new WinningConditions(true, false, false, false, false));
+              then(minimizedCase.exposedMelds().getChows()).isEmpty();
+              then(minimizedCase.exposedMelds().getPongs()).isEmpty();
+              then(mismatch.expected()).contains("SELF_PICK");
+              then(mismatch.actual()).doesNotContain("SELF_PICK");
+            });
+    then(new DifferentialHarness(reference, faultyCandidate, 1).run(5000, 7))
+        .usingRecursiveComparison()
+        .ignoringFields("elapsed")
+        .isEqualTo(report);
+  }
+}
@@ -0,0 +1,80 @@
+package com.oscarhkli.mahjong.score.enumeration;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.oscarhkli.mahjong.score.BonusWinningConditionCalculator;
+import com.oscarhkli.mahjong.score.ExposedMelds;
+import com.oscarhkli.mahjong.score.MahjongSetType;
+import com.oscarhkli.mahjong.score.MahjongTileType;
+import com.oscarhkli.mahjong.score.MeldsFactory;
+import com.oscarhkli.mahjong.score.ScoreCalculator;
+import com.oscarhkli.mahjong.score.WindType;
+import com.oscarhkli.mahjong.score.WinningConditionCalculator;
+import com.oscarhkli.mahjong.score.WinningConditions;
+import com.oscarhkli.mahjong.score.WinningHand;
+import com.oscarhkli.mahjong.score.WinningHandType;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+class FaanFrequencyTableGeneratorTest {
+
+  /** Scores only whether the hand is of a single suit, to check the enumeration cheaply */
+  ScoreCalculator scoreCalculator =
+      new ScoreCalculator(null, null, null) {
+        @Override
+        public WinningHand calculate(
+            List<MahjongTileType> tiles,
+            ExposedMelds exposedMelds,
+            List<MahjongTileType> bonusTiles,
+            WindType windSettings,
+            WinningConditions winningConditions) {
+          return new WinningHand(
+              SUITS.stream().anyMatch(suit -> tiles.stream().allMatch(tile -> isOf(suit, tile)))
+                  ? List.of(WinningHandType.ALL_ONE_SUIT)
+                  : List.of(WinningHandType.CHICKEN_HAND));
+        }
+      };
+
+  static final List<MahjongSetType> SUITS =
+      List.of(MahjongSetType.CHARACTER, MahjongSetType.BAMBOO, MahjongSetType.DOT);
+
+  /**
+   * The snapshot pins the faans of the current engine over all 11.5M hands, so this only runs with
+   * the exhaustive Maven profile. Regenerate it with the enumeration profile only when the scoring
+   * rules change on purpose.
+   */
+  @Tag("exhaustive")
+  @Test
+  void generateMatchesSnapshot() throws IOException {
+    var generator =
+        new FaanFrequencyTableGenerator(
+            new MeldsFactory(),
+            new BonusWinningConditionCalculator(),
+            new WinningConditionCalculator(),
+            0);
+    FaanFrequencyTable snapshot;
+    try (var inputStream = getClass().getResourceAsStream("/enumeration/faan-frequencies.bin")) {
+      snapshot = FaanFrequencyTable.read(inputStream);
+    }
+
+    then(generator.generate()).isEqualTo(snapshot);
+  }
+
+  @Test
+  void generate() {
+    var table = new FaanFrequencyTableGenerator(scoreCalculator, 2).generate();
+
+    then(table.hands()).isEqualTo(11_498_658L + 13);
+    then(table.hands(0) + table.hands(7)).isEqualTo(table.hands());
+    then(table.hands(WinningHandType.ALL_ONE_SUIT, 7)).isPositive();
+    then(table.hands(WinningHandType.ALL_ONE_SUIT, 7) % SUITS.size()).isZero();
+    then(table.combinations()).isEqualTo(table.combinations(0) + table.combinations(7));
+  }
+
+  private static boolean isOf(MahjongSetType mahjongSetType, MahjongTileType tile) {
+    return tile.getIndex() >= mahjongSetType.getStartingTile().getIndex()
+        && tile.getIndex() <= mahjongSetType.getEndingTile().getIndex();
+  }
+}
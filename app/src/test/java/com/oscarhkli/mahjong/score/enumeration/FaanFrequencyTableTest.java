@@ -0,0 +1,63 @@
+package com.oscarhkli.mahjong.score.enumeration;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import com.oscarhkli.mahjong.score.WinningHand;
+import com.oscarhkli.mahjong.score.WinningHandType;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FaanFrequencyTableTest {
+
+  @Test
+  void addAndMerge() {
+    var table = new FaanFrequencyTable();
+    table.add(
+        new WinningHand(List.of(WinningHandType.COMMON_HAND, WinningHandType.NO_FLOWERS)), 6, 24);
+    var other = new FaanFrequencyTable();
+    other.add(new WinningHand(List.of(WinningHandType.THIRTEEN_ORPHANS)), 1, 6);
+    other.add(new WinningHand(List.of(WinningHandType.TRICK_HAND)), 3, 2);
+
+    table.merge(other);
+
+    then(table.hands()).isEqualTo(10);
+    then(table.combinations()).isEqualTo(32);
+    then(table.hands(2)).isEqualTo(6);
+    then(table.hands(13)).isEqualTo(1);
+    then(table.hands(-1)).isEqualTo(3);
+    then(table.hands(WinningHandType.NO_FLOWERS, 2)).isEqualTo(6);
+    then(table.hands(WinningHandType.NO_FLOWERS, 13)).isZero();
+    then(table.combinations(WinningHandType.THIRTEEN_ORPHANS, 13)).isEqualTo(6);
+    then(table.probability(2)).isEqualTo(0.75);
+    then(table.probability(WinningHandType.TRICK_HAND, -1)).isEqualTo(0.0625);
+  }
+
+  @Test
+  void writeAndRead() throws IOException {
+    var table = new FaanFrequencyTable();
+    table.add(
+        new WinningHand(List.of(WinningHandType.ALL_IN_TRIPLETS, WinningHandType.NO_FLOWERS)),
+        3,
+        4096);
+    table.add(new WinningHand(List.of(WinningHandType.NINE_GATES)), 6, 1 << 20);
+    var outputStream = new ByteArrayOutputStream();
+
+    table.write(outputStream);
+    var readTable = FaanFrequencyTable.read(new ByteArrayInputStream(outputStream.toByteArray()));
+
+    then(readTable).isEqualTo(table);
+    then(readTable.hands(WinningHandType.NINE_GATES, 10)).isEqualTo(6);
+  }
+
+  @Test
+  void readRejectsOtherStreams() {
+    thenThrownBy(
+            () -> FaanFrequencyTable.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4})))
+        .isInstanceOf(IOException.class)
+        .hasMessage("Not a faan frequency table");
+  }
+}
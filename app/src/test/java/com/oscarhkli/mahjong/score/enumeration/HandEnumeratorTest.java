@@ -0,0 +1,84 @@
+package com.oscarhkli.mahjong.score.enumeration;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.oscarhkli.mahjong.score.ExposedMelds;
+import com.oscarhkli.mahjong.score.HandVector;
+import com.oscarhkli.mahjong.score.MahjongSetType;
+import com.oscarhkli.mahjong.score.MahjongTileType;
+import com.oscarhkli.mahjong.score.MeldsFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class HandEnumeratorTest {
+
+  MeldsFactory meldsFactory = new MeldsFactory();
+
+  @ParameterizedTest
+  @EnumSource(
+      value = MahjongSetType.class,
+      names = {"WIND", "DRAGON", "DOT"})
+  void shapesMatchMeldsFactory(MahjongSetType mahjongSetType) {
+    var shapes = new HashSet<List<Integer>>();
+    for (var shape : HandEnumerator.shapes(mahjongSetType)) {
+      var total = Arrays.stream(shape.tileCounts()).sum();
+      then(total).isEqualTo(shape.melds() * 3 + shape.eyes() * 2);
+      if (total > 0) {
+        shapes.add(Arrays.stream(shape.tileCounts()).boxed().toList());
+      }
+    }
+
+    var partitionable = new HashSet<List<Integer>>();
+    var size = mahjongSetType.getSize();
+    var tileCounts = new int[size];
+    for (var key = 1; key < Math.pow(5, size); key++) {
+      var total = 0;
+      for (int i = 0, digits = key; i < size; i++, digits /= 5) {
+        tileCounts[i] = digits % 5;
+        total += tileCounts[i];
+      }
+      if (total > 14 || total % 3 == 1) {
+        continue;
+      }
+      var tiles = new ArrayList<MahjongTileType>();
+      for (var i = 0; i < size; i++) {
+        for (var j = 0; j < tileCounts[i]; j++) {
+          tiles.add(
+              MahjongTileType.valueOfIndex(mahjongSetType.getStartingTile().getIndex() + i));
+        }
+      }
+      if (!meldsFactory
+          .partition(mahjongSetType, HandVector.of(tiles), new ExposedMelds())
+          .isEmpty()) {
+        partitionable.add(Arrays.stream(tileCounts).boxed().toList());
+      }
+    }
+
+    then(shapes).isEqualTo(partitionable);
+  }
+
+  /** 11,498,658 hands of 4 melds and an eye plus the 13 Thirteen Orphans */
+  @Test
+  void enumerateVisitsEveryCompleteHandOnce() {
+    var handEnumerator = new HandEnumerator();
+    var hands = new long[1];
+    var combinations = new long[1];
+    HandEnumerator.HandVisitor visitor =
+        (tileCounts, handCount, combinationCount) -> {
+          then(Arrays.stream(tileCounts).sum()).isEqualTo(14);
+          hands[0] += handCount;
+          combinations[0] += combinationCount;
+        };
+
+    handEnumerator.enumerate(0, handEnumerator.prefixes(), visitor);
+    handEnumerator.enumerateThirteenOrphans(visitor);
+
+    then(hands[0]).isEqualTo(11_498_658L + 13);
+    then(combinations[0]).isPositive();
+  }
+}
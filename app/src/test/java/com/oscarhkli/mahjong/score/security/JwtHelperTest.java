@@ -3,10 +3,12 @@ package com.oscarhkli.mahjong.score.security;
 import static org.assertj.core.api.BDDAssertions.catchThrowableOfType;
 import static org.assertj.core.api.BDDAssertions.then;
 
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.security.SignatureException;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 @SpringBootTest
@@ -47,4 +49,26 @@ class JwtHelperTest {
             SignatureException.class, () -> jwtHelper.validateToken(invalidToken, "DUMMY_SUBJECT"));
     then(thrown).as("Invalid token should not be valid").isNotNull();
   }
+
+  @Test
+  void testVerifiedTokenIsCached() {
+    var token = jwtHelper.generateToken("test-user", List.of("test-role"));
+
+    var verifiedToken = jwtHelper.verify(token);
+
+    then(verifiedToken.subject()).isEqualTo("test-user");
+    then(verifiedToken.authorities()).containsExactly(new SimpleGrantedAuthority("test-role"));
+    then(jwtHelper.verify(token)).as("Token should only be parsed once").isSameAs(verifiedToken);
+  }
+
+  @Test
+  void testExpiredToken() {
+    var expiringJwtHelper =
+        new JwtHelper("4XEyhMzVuxl2qoa/NgegH8COO2J9qouOdnY2ZcZ77I0=", -1, -1, 10);
+    var token = expiringJwtHelper.generateToken("test-user", List.of("test-role"));
+
+    var thrown =
+        catchThrowableOfType(ExpiredJwtException.class, () -> expiringJwtHelper.verify(token));
+    then(thrown).as("Expired token should not be valid").isNotNull();
+  }
 }
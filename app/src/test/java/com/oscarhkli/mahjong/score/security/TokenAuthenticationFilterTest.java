@@ -4,7 +4,12 @@ import static org.assertj.core.api.BDDAssertions.then;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
+import com.oscarhkli.mahjong.score.security.JwtHelper.VerifiedToken;
+import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Date;
+import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,8 +38,8 @@ class TokenAuthenticationFilterTest {
     var token = "valid.jwt.token";
     var username = "MSC_USER";
 
-    given(jwtHelper.validateToken(token, username)).willReturn(true);
-    given(jwtHelper.extractSubject(token)).willReturn(username);
+    given(jwtHelper.verify(token))
+        .willReturn(new VerifiedToken(username, List.of(), List.of(), new Date()));
 
     var request = new MockHttpServletRequest();
     request.addHeader("Authorization", "Bearer " + token);
@@ -55,9 +60,9 @@ class TokenAuthenticationFilterTest {
   @Test
   void testInvalidToken() throws Exception {
     var token = "invalid.jwt.token";
-    var username = "MSC_USER";
 
-    given(jwtHelper.validateToken(token, username)).willReturn(false);
+    given(jwtHelper.verify(token))
+        .willReturn(new VerifiedToken("OTHER_USER", List.of(), List.of(), new Date()));
 
     var request = new MockHttpServletRequest();
     request.addHeader("Authorization", "Bearer " + token);
@@ -73,4 +78,23 @@ class TokenAuthenticationFilterTest {
         .isNull();
     BDDMockito.then(filterChain).should().doFilter(request, response);
   }
+
+  @Test
+  void testForgedToken() throws Exception {
+    var token = "forged.jwt.token";
+
+    given(jwtHelper.verify(token)).willThrow(new SignatureException("Invalid signature"));
+
+    var request = new MockHttpServletRequest();
+    request.addHeader("Authorization", "Bearer " + token);
+
+    var response = new MockHttpServletResponse();
+    var filterChain = mock(FilterChain.class);
+
+    tokenAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+    then(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+    then(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    BDDMockito.then(filterChain).shouldHaveNoInteractions();
+  }
 }
@@ -0,0 +1,60 @@
+package com.oscarhkli.mahjong.score.simulation;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.oscarhkli.mahjong.score.BonusWinningConditionCalculator;
+import com.oscarhkli.mahjong.score.HandStructureCalculator;
+import com.oscarhkli.mahjong.score.MeldsFactory;
+import com.oscarhkli.mahjong.score.ScoreCalculator;
+import com.oscarhkli.mahjong.score.ShantenCalculator;
+import com.oscarhkli.mahjong.score.WinningConditionCalculator;
+import com.oscarhkli.mahjong.score.WinningHandType;
+import org.junit.jupiter.api.Test;
+
+class SimulatorTest {
+
+  ScoreCalculator scoreCalculator =
+      new ScoreCalculator(
+          new HandStructureCalculator(new MeldsFactory()),
+          new BonusWinningConditionCalculator(),
+          new WinningConditionCalculator());
+  ShantenCalculator shantenCalculator = new ShantenCalculator();
+
+  @Test
+  void simulate() {
+    var report = simulator(2).simulate(1000, 42);
+
+    then(report.hands()).isEqualTo(1000);
+    then(report.wins() + report.exhaustiveDraws()).isEqualTo(report.hands());
+    then(report.wins()).isPositive();
+    then(report.faans().values().stream().mapToLong(Long::longValue).sum())
+        .isEqualTo(report.wins());
+    then(report.faans()).doesNotContainKey(-1);
+    then(report.winningHandTypes())
+        .doesNotContainKey(WinningHandType.TRICK_HAND)
+        .containsKey(WinningHandType.SELF_PICK);
+    then(report.handsPerSecond()).isPositive();
+  }
+
+  @Test
+  void simulateDependsOnlyOnSeed() {
+    var report = simulator(1).simulate(600, 7);
+
+    then(simulator(3).simulate(600, 7))
+        .usingRecursiveComparison()
+        .ignoringFields("elapsed")
+        .isEqualTo(report);
+    then(simulator(1).simulate(600, 8))
+        .usingRecursiveComparison()
+        .ignoringFields("elapsed")
+        .isNotEqualTo(report);
+  }
+
+  private Simulator simulator(int parallelism) {
+    return new Simulator(
+        scoreCalculator,
+        shantenCalculator,
+        new ShantenDiscardPolicy(shantenCalculator),
+        parallelism);
+  }
+}
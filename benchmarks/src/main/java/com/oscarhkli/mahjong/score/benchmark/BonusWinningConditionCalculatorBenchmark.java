@@ -0,0 +1,61 @@
+package com.oscarhkli.mahjong.score.benchmark;
+
+import com.oscarhkli.mahjong.score.BonusWinningConditionCalculator;
+import com.oscarhkli.mahjong.score.HandVector;
+import com.oscarhkli.mahjong.score.MahjongSetType;
+import com.oscarhkli.mahjong.score.Melds;
+import com.oscarhkli.mahjong.score.MeldsFactory;
+import com.oscarhkli.mahjong.score.WinningHand;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BonusWinningConditionCalculatorBenchmark {
+
+  @Param({"COMMON_HAND", "ALL_IN_TRIPLETS", "MIXED_ONE_SUIT_WITH_EXPOSED_MELDS"})
+  HandFamily handFamily;
+
+  BonusWinningConditionCalculator bonusWinningConditionCalculator;
+  Melds windMelds;
+  Melds dragonMelds;
+
+  @Setup
+  public void setUp() {
+    bonusWinningConditionCalculator = new BonusWinningConditionCalculator();
+    var meldsFactory = new MeldsFactory();
+    var handVector = HandVector.of(handFamily.getHandTiles());
+    windMelds =
+        meldsFactory
+            .construct(MahjongSetType.WIND, handVector, handFamily.getExposedMelds())
+            .getFirst();
+    dragonMelds =
+        meldsFactory
+            .construct(MahjongSetType.DRAGON, handVector, handFamily.getExposedMelds())
+            .getFirst();
+  }
+
+  @Benchmark
+  public WinningHand calculateBonusWinningHands() {
+    return bonusWinningConditionCalculator.calculateBonusWinningHands(
+        windMelds,
+        dragonMelds,
+        handFamily.getBonusTiles(),
+        HandFamily.WIND,
+        handFamily.getExposedMelds());
+  }
+}
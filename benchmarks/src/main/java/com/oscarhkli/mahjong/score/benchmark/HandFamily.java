@@ -0,0 +1,67 @@
+package com.oscarhkli.mahjong.score.benchmark;
+
+import com.oscarhkli.mahjong.score.ExposedMelds;
+import com.oscarhkli.mahjong.score.MahjongTileType;
+import com.oscarhkli.mahjong.score.WindType;
+import com.oscarhkli.mahjong.score.WinningConditions;
+import java.util.List;
+import java.util.stream.Stream;
+
+/** Representative hands of the winning hand families exercised by the benchmarks */
+public enum HandFamily {
+  COMMON_HAND(
+      tiles("D1", "D2", "D3", "B2", "B3", "B4", "C1", "C2", "C3", "C4", "C5", "C6", "D5", "D5"),
+      new ExposedMelds(),
+      List.of(MahjongTileType.F2)),
+  ALL_IN_TRIPLETS(
+      tiles("C1", "C1", "C1", "B5", "B5", "B5", "D7", "D7", "D7", "RED", "RED", "RED", "EAST",
+          "EAST"),
+      new ExposedMelds(),
+      List.of()),
+  NINE_GATES(
+      tiles("B1", "B1", "B1", "B2", "B3", "B4", "B5", "B5", "B6", "B7", "B8", "B9", "B9", "B9"),
+      new ExposedMelds(),
+      List.of()),
+  MIXED_ONE_SUIT_WITH_EXPOSED_MELDS(
+      tiles("D9", "D9", "WEST", "WEST", "WEST"),
+      new ExposedMelds(
+          List.of(MahjongTileType.D1, MahjongTileType.D4),
+          List.of(MahjongTileType.D7),
+          List.of()),
+      List.of(MahjongTileType.S3)),
+  TRICK_HAND(
+      tiles("C1", "C4", "C7", "B2", "B5", "B8", "D3", "D6", "D9", "EAST", "SOUTH", "RED", "GREEN",
+          "WHITE"),
+      new ExposedMelds(),
+      List.of());
+
+  public static final WindType WIND = new WindType(MahjongTileType.EAST, MahjongTileType.WEST);
+  public static final WinningConditions WINNING_CONDITIONS = new WinningConditions();
+
+  private final List<MahjongTileType> handTiles;
+  private final ExposedMelds exposedMelds;
+  private final List<MahjongTileType> bonusTiles;
+
+  HandFamily(
+      List<MahjongTileType> handTiles, ExposedMelds exposedMelds, List<MahjongTileType> bonusTiles) {
+    this.handTiles = handTiles;
+    this.exposedMelds = exposedMelds;
+    this.bonusTiles = bonusTiles;
+  }
+
+  public List<MahjongTileType> getHandTiles() {
+    return handTiles;
+  }
+
+  public ExposedMelds getExposedMelds() {
+    return exposedMelds;
+  }
+
+  public List<MahjongTileType> getBonusTiles() {
+    return bonusTiles;
+  }
+
+  private static List<MahjongTileType> tiles(String... tiles) {
+    return Stream.of(tiles).map(MahjongTileType::valueOf).toList();
+  }
+}
@@ -0,0 +1,49 @@
+package com.oscarhkli.mahjong.score.benchmark;
+
+import com.oscarhkli.mahjong.score.HandStructure;
+import com.oscarhkli.mahjong.score.HandStructureCalculator;
+import com.oscarhkli.mahjong.score.MeldsFactory;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Structure phase alone, i.e., meld deduction and the choice of interpretation */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HandStructureCalculatorBenchmark {
+
+  @Param({
+    "COMMON_HAND",
+    "ALL_IN_TRIPLETS",
+    "NINE_GATES",
+    "MIXED_ONE_SUIT_WITH_EXPOSED_MELDS",
+    "TRICK_HAND"
+  })
+  HandFamily handFamily;
+
+  HandStructureCalculator handStructureCalculator;
+
+  @Setup
+  public void setUp() {
+    handStructureCalculator = new HandStructureCalculator(new MeldsFactory());
+  }
+
+  @Benchmark
+  public HandStructure calculate() {
+    return handStructureCalculator.calculate(
+        handFamily.getHandTiles(), handFamily.getExposedMelds());
+  }
+}
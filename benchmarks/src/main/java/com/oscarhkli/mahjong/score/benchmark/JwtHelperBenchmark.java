@@ -0,0 +1,41 @@
+package com.oscarhkli.mahjong.score.benchmark;
+
+import com.oscarhkli.mahjong.score.security.JwtHelper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtHelperBenchmark {
+
+  private static final String SECRET_KEY = "4XEyhMzVuxl2qoa/NgegH8COO2J9qouOdnY2ZcZ77I0=";
+  private static final String SUBJECT = "MSC_USER";
+
+  JwtHelper jwtHelper;
+  String token;
+
+  @Setup
+  public void setUp() {
+    jwtHelper = new JwtHelper(SECRET_KEY, 60, 1440, 10_000);
+    token = jwtHelper.generateToken(SUBJECT, List.of("ROLE_USER"));
+  }
+
+  @Benchmark
+  public boolean validateToken() {
+    return jwtHelper.validateToken(token, SUBJECT);
+  }
+}
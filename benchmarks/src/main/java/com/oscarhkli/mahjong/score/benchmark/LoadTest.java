@@ -0,0 +1,166 @@
+package com.oscarhkli.mahjong.score.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop load test of the scoring API, to compare a running server with
+ * spring.threads.virtual.enabled true and false. Each of the concurrent clients sends the next
+ * request as soon as the previous one returns, and latencies are only recorded after the warm-up.
+ * <br>
+ * Usage: java -cp benchmarks/target/benchmarks.jar
+ * com.oscarhkli.mahjong.score.benchmark.LoadTest baseUrl username password [concurrency]
+ * [seconds] [warmUpSeconds]
+ */
+public class LoadTest {
+
+  private static final String WINNING_HAND =
+      """
+      {"handTiles":["C1","C2","C3","B4","B5","B6","D7","D8","D9","EAST","EAST","EAST","RED",\
+      "RED"],"bonusTiles":["F1"],"wind":{"prevailing":"EAST","seat":"EAST"},\
+      "winningConditions":{"isSelfPick":true}}""";
+
+  public static void main(String[] args) throws Exception {
+    if (args.length < 3) {
+      System.err.println(
+          "Usage: LoadTest baseUrl username password [concurrency] [seconds] [warmUpSeconds]");
+      System.exit(1);
+    }
+    var baseUrl = args[0];
+    var concurrency = args.length > 3 ? Integer.parseInt(args[3]) : 500;
+    var seconds = args.length > 4 ? Integer.parseInt(args[4]) : 30;
+    var warmUpSeconds = args.length > 5 ? Integer.parseInt(args[5]) : 10;
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor();
+        var httpClient =
+            HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build()) {
+      var token = login(httpClient, baseUrl, args[1], args[2]);
+      var request =
+          HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/mahjong/faans"))
+              .header("Content-Type", "application/json")
+              .header("Authorization", "Bearer " + token)
+              .POST(HttpRequest.BodyPublishers.ofString(WINNING_HAND))
+              .build();
+
+      var start = System.nanoTime();
+      var measureFrom = start + Duration.ofSeconds(warmUpSeconds).toNanos();
+      var end = measureFrom + Duration.ofSeconds(seconds).toNanos();
+      var clients = new ArrayList<Future<Client>>(concurrency);
+      for (var i = 0; i < concurrency; i++) {
+        clients.add(
+            executor.submit(() -> new Client(httpClient, request).run(measureFrom, end)));
+      }
+      var latencies = new ArrayList<long[]>(concurrency);
+      var errors = 0L;
+      for (var client : clients) {
+        latencies.add(client.get().latencies());
+        errors += client.get().errors;
+      }
+      report(concurrency, seconds, latencies, errors);
+    }
+  }
+
+  private static String login(
+      HttpClient httpClient, String baseUrl, String username, String password)
+      throws IOException, InterruptedException {
+    var objectMapper = new ObjectMapper();
+    var body =
+        objectMapper.writeValueAsString(
+            objectMapper.createObjectNode().put("username", username).put("password", password));
+    var response =
+        httpClient.send(
+            HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException("Login failed with status " + response.statusCode());
+    }
+    return objectMapper.readTree(response.body()).get("token").asText();
+  }
+
+  private static void report(
+      int concurrency, int seconds, List<long[]> clientLatencies, long errors) {
+    var latencies = clientLatencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+    System.out.printf(
+        "concurrency=%d requests=%d errors=%d throughput=%.1f/s p50=%.2fms p99=%.2fms"
+            + " max=%.2fms%n",
+        concurrency,
+        latencies.length,
+        errors,
+        (double) latencies.length / seconds,
+        percentile(latencies, 0.50),
+        percentile(latencies, 0.99),
+        percentile(latencies, 1.0));
+  }
+
+  /** Percentile in milliseconds by the nearest-rank method */
+  private static double percentile(long[] sortedLatencies, double percentile) {
+    if (sortedLatencies.length == 0) {
+      return Double.NaN;
+    }
+    var rank = (int) Math.ceil(percentile * sortedLatencies.length);
+    return sortedLatencies[Math.max(rank, 1) - 1] / 1_000_000.0;
+  }
+
+  /** One client sending requests back to back, recording the latencies of successful ones */
+  private static class Client {
+
+    private final HttpClient httpClient;
+    private final HttpRequest request;
+    private long[] latencies = new long[1024];
+    private int size;
+    private long errors;
+
+    Client(HttpClient httpClient, HttpRequest request) {
+      this.httpClient = httpClient;
+      this.request = request;
+    }
+
+    Client run(long measureFrom, long end) throws InterruptedException {
+      for (var sentAt = System.nanoTime(); sentAt < end; sentAt = System.nanoTime()) {
+        var successful = send();
+        var latency = System.nanoTime() - sentAt;
+        if (sentAt < measureFrom) {
+          continue;
+        }
+        if (!successful) {
+          errors++;
+          continue;
+        }
+        if (size == latencies.length) {
+          latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = latency;
+      }
+      return this;
+    }
+
+    long[] latencies() {
+      return Arrays.copyOf(latencies, size);
+    }
+
+    private boolean send() throws InterruptedException {
+      try {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()
+            == 200;
+      } catch (IOException e) {
+        return false;
+      }
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.oscarhkli.mahjong.score.benchmark;
+
+import com.oscarhkli.mahjong.score.ExposedMelds;
+import com.oscarhkli.mahjong.score.HandVector;
+import com.oscarhkli.mahjong.score.MahjongSetType;
+import com.oscarhkli.mahjong.score.MahjongTileType;
+import com.oscarhkli.mahjong.score.Melds;
+import com.oscarhkli.mahjong.score.MeldsBuffer;
+import com.oscarhkli.mahjong.score.MeldsFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MeldsFactoryBenchmark {
+
+  /** Every Mahjong Set holds a complete shape, apart from the trailing tiles of the trick hand */
+  private static final List<MahjongTileType> WINNING_TILES =
+      tiles("EAST", "EAST", "EAST", "RED", "RED", "C1", "C2", "C3", "B4", "B4", "B4", "D6", "D7",
+          "D8");
+
+  private static final List<MahjongTileType> TRICK_TILES =
+      tiles("EAST", "SOUTH", "RED", "GREEN", "C1", "C4", "C7", "B2", "B5", "B8", "D3", "D6", "D9",
+          "D9");
+
+  @Param({"WIND", "DRAGON", "CHARACTER", "BAMBOO", "DOT"})
+  MahjongSetType mahjongSetType;
+
+  @Param({"true", "false"})
+  boolean winningHand;
+
+  MeldsFactory meldsFactory;
+  HandVector handVector;
+  int[] tileCounts;
+  ExposedMelds exposedMelds;
+
+  @Setup
+  public void setUp() {
+    meldsFactory = new MeldsFactory();
+    var tiles = winningHand ? WINNING_TILES : TRICK_TILES;
+    handVector = HandVector.of(tiles);
+    tileCounts = new int[42];
+    tiles.forEach(tile -> tileCounts[tile.getIndex()]++);
+    exposedMelds = new ExposedMelds();
+  }
+
+  @Benchmark
+  public List<Melds> constructFromHandVector() {
+    return meldsFactory.construct(mahjongSetType, handVector, exposedMelds);
+  }
+
+  @Benchmark
+  public List<Melds> constructFromTileCounts() {
+    return meldsFactory.construct(mahjongSetType, tileCounts, exposedMelds);
+  }
+
+  /** Run with -prof gc, gc.alloc.rate.norm is expected to be 0 B/op */
+  @Benchmark
+  public MeldsBuffer decompose() {
+    return meldsFactory.decompose(mahjongSetType, handVector, MeldsBuffer.local());
+  }
+
+  private static List<MahjongTileType> tiles(String... tiles) {
+    return Stream.of(tiles).map(MahjongTileType::valueOf).toList();
+  }
+}
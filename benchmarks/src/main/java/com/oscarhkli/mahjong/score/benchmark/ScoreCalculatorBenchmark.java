@@ -0,0 +1,59 @@
+package com.oscarhkli.mahjong.score.benchmark;
+
+import com.oscarhkli.mahjong.score.BonusWinningConditionCalculator;
+import com.oscarhkli.mahjong.score.HandStructureCalculator;
+import com.oscarhkli.mahjong.score.MeldsFactory;
+import com.oscarhkli.mahjong.score.ScoreCalculator;
+import com.oscarhkli.mahjong.score.WinningConditionCalculator;
+import com.oscarhkli.mahjong.score.WinningHand;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScoreCalculatorBenchmark {
+
+  @Param({
+    "COMMON_HAND",
+    "ALL_IN_TRIPLETS",
+    "NINE_GATES",
+    "MIXED_ONE_SUIT_WITH_EXPOSED_MELDS",
+    "TRICK_HAND"
+  })
+  HandFamily handFamily;
+
+  ScoreCalculator scoreCalculator;
+
+  @Setup
+  public void setUp() {
+    scoreCalculator =
+        new ScoreCalculator(
+            new HandStructureCalculator(new MeldsFactory()),
+            new BonusWinningConditionCalculator(),
+            new WinningConditionCalculator());
+  }
+
+  @Benchmark
+  public WinningHand calculate() {
+    return scoreCalculator.calculate(
+        handFamily.getHandTiles(),
+        handFamily.getExposedMelds(),
+        handFamily.getBonusTiles(),
+        HandFamily.WIND,
+        HandFamily.WINNING_CONDITIONS);
+  }
+}
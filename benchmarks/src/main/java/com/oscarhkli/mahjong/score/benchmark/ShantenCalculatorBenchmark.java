@@ -0,0 +1,55 @@
+package com.oscarhkli.mahjong.score.benchmark;
+
+import com.oscarhkli.mahjong.score.HandVector;
+import com.oscarhkli.mahjong.score.ShantenCalculator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Shanten of a hand already in counts, as queried repeatedly by simulations */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShantenCalculatorBenchmark {
+
+  @Param({
+    "COMMON_HAND",
+    "ALL_IN_TRIPLETS",
+    "NINE_GATES",
+    "MIXED_ONE_SUIT_WITH_EXPOSED_MELDS",
+    "TRICK_HAND"
+  })
+  HandFamily handFamily;
+
+  ShantenCalculator shantenCalculator;
+  HandVector handVector;
+  int exposedMeldSize;
+
+  @Setup
+  public void setUp() {
+    shantenCalculator = new ShantenCalculator();
+    handVector = HandVector.of(handFamily.getHandTiles());
+    var exposedMelds = handFamily.getExposedMelds();
+    exposedMeldSize =
+        exposedMelds.getChows().size()
+            + exposedMelds.getPongs().size()
+            + exposedMelds.getKongs().size();
+  }
+
+  @Benchmark
+  public int calculate() {
+    return shantenCalculator.calculate(handVector, exposedMeldSize);
+  }
+}
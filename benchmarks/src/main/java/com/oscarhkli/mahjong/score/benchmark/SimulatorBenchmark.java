@@ -0,0 +1,58 @@
+package com.oscarhkli.mahjong.score.benchmark;
+
+import com.oscarhkli.mahjong.score.BonusWinningConditionCalculator;
+import com.oscarhkli.mahjong.score.HandStructureCalculator;
+import com.oscarhkli.mahjong.score.MeldsFactory;
+import com.oscarhkli.mahjong.score.ScoreCalculator;
+import com.oscarhkli.mahjong.score.ShantenCalculator;
+import com.oscarhkli.mahjong.score.WinningConditionCalculator;
+import com.oscarhkli.mahjong.score.simulation.ShantenDiscardPolicy;
+import com.oscarhkli.mahjong.score.simulation.SimulationReport;
+import com.oscarhkli.mahjong.score.simulation.Simulator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Simulated hands per second on a single worker */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SimulatorBenchmark {
+
+  private static final int HANDS = 1000;
+
+  Simulator simulator;
+  long seed;
+
+  @Setup
+  public void setUp() {
+    var shantenCalculator = new ShantenCalculator();
+    simulator =
+        new Simulator(
+            new ScoreCalculator(
+                new HandStructureCalculator(new MeldsFactory()),
+                new BonusWinningConditionCalculator(),
+                new WinningConditionCalculator()),
+            shantenCalculator,
+            new ShantenDiscardPolicy(shantenCalculator),
+            1);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(HANDS)
+  public SimulationReport simulate() {
+    return simulator.simulate(HANDS, seed++);
+  }
+}
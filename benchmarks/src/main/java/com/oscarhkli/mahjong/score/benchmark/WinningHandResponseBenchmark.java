@@ -0,0 +1,54 @@
+package com.oscarhkli.mahjong.score.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oscarhkli.mahjong.score.WinningHand;
+import com.oscarhkli.mahjong.score.WinningHandType;
+import com.oscarhkli.mahjong.score.api.WinningHandResponse;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WinningHandResponseBenchmark {
+
+  ObjectMapper objectMapper;
+  WinningHand winningHand;
+
+  @Setup
+  public void setUp() {
+    objectMapper = new ObjectMapper();
+    winningHand =
+        new WinningHand(
+            List.of(
+                WinningHandType.COMMON_HAND,
+                WinningHandType.MIXED_ONE_SUIT,
+                WinningHandType.WIN_FROM_WALL,
+                WinningHandType.SEAT_WIND,
+                WinningHandType.FLOWER_OF_OWN_WIND));
+  }
+
+  @Benchmark
+  public WinningHandResponse of() {
+    return WinningHandResponse.of(winningHand);
+  }
+
+  @Benchmark
+  public byte[] serialize() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(WinningHandResponse.of(winningHand));
+  }
+}